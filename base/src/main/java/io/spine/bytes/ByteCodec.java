@@ -0,0 +1,141 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.bytes;
+
+import com.google.common.base.Converter;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.util.Exceptions.illegalArgumentWithCauseOf;
+import static io.spine.util.Exceptions.newIllegalArgumentException;
+
+/**
+ * Serves as converter from {@code T} to its compact binary representation and back.
+ *
+ * <p>This is a binary counterpart of {@link io.spine.string.Stringifier Stringifier}.
+ *
+ * <p>The written values are self-delimiting. That is, a codec reads exactly the bytes
+ * written for a value, so that several values may be {@linkplain #write written}
+ * one after another, for example, when composing a key of a storage record.
+ *
+ * @param <T>
+ *         the type of converted objects
+ * @see ByteCodecs
+ * @see ByteCodecRegistry
+ */
+public abstract class ByteCodec<T> extends Converter<T, byte[]> {
+
+    /**
+     * Returns the number of bytes taken by the binary representation of the value.
+     */
+    public abstract int sizeOf(T value);
+
+    /**
+     * Writes the value to the stream.
+     *
+     * @param value
+     *         the value to write
+     * @param out
+     *         the stream to write to
+     * @throws IOException
+     *         if the stream fails to write the bytes
+     */
+    public abstract void write(T value, CodedOutputStream out) throws IOException;
+
+    /**
+     * Reads a value from the stream.
+     *
+     * @param in
+     *         the stream positioned at the start of the value
+     * @return the read value
+     * @throws IOException
+     *         if the stream fails to read the bytes, or the bytes do not represent a value
+     */
+    public abstract T read(CodedInputStream in) throws IOException;
+
+    /**
+     * Converts the value into bytes.
+     *
+     * <p>The bytes are written using the
+     * {@linkplain CodedOutputStream#useDeterministicSerialization() deterministic serialization},
+     * so that equal values give equal bytes.
+     */
+    public final byte[] toBytes(T value) {
+        checkNotNull(value);
+        var result = new byte[sizeOf(value)];
+        var out = CodedOutputStream.newInstance(result);
+        out.useDeterministicSerialization();
+        try {
+            write(value, out);
+        } catch (IOException e) {
+            throw illegalArgumentWithCauseOf(e);
+        }
+        out.checkNoSpaceLeft();
+        return result;
+    }
+
+    /**
+     * Converts the bytes back into a value.
+     *
+     * @throws IllegalArgumentException
+     *         if the bytes do not represent exactly one value
+     */
+    public final T fromBytes(byte[] bytes) {
+        checkNotNull(bytes);
+        var in = CodedInputStream.newInstance(bytes);
+        try {
+            var result = read(in);
+            if (!in.isAtEnd()) {
+                throw newIllegalArgumentException(
+                        "Unexpected bytes after the value: read %d of %d bytes.",
+                        in.getTotalBytesRead(), bytes.length);
+            }
+            return result;
+        } catch (IOException e) {
+            throw illegalArgumentWithCauseOf(e);
+        }
+    }
+
+    /**
+     * Invokes {@link #toBytes(Object)}.
+     */
+    @Override
+    protected final byte[] doForward(T value) {
+        return toBytes(value);
+    }
+
+    /**
+     * Invokes {@link #fromBytes(byte[])}.
+     */
+    @Override
+    protected final T doBackward(byte[] bytes) {
+        return fromBytes(bytes);
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.bytes;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.reflect.TypeToken;
+import com.google.protobuf.Message;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.bytes.ByteCodecs.forBoolean;
+import static io.spine.bytes.ByteCodecs.forInteger;
+import static io.spine.bytes.ByteCodecs.forLong;
+import static io.spine.bytes.ByteCodecs.forString;
+import static io.spine.bytes.ByteCodecs.newForEnum;
+import static io.spine.bytes.ByteCodecs.newForMessage;
+import static io.spine.protobuf.Messages.isMessageClass;
+import static java.lang.String.format;
+
+/**
+ * The registry of converters of types to their binary representations.
+ *
+ * <p>This is a binary counterpart of {@link io.spine.string.StringifierRegistry
+ * StringifierRegistry}.
+ */
+public final class ByteCodecRegistry {
+
+    private static final ByteCodecRegistry INSTANCE = new ByteCodecRegistry();
+
+    /**
+     * The codecs registered explicitly.
+     */
+    private final Map<Type, ByteCodec<?>> codecs = new ConcurrentHashMap<>();
+
+    /**
+     * The codecs {@linkplain #getFor(Type) created} for the enum and message types,
+     * which do not have the registered codecs.
+     */
+    private final Map<Type, ByteCodec<?>> derived = new ConcurrentHashMap<>();
+
+    /**
+     * Initializes the registry with the default codecs for primitive types and strings.
+     */
+    private ByteCodecRegistry() {
+        register(
+                forBoolean(),
+                forInteger(),
+                forLong(),
+                forString()
+        );
+    }
+
+    /**
+     * Obtains the instance of the singleton registry.
+     */
+    public static ByteCodecRegistry instance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Obtains a codec for the passed type.
+     *
+     * <p>If the passed type represents an enum or a message, and there is no codec
+     * registered for it, the returned instance is {@linkplain ByteCodecs#newForEnum(Class)
+     * created} for the type once and is reused afterwards.
+     *
+     * @throws MissingByteCodecException
+     *         if there is no codec for the type
+     */
+    static <T> ByteCodec<T> getFor(Type typeOfT) {
+        checkNotNull(typeOfT);
+        var registry = instance();
+        @Nullable ByteCodec<?> registered = registry.codecs.get(typeOfT);
+        if (registered != null) {
+            return cast(registered);
+        }
+        var derived = registry.derived.computeIfAbsent(typeOfT, ByteCodecRegistry::derive);
+        return cast(derived);
+    }
+
+    /**
+     * Creates a codec for the passed enum or message type.
+     *
+     * @throws MissingByteCodecException
+     *         if the type is neither an enum, nor a message
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"}) // OK since the type is checked.
+    private static ByteCodec<?> derive(Type typeOfT) {
+        if (typeOfT instanceof Class && ((Class<?>) typeOfT).isEnum()) {
+            return newForEnum((Class<Enum>) typeOfT);
+        }
+        if (isMessageClass(typeOfT)) {
+            return newForMessage((Class<Message>) typeOfT);
+        }
+        var errMsg = format("No byte codec registered for the type: %s", typeOfT);
+        throw new MissingByteCodecException(errMsg);
+    }
+
+    /**
+     * Casts the passed instance.
+     *
+     * <p>The cast is safe as we check the first type when
+     * {@linkplain #register(ByteCodec, Type) adding}.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> ByteCodec<T> cast(ByteCodec<?> codec) {
+        return (ByteCodec<T>) codec;
+    }
+
+    /**
+     * Registers the passed codec in the registry.
+     *
+     * @param codec
+     *         the codec to register
+     * @param typeOfT
+     *         the value of the type of objects handled by the codec
+     * @param <T>
+     *         the type of the objects handled by the codec
+     */
+    public <T> void register(ByteCodec<T> codec, Type typeOfT) {
+        checkNotNull(typeOfT);
+        checkNotNull(codec);
+        codecs.put(typeOfT, codec);
+    }
+
+    /**
+     * Registers the given codec with the registry.
+     */
+    public void register(ByteCodec<?> codec) {
+        checkNotNull(codec);
+        var dataClass = getDataClass(codec.getClass());
+        register(codec, dataClass);
+    }
+
+    /**
+     * Registers the given codecs with the registry.
+     */
+    public void register(ByteCodec<?> first, ByteCodec<?>... more) {
+        checkNotNull(first);
+        checkNotNull(more);
+        var list = ImmutableList.<ByteCodec<?>>builder()
+                .add(first)
+                .addAll(Arrays.asList(more))
+                .build();
+        list.forEach(this::register);
+    }
+
+    /**
+     * Obtains a {@code ByteCodec} registered for the passed type.
+     *
+     * @param typeOfT
+     *         the type to convert
+     * @param <T>
+     *         the type of the values to convert
+     * @return the found {@code ByteCodec} or empty {@code Optional}
+     */
+    public <T> Optional<ByteCodec<T>> find(Type typeOfT) {
+        checkNotNull(typeOfT);
+        @Nullable ByteCodec<?> codec = codecs.get(typeOfT);
+        @Nullable ByteCodec<T> result = codec != null ? cast(codec) : null;
+        return Optional.ofNullable(result);
+    }
+
+    /**
+     * Obtains the class handled by the passed class of codecs.
+     */
+    @SuppressWarnings("rawtypes")   /* Avoiding the generic hell. */
+    private static Class<?> getDataClass(Class<? extends ByteCodec> codecClass) {
+        var supertypeToken = TypeToken.of(codecClass)
+                                      .getSupertype(ByteCodec.class);
+        var genericSupertype = (ParameterizedType) supertypeToken.getType();
+        var typeArguments = genericSupertype.getActualTypeArguments();
+        var typeArgument = typeArguments[0];
+        return (Class<?>) typeArgument;
+    }
+}
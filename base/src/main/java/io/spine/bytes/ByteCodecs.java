@@ -0,0 +1,182 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.bytes;
+
+import com.google.protobuf.Message;
+
+import java.lang.reflect.Type;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Utilities for working with {@link ByteCodec}s.
+ *
+ * <p>This is a binary counterpart of {@link io.spine.string.Stringifiers Stringifiers}.
+ */
+public final class ByteCodecs {
+
+    /**
+     * Prevents the utility class instantiation.
+     */
+    private ByteCodecs() {
+    }
+
+    /**
+     * Converts the passed value to its binary representation.
+     *
+     * <p>Use this method for converting non-generic objects. For generic objects,
+     * please use {@link #toBytes(Object, Type)}.
+     *
+     * @param value
+     *         the value to convert
+     * @return the bytes of the value
+     * @throws MissingByteCodecException
+     *         if there is no codec for the type of the value
+     */
+    public static byte[] toBytes(Object value) {
+        checkNotNull(value);
+        return toBytes(value, value.getClass());
+    }
+
+    /**
+     * Converts the passed value of the given type to its binary representation.
+     *
+     * @param value
+     *         the value to convert
+     * @param typeOfT
+     *         the type of the value
+     * @param <T>
+     *         the type of the value
+     * @return the bytes of the value
+     * @throws MissingByteCodecException
+     *         if there is no codec for the type
+     */
+    public static <T> byte[] toBytes(T value, Type typeOfT) {
+        checkNotNull(value);
+        ByteCodec<T> codec = ByteCodecRegistry.getFor(typeOfT);
+        return codec.toBytes(value);
+    }
+
+    /**
+     * Converts the bytes to a value of the specified type.
+     *
+     * @param bytes
+     *         the bytes to convert
+     * @param typeOfT
+     *         the type of the value
+     * @param <T>
+     *         the type of the value
+     * @return the value read from the bytes
+     * @throws MissingByteCodecException
+     *         if there is no codec for the type
+     * @throws IllegalArgumentException
+     *         if the bytes do not represent a value of the type
+     */
+    public static <T> T fromBytes(byte[] bytes, Class<T> typeOfT) {
+        checkNotNull(bytes);
+        ByteCodec<T> codec = ByteCodecRegistry.getFor(typeOfT);
+        return codec.fromBytes(bytes);
+    }
+
+    /**
+     * Obtains the codec for the passed type.
+     *
+     * @throws MissingByteCodecException
+     *         if there is no codec for the type
+     * @see ByteCodecRegistry
+     */
+    public static <T> ByteCodec<T> forType(Class<T> typeOfT) {
+        return ByteCodecRegistry.getFor(typeOfT);
+    }
+
+    /**
+     * Obtains the codec for {@code Boolean} values.
+     */
+    public static ByteCodec<Boolean> forBoolean() {
+        return BooleanCodec.getInstance();
+    }
+
+    /**
+     * Obtains the codec for {@code Integer} values.
+     *
+     * <p>The values are written as ZigZag-encoded varints.
+     */
+    public static ByteCodec<Integer> forInteger() {
+        return IntegerCodec.getInstance();
+    }
+
+    /**
+     * Obtains the codec for {@code Long} values.
+     *
+     * <p>The values are written as ZigZag-encoded varints.
+     */
+    public static ByteCodec<Long> forLong() {
+        return LongCodec.getInstance();
+    }
+
+    /**
+     * Obtains the codec for {@code String} values.
+     *
+     * <p>The values are written as UTF-8 bytes prefixed with their length.
+     */
+    public static ByteCodec<String> forString() {
+        return StringCodec.getInstance();
+    }
+
+    /**
+     * Creates a codec for the passed enum class.
+     *
+     * <p>The constants of Protobuf enums are written as their numbers.
+     * The constants of other enums are written as their names.
+     *
+     * @param enumClass
+     *         the class of the enum
+     * @param <E>
+     *         the type of the enum
+     * @return new codec for the enum
+     */
+    public static <E extends Enum<E>> ByteCodec<E> newForEnum(Class<E> enumClass) {
+        checkNotNull(enumClass);
+        return new EnumCodec<>(enumClass);
+    }
+
+    /**
+     * Creates a codec for the passed message class.
+     *
+     * <p>The messages are written as their Protobuf wire bytes prefixed with their length.
+     *
+     * @param messageClass
+     *         the class of the message
+     * @param <T>
+     *         the type of the message
+     * @return new codec for the message
+     */
+    public static <T extends Message> ByteCodec<T> newForMessage(Class<T> messageClass) {
+        checkNotNull(messageClass);
+        return new MessageCodec<>(messageClass);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.bytes;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.ProtocolMessageEnum;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+
+import static java.lang.String.format;
+
+/**
+ * Writes enum constants.
+ *
+ * <p>The constants of Protobuf enums are written as their numbers, which stay the same
+ * when the enum is changed in a compatible way. The constants of other enums are
+ * written as their names.
+ *
+ * @param <E>
+ *         the type of the enum
+ */
+final class EnumCodec<E extends Enum<E>> extends ByteCodec<E> {
+
+    private final Class<E> enumClass;
+
+    /**
+     * The constants of a Protobuf enum by their numbers, or {@code null} for other enums.
+     */
+    private final @Nullable ImmutableMap<Integer, E> byNumber;
+
+    EnumCodec(Class<E> enumClass) {
+        super();
+        this.enumClass = enumClass;
+        this.byNumber = ProtocolMessageEnum.class.isAssignableFrom(enumClass)
+                        ? indexByNumber(enumClass)
+                        : null;
+    }
+
+    private static <E extends Enum<E>> ImmutableMap<Integer, E> indexByNumber(Class<E> cls) {
+        var result = ImmutableMap.<Integer, E>builder();
+        for (var constant : cls.getEnumConstants()) {
+            // Skips `UNRECOGNIZED`, which has no number.
+            if (!"UNRECOGNIZED".equals(constant.name())) {
+                result.put(((ProtocolMessageEnum) constant).getNumber(), constant);
+            }
+        }
+        return result.buildOrThrow();
+    }
+
+    @Override
+    public int sizeOf(E value) {
+        return byNumber != null
+               ? CodedOutputStream.computeSInt32SizeNoTag(number(value))
+               : CodedOutputStream.computeStringSizeNoTag(value.name());
+    }
+
+    @Override
+    public void write(E value, CodedOutputStream out) throws IOException {
+        if (byNumber != null) {
+            out.writeSInt32NoTag(number(value));
+        } else {
+            out.writeStringNoTag(value.name());
+        }
+    }
+
+    private static int number(Enum<?> value) {
+        return ((ProtocolMessageEnum) value).getNumber();
+    }
+
+    @Override
+    public E read(CodedInputStream in) throws IOException {
+        if (byNumber != null) {
+            var number = in.readSInt32();
+            var result = byNumber.get(number);
+            if (result == null) {
+                throw new InvalidProtocolBufferException(format(
+                        "No constant with the number %d in the enum `%s`.",
+                        number, enumClass.getName()));
+            }
+            return result;
+        }
+        var name = in.readStringRequireUtf8();
+        try {
+            return Enum.valueOf(enumClass, name);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidProtocolBufferException(format(
+                    "No constant named `%s` in the enum `%s`.", name, enumClass.getName()));
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.bytes;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.Message;
+import com.google.protobuf.Parser;
+
+import java.io.IOException;
+
+import static io.spine.protobuf.Messages.getDefaultInstance;
+
+/**
+ * Writes messages as their Protobuf wire bytes prefixed with their length.
+ *
+ * <p>The messages are written using the
+ * {@linkplain CodedOutputStream#useDeterministicSerialization() deterministic serialization},
+ * so that the entries of map fields are written in the order of their keys. This way,
+ * equal messages give the same bytes regardless of the order in which the entries were added.
+ *
+ * @param <T>
+ *         the type of the messages
+ */
+final class MessageCodec<T extends Message> extends ByteCodec<T> {
+
+    private final Parser<T> parser;
+
+    @SuppressWarnings("unchecked") // The parser of the default instance of `T` parses `T`.
+    MessageCodec(Class<T> messageClass) {
+        super();
+        this.parser = (Parser<T>) getDefaultInstance(messageClass).getParserForType();
+    }
+
+    @Override
+    public int sizeOf(T value) {
+        return CodedOutputStream.computeMessageSizeNoTag(value);
+    }
+
+    @Override
+    public void write(T value, CodedOutputStream out) throws IOException {
+        out.useDeterministicSerialization();
+        out.writeMessageNoTag(value);
+    }
+
+    @Override
+    public T read(CodedInputStream in) throws IOException {
+        return in.readMessage(parser, ExtensionRegistryLite.getEmptyRegistry());
+    }
+}
@@ -0,0 +1,313 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.code.proto;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.Hashing;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.Descriptors.FileDescriptor;
+import io.spine.logging.Logger;
+import io.spine.logging.LoggingFactory;
+import org.jspecify.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.util.Exceptions.newIllegalStateException;
+import static java.lang.String.format;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Caches the files parsed from the descriptor set files.
+ *
+ * <p>The files are cached in the memory of the process per the path of a descriptor set
+ * file, its size, and the time of its last modification. Therefore, a descriptor set file
+ * is parsed again only if it changes. The cached files are softly reachable and may be
+ * collected if the memory is low.
+ *
+ * <p>Also, the results of {@linkplain Linker linking} the files may be cached on disk.
+ * The on-disk cache is disabled by default. To enable it, please specify the directory
+ * for the cache via the {@value #DIRECTORY_PROPERTY} system property, or
+ * via {@link #enableOnDisk(Path)}.
+ *
+ * <p>The on-disk cache stores the {@linkplain LinkPlan order of linking} of the files, keyed by
+ * the SHA-256 hash of the descriptor set bytes. Linking the files of a descriptor set by
+ * the stored order does not require searching for the files with resolved dependencies.
+ * The cache directory may be shared by many processes.
+ *
+ * @see FileSet#parse(File)
+ * @see FileDescriptors#parse(File)
+ */
+@SuppressWarnings("AccessOfSystemProperties" /* is necessary for this class to function */)
+public final class DescriptorSetCache {
+
+    /**
+     * The name of the system property with the path to the directory of the on-disk cache.
+     */
+    public static final String DIRECTORY_PROPERTY = "io.spine.descriptor.cache.dir";
+
+    private static final Logger logger = LoggingFactory.forEnclosingClass();
+
+    /**
+     * The extension of the files storing the {@linkplain LinkPlan link plans}.
+     */
+    private static final String PLAN_EXTENSION = ".link";
+
+    private static final Cache<Key, ImmutableList<FileDescriptorProto>> parsed =
+            CacheBuilder.newBuilder()
+                        .softValues()
+                        .build();
+
+    private static final Cache<Key, ImmutableMap<FileName, FileDescriptor>> linked =
+            CacheBuilder.newBuilder()
+                        .softValues()
+                        .build();
+
+    private static volatile @Nullable Path directory = directoryFromProperty();
+
+    /** Prevents instantiation of this utility class. */
+    private DescriptorSetCache() {
+    }
+
+    private static @Nullable Path directoryFromProperty() {
+        var value = System.getProperty(DIRECTORY_PROPERTY);
+        return value == null || value.isBlank()
+               ? null
+               : Paths.get(value);
+    }
+
+    /**
+     * Enables caching of the linked files in the given directory.
+     *
+     * <p>The directory is created if it does not exist.
+     */
+    public static void enableOnDisk(Path directory) {
+        checkNotNull(directory);
+        DescriptorSetCache.directory = directory;
+    }
+
+    /**
+     * Disables the on-disk cache.
+     *
+     * <p>The files already stored in the cache directory are kept.
+     */
+    public static void disableOnDisk() {
+        directory = null;
+    }
+
+    /**
+     * Obtains the directory of the on-disk cache, if the cache is enabled.
+     */
+    public static Optional<Path> onDiskDirectory() {
+        return Optional.ofNullable(directory);
+    }
+
+    /**
+     * Clears the in-process cache.
+     */
+    public static void clear() {
+        parsed.invalidateAll();
+        linked.invalidateAll();
+    }
+
+    /**
+     * Obtains the files of the given descriptor set file.
+     */
+    static ImmutableList<FileDescriptorProto> parse(File descriptorSet) {
+        var key = Key.of(descriptorSet);
+        return parsed.asMap()
+                     .computeIfAbsent(key, k -> parse(read(descriptorSet)));
+    }
+
+    /**
+     * Obtains the linked files of the given descriptor set file.
+     *
+     * @return the descriptors by the names of the files
+     */
+    static ImmutableMap<FileName, FileDescriptor> link(File descriptorSet) {
+        var key = Key.of(descriptorSet);
+        return linked.asMap()
+                     .computeIfAbsent(key, k -> doLink(descriptorSet, k));
+    }
+
+    private static ImmutableMap<FileName, FileDescriptor> doLink(File descriptorSet, Key key) {
+        var bytes = read(descriptorSet);
+        var files = parse(bytes);
+        parsed.put(key, files);
+        var cacheDirectory = directory;
+        if (cacheDirectory == null) {
+            return toMap(Linker.link(files));
+        }
+        var hash = Hashing.sha256()
+                          .hashBytes(bytes)
+                          .toString();
+        var planFile = cacheDirectory.resolve(hash + PLAN_EXTENSION);
+        var plan = readPlan(planFile, files.size());
+        if (plan.isPresent()) {
+            logger.atDebug().log(() -> format(
+                    "Linking `%s` by the cached plan `%s`.", descriptorSet, planFile));
+            return plan.get()
+                       .link(files);
+        }
+        var fileSet = Linker.link(files);
+        writePlan(planFile, LinkPlan.of(files, fileSet.files()));
+        return toMap(fileSet);
+    }
+
+    /**
+     * Reads the content of the descriptor set file.
+     *
+     * <p>The file is read into the heap rather than mapped into memory. A mapping outlives
+     * the parsing until it is garbage-collected. On some platforms, such as Windows,
+     * the mapped file cannot be overwritten or deleted in the meantime.
+     *
+     * @see FileDescriptorSetReader#map(java.nio.file.Path)
+     */
+    private static byte[] read(File descriptorSet) {
+        try {
+            return Files.readAllBytes(descriptorSet.toPath());
+        } catch (IOException e) {
+            throw newIllegalStateException(
+                    e, "Cannot get proto file descriptors. Path: `%s`.", descriptorSet
+            );
+        }
+    }
+
+    private static ImmutableList<FileDescriptorProto> parse(byte[] descriptorSet) {
+        var fileSet = FileDescriptorSetReader.parse(descriptorSet);
+        return ImmutableList.copyOf(fileSet.getFileList());
+    }
+
+    private static ImmutableMap<FileName, FileDescriptor> toMap(FileSet fileSet) {
+        var files = fileSet.files();
+        var result = ImmutableMap.<FileName, FileDescriptor>builderWithExpectedSize(files.size());
+        for (var file : files) {
+            result.put(FileName.from(file), file);
+        }
+        return result.buildOrThrow();
+    }
+
+    private static Optional<LinkPlan> readPlan(Path planFile, int fileCount) {
+        if (!Files.exists(planFile)) {
+            return Optional.empty();
+        }
+        try (var input = Files.newInputStream(planFile)) {
+            return LinkPlan.readFrom(input, fileCount);
+        } catch (IOException e) {
+            logger.atWarning()
+                  .withCause(e)
+                  .log(() -> format(
+                    "Unable to read the cached link plan `%s`.", planFile));
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes the plan to a temporary file and then moves it to the given location.
+     *
+     * <p>This way, other processes sharing the cache never read a partially written plan.
+     */
+    private static void writePlan(Path planFile, LinkPlan plan) {
+        var temp = planFile.resolveSibling(planFile.getFileName() + "." + UUID.randomUUID());
+        try {
+            Files.createDirectories(planFile.getParent());
+            try (var output = Files.newOutputStream(temp)) {
+                plan.writeTo(output);
+            }
+            try {
+                Files.move(temp, planFile, ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, planFile, REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            logger.atWarning()
+                  .withCause(e)
+                  .log(() -> format(
+                    "Unable to cache the link plan in `%s`.", planFile));
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException ignored) {
+                // The temporary file is left behind.
+            }
+        }
+    }
+
+    /**
+     * Identifies a version of a descriptor set file.
+     */
+    private static final class Key {
+
+        private final String path;
+        private final long size;
+        private final long lastModified;
+
+        private Key(String path, long size, long lastModified) {
+            this.path = path;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        private static Key of(File file) {
+            var path = file.getAbsoluteFile()
+                           .toPath()
+                           .normalize()
+                           .toString();
+            return new Key(path, file.length(), file.lastModified());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            var other = (Key) o;
+            return size == other.size
+                    && lastModified == other.lastModified
+                    && path.equals(other.path);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, size, lastModified);
+        }
+    }
+}
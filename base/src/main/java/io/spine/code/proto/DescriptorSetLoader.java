@@ -0,0 +1,221 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.code.proto;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorSet;
+import com.google.protobuf.ExtensionRegistry;
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.spine.io.Resource;
+import io.spine.logging.Logger;
+import io.spine.logging.LoggingFactory;
+import io.spine.type.ExtensionRegistryHolder;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.collect.ImmutableSet.toImmutableSet;
+import static com.google.protobuf.WireFormat.WIRETYPE_LENGTH_DELIMITED;
+import static io.spine.util.Exceptions.illegalArgumentWithCauseOf;
+import static io.spine.util.Exceptions.newIllegalStateException;
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Loads the file descriptors from many descriptor set resources, skipping duplicate files.
+ *
+ * <p>The same files, such as the ones of the {@code google/protobuf} package, are often
+ * present in the descriptor sets of many modules. To avoid parsing them repeatedly,
+ * the loader works in two phases:
+ * <ol>
+ *     <li>The resources are read concurrently. The descriptor set in each resource is split
+ *         into the bytes of its files, without parsing them. For each file, only the {@code name}
+ *         field is read.
+ *     <li>The first file with each name, in the order of the resources, is parsed.
+ *         The files are parsed concurrently.
+ * </ol>
+ *
+ * <p>The time spent on reading each resource is logged at the debug level.
+ */
+final class DescriptorSetLoader {
+
+    private static final Logger logger = LoggingFactory.forEnclosingClass();
+
+    private static final int FILE_TAG =
+            tag(FileDescriptorSet.FILE_FIELD_NUMBER);
+
+    private static final int NAME_TAG =
+            tag(FileDescriptorProto.NAME_FIELD_NUMBER);
+
+    /** Prevents instantiation of this utility class. */
+    private DescriptorSetLoader() {
+    }
+
+    private static int tag(int lengthDelimitedField) {
+        return (lengthDelimitedField << 3) | WIRETYPE_LENGTH_DELIMITED;
+    }
+
+    /**
+     * Loads the files of the descriptor sets from the given resources.
+     *
+     * <p>The resources which do not exist are skipped.
+     *
+     * @param resources
+     *         the descriptor set resources
+     * @param report
+     *         the report to add the loading time to, or {@code null} if not collected
+     * @return the descriptors of the files with distinct names
+     */
+    static ImmutableSet<FileDescriptorProto>
+    load(List<Resource> resources, @Nullable LoadReport report) {
+        var timer = LoadReport.time(report, LoadReport.PARSING);
+        var start = System.nanoTime();
+        var sets = resources.parallelStream()
+                .map(resource -> read(resource, report))
+                .collect(toImmutableList());
+        Map<String, ByteString> distinct = new LinkedHashMap<>();
+        var total = 0;
+        for (var set : sets) {
+            for (var file : set) {
+                distinct.putIfAbsent(file.name, file.bytes);
+            }
+            total += set.size();
+        }
+        var registry = ExtensionRegistryHolder.INSTANCE.getExtensionRegistry();
+        var result = distinct.values()
+                .parallelStream()
+                .map(bytes -> parseFile(bytes, registry))
+                .collect(toImmutableSet());
+        var elapsed = System.nanoTime() - start;
+        var totalFiles = total;
+        logger.atDebug().log(() -> format(
+                "Loaded %d distinct files out of %d from %d descriptor sets in %d ms.",
+                result.size(), totalFiles, resources.size(), NANOSECONDS.toMillis(elapsed)));
+        timer.stop(result.size());
+        return result;
+    }
+
+    /**
+     * Reads the descriptor set from the given resource, splitting it into files.
+     */
+    private static ImmutableList<RawFile> read(Resource resource, @Nullable LoadReport report) {
+        if (!resource.exists()) {
+            return ImmutableList.of();
+        }
+        var start = System.nanoTime();
+        var url = resource.locate();
+        try (var stream = url.openStream()) {
+            var bytes = stream.readAllBytes();
+            var files = split(bytes);
+            var elapsed = System.nanoTime() - start;
+            logger.atDebug().log(() -> format(
+                    "Read %d files (%d bytes) from `%s` in %d ms.",
+                    files.size(), bytes.length, url, NANOSECONDS.toMillis(elapsed)));
+            LoadReport.recordResource(report, url.toString(), bytes.length, files.size(), elapsed);
+            return files;
+        } catch (IOException e) {
+            throw newIllegalStateException(
+                    e,
+                    "Unable to load file descriptor set from `%s`.",
+                    resource
+            );
+        }
+    }
+
+    /**
+     * Splits the serialized {@link FileDescriptorSet} into the serialized files.
+     *
+     * <p>The bytes of the files are not copied, but refer to the passed array.
+     */
+    private static ImmutableList<RawFile> split(byte[] descriptorSet) throws IOException {
+        var input = CodedInputStream.newInstance(descriptorSet);
+        input.enableAliasing(true);
+        var files = ImmutableList.<RawFile>builder();
+        var tag = input.readTag();
+        while (tag != 0) {
+            if (tag == FILE_TAG) {
+                var bytes = input.readBytes();
+                files.add(new RawFile(nameOf(bytes), bytes));
+            } else {
+                input.skipField(tag);
+            }
+            tag = input.readTag();
+        }
+        return files.build();
+    }
+
+    /**
+     * Reads the {@code name} field of the serialized {@link FileDescriptorProto}.
+     *
+     * <p>The {@code name} is the first field of a file written by the Protobuf compiler.
+     * Therefore, usually, no other fields are read.
+     *
+     * @return the name of the file, or an empty string if the name is not set
+     */
+    private static String nameOf(ByteString file) throws IOException {
+        var input = file.newCodedInput();
+        var tag = input.readTag();
+        while (tag != 0) {
+            if (tag == NAME_TAG) {
+                return input.readString();
+            }
+            input.skipField(tag);
+            tag = input.readTag();
+        }
+        return "";
+    }
+
+    private static FileDescriptorProto parseFile(ByteString bytes, ExtensionRegistry registry) {
+        try {
+            return FileDescriptorProto.parseFrom(bytes, registry);
+        } catch (InvalidProtocolBufferException e) {
+            throw illegalArgumentWithCauseOf(e);
+        }
+    }
+
+    /**
+     * A serialized file descriptor along with its name.
+     */
+    private static final class RawFile {
+
+        private final String name;
+        private final ByteString bytes;
+
+        private RawFile(String name, ByteString bytes) {
+            this.name = name;
+            this.bytes = bytes;
+        }
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.code.proto;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.Descriptors.DescriptorValidationException;
+import com.google.protobuf.Descriptors.FileDescriptor;
+import io.spine.annotation.Internal;
+import io.spine.logging.Logger;
+import io.spine.logging.LoggingFactory;
+import io.spine.type.TypeName;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.protobuf.Descriptors.FileDescriptor.buildFrom;
+import static io.spine.util.Exceptions.newIllegalStateException;
+import static java.lang.String.format;
+
+/**
+ * The files of the descriptor sets, linked only as far as they are needed.
+ *
+ * <p>Initially, only the slice of the files reachable from the given roots is
+ * {@linkplain #link(Set, LoadReport) linked}. A root is either a name of a Protobuf package,
+ * which includes its subpackages, or a full name of a type. The slice contains the files
+ * matching the roots along with all their dependencies, direct and transitive.
+ *
+ * <p>The files outside the slice are linked on demand,
+ * {@linkplain #linkDeclaring(TypeName) by the name} of a type declared in them.
+ *
+ * <p>The instances of this type are thread-safe.
+ */
+@Internal
+public final class DescriptorSlice {
+
+    private static final Logger logger = LoggingFactory.forEnclosingClass();
+
+    private static final FileDescriptor[] NO_DEPENDENCIES = {};
+
+    /**
+     * All the files by their names.
+     */
+    private final ImmutableMap<String, FileDescriptorProto> files;
+
+    /**
+     * The names of the files by the full names of the top-level types declared in them.
+     */
+    private final ImmutableMap<String, String> fileByType;
+
+    /**
+     * The files linked so far by their names.
+     */
+    private final Map<String, FileDescriptor> linked = new HashMap<>();
+
+    private DescriptorSlice(ImmutableMap<String, FileDescriptorProto> files) {
+        this.files = files;
+        var types = ImmutableMap.<String, String>builder();
+        for (var file : files.values()) {
+            topLevelTypes(file).forEach(type -> types.put(type, file.getName()));
+        }
+        this.fileByType = types.buildKeepingLast();
+    }
+
+    /**
+     * Loads the files of the descriptor sets found in the classpath, without linking them.
+     *
+     * @param report
+     *         the report to add the time of loading to
+     */
+    public static DescriptorSlice load(LoadReport report) {
+        checkNotNull(report);
+        return of(FileDescriptors.load(report));
+    }
+
+    /**
+     * Creates a slice of the given files, without linking them.
+     */
+    static DescriptorSlice of(Collection<FileDescriptorProto> files) {
+        Map<String, FileDescriptorProto> byName = new LinkedHashMap<>();
+        for (var file : files) {
+            byName.putIfAbsent(file.getName(), file);
+        }
+        return new DescriptorSlice(ImmutableMap.copyOf(byName));
+    }
+
+    /**
+     * Links the files matching the given roots and their dependencies.
+     *
+     * @param roots
+     *         the names of the packages and the types to link
+     * @param report
+     *         the report to add the time of linking to
+     * @return the linked files
+     */
+    public synchronized FileSet link(Set<String> roots, LoadReport report) {
+        checkNotNull(roots);
+        checkNotNull(report);
+        var closure = closureOf(roots);
+        logger.atDebug().log(() -> format(
+                "Linking %d out of %d files reachable from the roots `%s`.",
+                closure.size(), files.size(), roots));
+        var result = Linker.link(closure, report);
+        for (var file : result.files()) {
+            linked.put(file.getName(), file);
+        }
+        return result;
+    }
+
+    /**
+     * Obtains the linked file declaring the given type, linking the file along with
+     * its dependencies, if the file is not linked yet.
+     *
+     * <p>If the file is already linked, the result contains only the file itself.
+     * Otherwise, the result also contains the dependencies of the file, which were not
+     * linked before.
+     *
+     * @return the file declaring the type along with its newly linked dependencies,
+     *         or an empty set if the type is not declared in the files of this slice
+     */
+    public synchronized FileSet linkDeclaring(TypeName type) {
+        checkNotNull(type);
+        var result = FileSet.newInstance();
+        var fileName = fileDeclaring(type.value());
+        if (fileName == null) {
+            return result;
+        }
+        var linkedFile = linked.get(fileName);
+        if (linkedFile != null) {
+            result.add(linkedFile);
+            return result;
+        }
+        logger.atDebug().log(() -> format(
+                "Linking the file `%s` on demand for the type `%s`.", fileName, type));
+        try {
+            build(fileName, result);
+        } catch (DescriptorValidationException e) {
+            throw newIllegalStateException(e, "Unable to link the file `%s`.", fileName);
+        }
+        return result;
+    }
+
+    /**
+     * Obtains the files matching the roots along with their dependencies.
+     */
+    private List<FileDescriptorProto> closureOf(Set<String> roots) {
+        var queue = new ArrayDeque<FileDescriptorProto>();
+        files.values()
+             .stream()
+             .filter(file -> matches(file, roots))
+             .forEach(queue::add);
+        Map<String, FileDescriptorProto> result = new LinkedHashMap<>();
+        while (!queue.isEmpty()) {
+            var file = queue.poll();
+            if (result.putIfAbsent(file.getName(), file) != null) {
+                continue;
+            }
+            for (var dependency : file.getDependencyList()) {
+                var dependencyFile = files.get(dependency);
+                if (dependencyFile != null && !result.containsKey(dependency)) {
+                    queue.add(dependencyFile);
+                }
+            }
+        }
+        return new ArrayList<>(result.values());
+    }
+
+    private static boolean matches(FileDescriptorProto file, Set<String> roots) {
+        var packageName = file.getPackage();
+        for (var root : roots) {
+            if (packageName.equals(root) || packageName.startsWith(root + '.')) {
+                return true;
+            }
+        }
+        return topLevelTypes(file).anyMatch(
+                type -> roots.stream()
+                             .anyMatch(root -> root.equals(type) || root.startsWith(type + '.'))
+        );
+    }
+
+    /**
+     * Obtains the full names of the top-level messages, enums, and services of the file.
+     */
+    private static Stream<String> topLevelTypes(FileDescriptorProto file) {
+        var prefix = file.getPackage().isEmpty() ? "" : file.getPackage() + '.';
+        return Stream.of(
+                file.getMessageTypeList().stream().map(type -> prefix + type.getName()),
+                file.getEnumTypeList().stream().map(type -> prefix + type.getName()),
+                file.getServiceList().stream().map(type -> prefix + type.getName())
+        ).flatMap(names -> names);
+    }
+
+    /**
+     * Finds the file declaring the type with the given name.
+     *
+     * <p>For a nested type, finds the file declaring the top-level type enclosing it.
+     */
+    private @Nullable String fileDeclaring(String typeName) {
+        var name = typeName;
+        while (true) {
+            var file = fileByType.get(name);
+            if (file != null) {
+                return file;
+            }
+            var lastDot = name.lastIndexOf('.');
+            if (lastDot < 0) {
+                return null;
+            }
+            name = name.substring(0, lastDot);
+        }
+    }
+
+    /**
+     * Builds the file with the given name after its dependencies which are not linked yet.
+     */
+    private FileDescriptor build(String fileName, FileSet result)
+            throws DescriptorValidationException {
+        var linkedFile = linked.get(fileName);
+        if (linkedFile != null) {
+            return linkedFile;
+        }
+        var proto = files.get(fileName);
+        List<FileDescriptor> dependencies = new ArrayList<>(proto.getDependencyCount());
+        for (var dependency : proto.getDependencyList()) {
+            if (files.containsKey(dependency)) {
+                dependencies.add(build(dependency, result));
+            }
+        }
+        var file = buildFrom(proto, dependencies.toArray(NO_DEPENDENCIES), true);
+        linked.put(fileName, file);
+        result.add(file);
+        return file;
+    }
+}
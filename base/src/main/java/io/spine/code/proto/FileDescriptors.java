@@ -28,25 +28,18 @@ package io.spine.code.proto;
 import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
 import com.google.protobuf.DescriptorProtos.FileDescriptorSet;
 import com.google.protobuf.Descriptors.FileDescriptor;
-import io.spine.io.Resource;
 import io.spine.logging.Logger;
 import io.spine.logging.LoggingFactory;
+import org.jspecify.annotations.Nullable;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.IOException;
-import java.net.URL;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 
-import static com.google.common.base.Preconditions.checkNotNull;
 import static io.spine.io.IoPreconditions.checkExists;
-import static io.spine.util.Exceptions.newIllegalStateException;
-import static io.spine.util.Predicates2.distinctBy;
 import static java.lang.String.format;
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.Collectors.toSet;
 
 /**
  * A utility class which allows to obtain Protobuf file descriptors.
@@ -76,6 +69,9 @@ public final class FileDescriptors {
     /**
      * Returns descriptors of all {@code .proto} files described in the descriptor set file.
      *
+     * <p>The parsed files are {@linkplain DescriptorSetCache cached} until the descriptor
+     * set file changes.
+     *
      * @param descriptorSetFile
      *         the path to the file generated by the Protobuf compiler which
      *         contains descriptors of the project {@code .proto} files
@@ -103,17 +99,10 @@ public final class FileDescriptors {
                 "Looking up for the proto files matching predicate `%s` under `%s`.",
                 filter, descriptorSet));
 
-        List<FileDescriptorProto> files;
-        try (var fis = new FileInputStream(descriptorSet)) {
-            var fileSet = FileDescriptorSetReader.parse(fis);
-            files = fileSet.getFileList().stream()
-                    .filter(filter)
-                    .collect(toList());
-        } catch (IOException e) {
-            throw newIllegalStateException(
-                    e, "Cannot get proto file descriptors. Path: `%s`.", descriptorSet
-            );
-        }
+        var files = DescriptorSetCache.parse(descriptorSet)
+                .stream()
+                .filter(filter)
+                .collect(toList());
         logger.atDebug().log(() -> format("Found %d files.", files.size()));
         return files;
     }
@@ -121,40 +110,29 @@ public final class FileDescriptors {
     /**
      * Loads the descriptor files from the classpath.
      *
-     * @return the set of {@linkplain FileDescriptorProto file descriptors}
-     *         contained in the loaded files
+     * @see #load(LoadReport)
      */
     static Set<FileDescriptorProto> load() {
-        var resources = DescriptorSetReferenceFile.loadAll();
-        var files = resources.stream()
-                .map(FileDescriptors::loadFrom)
-                .flatMap(set -> set.getFileList().stream())
-                .filter(distinctBy(FileDescriptorProto::getName))
-                .collect(toSet());
-        return files;
+        return load(null);
     }
 
     /**
-     * Reads an instance of {@link FileDescriptorSet} from the given {@link URL}.
+     * Loads the descriptor files from the classpath.
+     *
+     * <p>The descriptor set files are read concurrently. The files present in more than
+     * one descriptor set are parsed only once.
+     *
+     * @param report
+     *         the report to add the loading time to, or {@code null} if not collected
+     * @return the set of {@linkplain FileDescriptorProto file descriptors}
+     *         contained in the loaded files
+     * @see DescriptorSetLoader
      */
-    private static FileDescriptorSet loadFrom(Resource resource) {
-        checkNotNull(resource);
-        return resource.exists()
-               ? doLoadFrom(resource)
-               : FileDescriptorSet.getDefaultInstance();
-    }
-
-    private static FileDescriptorSet doLoadFrom(Resource resource) {
-        try (var stream = resource.open()) {
-            var parsed = FileDescriptorSetReader.parse(stream);
-            return parsed;
-        } catch (IOException e) {
-            throw newIllegalStateException(
-                    e,
-                    "Unable to load file descriptor set from `%s`.",
-                    resource
-            );
-        }
+    static Set<FileDescriptorProto> load(@Nullable LoadReport report) {
+        var timer = LoadReport.time(report, LoadReport.DISCOVERY);
+        var resources = DescriptorSetReferenceFile.loadAll();
+        timer.stop(resources.size());
+        return DescriptorSetLoader.load(resources, report);
     }
 
     /**
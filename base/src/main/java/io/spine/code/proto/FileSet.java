@@ -94,10 +94,14 @@ public final class FileSet {
 
     /**
      * Creates a new file set by parsing the passed descriptor set file.
+     *
+     * <p>The linked files are {@linkplain DescriptorSetCache cached} until the descriptor
+     * set file changes.
      */
     public static FileSet parse(File descriptorSet) {
         checkExists(descriptorSet);
-        return doParse(descriptorSet);
+        var files = DescriptorSetCache.link(descriptorSet);
+        return new FileSet(files);
     }
 
     /**
@@ -157,19 +161,20 @@ public final class FileSet {
     }
 
     /**
-     * Creates a new file set by parsing the passed descriptor set file.
+     * Loads main file set from resources.
      */
-    private static FileSet doParse(File descriptorSetFile) {
-        Collection<FileDescriptorProto> files = FileDescriptors.parse(descriptorSetFile);
+    public static FileSet load() {
+        Collection<FileDescriptorProto> files = FileDescriptors.load();
         return link(files);
     }
 
     /**
-     * Loads main file set from resources.
+     * Loads main file set from resources, adding the time of loading to the given report.
      */
-    public static FileSet load() {
-        Collection<FileDescriptorProto> files = FileDescriptors.load();
-        return link(files);
+    public static FileSet load(LoadReport report) {
+        checkNotNull(report);
+        Collection<FileDescriptorProto> files = FileDescriptors.load(report);
+        return link(files, report);
     }
 
     /**
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.code.proto;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Sets;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.Descriptors.DescriptorValidationException;
+import com.google.protobuf.Descriptors.FileDescriptor;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static com.google.common.base.Preconditions.checkState;
+import static com.google.protobuf.Descriptors.FileDescriptor.buildFrom;
+import static io.spine.util.Exceptions.newIllegalStateException;
+
+/**
+ * The order of building the files of a descriptor set along with
+ * the dependencies of each file.
+ *
+ * <p>A plan is obtained from the files {@linkplain Linker linked} once. Linking the same files
+ * by the plan does not require searching for the files with the resolved dependencies.
+ * Instead, each file is built right after its dependencies.
+ *
+ * <p>The plan refers to the files by their indexes in the descriptor set. Therefore, a plan
+ * may be only applied to the same descriptor set it was obtained from.
+ */
+final class LinkPlan {
+
+    /**
+     * The first bytes of a written plan.
+     */
+    private static final int MAGIC = 0x4C4E4B50;
+
+    /**
+     * The version of the format of a written plan.
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * For each step, the index of the built file in the descriptor set.
+     */
+    private final int[] files;
+
+    /**
+     * For each step, the previous steps which built the dependencies of the file.
+     */
+    private final int[][] dependencies;
+
+    private LinkPlan(int[] files, int[][] dependencies) {
+        this.files = files;
+        this.dependencies = dependencies;
+    }
+
+    /**
+     * Obtains the plan reproducing the linking of the given files.
+     *
+     * @param files
+     *         the files of the descriptor set
+     * @param linked
+     *         the descriptors obtained by linking the files
+     */
+    static LinkPlan of(List<FileDescriptorProto> files, Collection<FileDescriptor> linked) {
+        Map<String, Integer> indexes = new HashMap<>(files.size());
+        for (var i = 0; i < files.size(); i++) {
+            indexes.putIfAbsent(files.get(i).getName(), i);
+        }
+        Set<FileDescriptor> all = Sets.newIdentityHashSet();
+        all.addAll(linked);
+        Map<FileDescriptor, Integer> steps = new IdentityHashMap<>(linked.size());
+        List<FileDescriptor> order = new ArrayList<>(linked.size());
+        for (var file : linked) {
+            visit(file, all, steps, order);
+        }
+        var size = order.size();
+        var fileIndexes = new int[size];
+        var dependencies = new int[size][];
+        for (var step = 0; step < size; step++) {
+            var file = order.get(step);
+            var index = indexes.get(file.getFullName());
+            checkState(index != null, "The file `%s` is not in the descriptor set.", file);
+            fileIndexes[step] = index;
+            dependencies[step] = file.getDependencies()
+                                     .stream()
+                                     .filter(all::contains)
+                                     .mapToInt(steps::get)
+                                     .toArray();
+        }
+        return new LinkPlan(fileIndexes, dependencies);
+    }
+
+    /**
+     * Adds the given file to the order after all its dependencies.
+     */
+    private static void visit(FileDescriptor file,
+                              Set<FileDescriptor> all,
+                              Map<FileDescriptor, Integer> steps,
+                              List<FileDescriptor> order) {
+        if (steps.containsKey(file)) {
+            return;
+        }
+        for (var dependency : file.getDependencies()) {
+            if (all.contains(dependency)) {
+                visit(dependency, all, steps, order);
+            }
+        }
+        steps.put(file, order.size());
+        order.add(file);
+    }
+
+    /**
+     * Builds the descriptors of the given files according to this plan.
+     *
+     * @param files
+     *         the files of the descriptor set this plan was obtained from
+     * @return the descriptors by the names of the files
+     */
+    ImmutableMap<FileName, FileDescriptor> link(List<FileDescriptorProto> files) {
+        var built = new FileDescriptor[this.files.length];
+        var result = ImmutableMap.<FileName, FileDescriptor>builderWithExpectedSize(built.length);
+        try {
+            for (var step = 0; step < built.length; step++) {
+                var stepDependencies = dependencies[step];
+                var resolved = new FileDescriptor[stepDependencies.length];
+                for (var i = 0; i < resolved.length; i++) {
+                    resolved[i] = built[stepDependencies[i]];
+                }
+                var file = buildFrom(files.get(this.files[step]), resolved, true);
+                built[step] = file;
+                result.put(FileName.from(file), file);
+            }
+        } catch (DescriptorValidationException e) {
+            throw newIllegalStateException(e, "Unable to link descriptor set files.");
+        }
+        return result.buildKeepingLast();
+    }
+
+    /**
+     * Writes this plan to the given stream.
+     */
+    void writeTo(OutputStream stream) throws IOException {
+        var output = new DataOutputStream(stream);
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+        output.writeInt(files.length);
+        for (var step = 0; step < files.length; step++) {
+            output.writeInt(files[step]);
+            output.writeInt(dependencies[step].length);
+            for (var dependency : dependencies[step]) {
+                output.writeInt(dependency);
+            }
+        }
+        output.flush();
+    }
+
+    /**
+     * Reads a plan from the given stream.
+     *
+     * @param stream
+     *         the stream to read
+     * @param fileCount
+     *         the number of files in the descriptor set the plan is read for
+     * @return the read plan, or empty {@code Optional} if the stream does not contain a plan
+     *         compatible with the descriptor set
+     */
+    static Optional<LinkPlan> readFrom(InputStream stream, int fileCount) throws IOException {
+        var input = new DataInputStream(stream);
+        if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+            return Optional.empty();
+        }
+        var size = input.readInt();
+        if (size < 0 || size > fileCount) {
+            return Optional.empty();
+        }
+        var files = new int[size];
+        var dependencies = new int[size][];
+        for (var step = 0; step < size; step++) {
+            files[step] = input.readInt();
+            var count = input.readInt();
+            if (files[step] < 0 || files[step] >= fileCount || count < 0 || count > step) {
+                return Optional.empty();
+            }
+            dependencies[step] = new int[count];
+            for (var i = 0; i < count; i++) {
+                var dependency = input.readInt();
+                if (dependency < 0 || dependency >= step) {
+                    return Optional.empty();
+                }
+                dependencies[step][i] = dependency;
+            }
+        }
+        return Optional.of(new LinkPlan(files, dependencies));
+    }
+}
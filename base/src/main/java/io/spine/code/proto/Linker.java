@@ -35,6 +35,7 @@ import com.google.protobuf.Descriptors.FileDescriptor;
 import io.spine.annotation.VisibleForTesting;
 import io.spine.logging.Logger;
 import io.spine.logging.LoggingFactory;
+import org.jspecify.annotations.Nullable;
 
 import java.util.Collection;
 import java.util.List;
@@ -73,10 +74,24 @@ final class Linker {
     }
 
     static FileSet link(Collection<FileDescriptorProto> files) {
+        return link(files, null);
+    }
+
+    /**
+     * Links the given files.
+     *
+     * @param files
+     *         the files to link
+     * @param report
+     *         the report to add the time of the linking phases to,
+     *         or {@code null} if not collected
+     * @return the linked files
+     */
+    static FileSet link(Collection<FileDescriptorProto> files, @Nullable LoadReport report) {
         var linker = new Linker(files);
         logger.atDebug().log(() -> format("Trying to link %d files.", files.size()));
         try {
-            linker.resolve();
+            linker.resolve(report);
         } catch (DescriptorValidationException e) {
             throw newIllegalStateException(e, "Unable to link descriptor set files.");
         }
@@ -88,12 +103,22 @@ final class Linker {
     }
 
     void resolve() throws DescriptorValidationException {
+        resolve(null);
+    }
+
+    private void resolve(@Nullable LoadReport report) throws DescriptorValidationException {
         // Make sure this method is called only after the constructor once.
         checkState(input.size() == remaining.size());
+        var timer = LoadReport.time(report, LoadReport.LINKING_RESOLVED);
         findNoDependencies();
         findResolved();
+        timer.stop(resolved.size());
+        timer = LoadReport.time(report, LoadReport.LINKING_PARTIALLY_RESOLVED);
         findPartiallyResolved();
+        timer.stop(partiallyResolved.size());
+        timer = LoadReport.time(report, LoadReport.LINKING_UNRESOLVED);
         addUnresolved();
+        timer.stop(unresolved.size());
     }
 
     private void findNoDependencies() throws DescriptorValidationException {
@@ -0,0 +1,333 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.code.proto;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.annotation.Internal;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+import static java.lang.System.lineSeparator;
+
+/**
+ * The time spent on the phases of loading Protobuf types.
+ *
+ * <p>The report is filled as the loading goes. It includes the following phases:
+ * <ul>
+ *     <li>{@linkplain #DISCOVERY discovery} of the descriptor set resources;
+ *     <li>{@linkplain #PARSING parsing} of the descriptor sets, along with the time and the size
+ *         of each {@linkplain #resources() resource};
+ *     <li>{@linkplain Linker linking} of the files with the {@linkplain #LINKING_RESOLVED
+ *         resolved}, {@linkplain #LINKING_PARTIALLY_RESOLVED partially resolved}, and
+ *         {@linkplain #LINKING_UNRESOLVED unresolved} dependencies;
+ *     <li>creation of the {@linkplain #TYPE_SET set of types};
+ *     <li>building of the {@linkplain #TYPE_REGISTRY type registry}.
+ * </ul>
+ *
+ * <p>Each phase and each resource is also reported as a JFR event of the {@code io.spine}
+ * category, regardless of whether a report is collected. The events are recorded when
+ * a flight recording is running, e.g. if the JVM is started with
+ * the {@code -XX:StartFlightRecording} option.
+ *
+ * <p>The instances of this type are thread-safe.
+ *
+ * @see io.spine.type.KnownTypes#loadReport()
+ */
+public final class LoadReport {
+
+    /**
+     * The phase of finding the descriptor set resources.
+     */
+    public static final String DISCOVERY = "discovery";
+
+    /**
+     * The phase of reading and parsing the descriptor sets.
+     */
+    public static final String PARSING = "parsing";
+
+    /**
+     * The phase of linking the files with all the dependencies resolved.
+     */
+    public static final String LINKING_RESOLVED = "linking-resolved";
+
+    /**
+     * The phase of linking the files with some dependencies unresolved.
+     */
+    public static final String LINKING_PARTIALLY_RESOLVED = "linking-partially-resolved";
+
+    /**
+     * The phase of linking the files without resolving the dependencies.
+     */
+    public static final String LINKING_UNRESOLVED = "linking-unresolved";
+
+    /**
+     * The phase of creating the set of types declared in the linked files.
+     */
+    public static final String TYPE_SET = "type-set";
+
+    /**
+     * The phase of building the {@link com.google.protobuf.TypeRegistry TypeRegistry}.
+     */
+    public static final String TYPE_REGISTRY = "type-registry";
+
+    private final List<Phase> phases = new CopyOnWriteArrayList<>();
+    private final List<ResourceLoad> resources = new CopyOnWriteArrayList<>();
+
+    private LoadReport() {
+    }
+
+    /**
+     * Creates a new empty report.
+     */
+    public static LoadReport newInstance() {
+        return new LoadReport();
+    }
+
+    /**
+     * Starts timing of a phase.
+     *
+     * @param report
+     *         the report to add the phase to, or {@code null} if only a JFR event should be
+     *         recorded for the phase
+     * @param phase
+     *         the name of the phase
+     * @return the timer to {@linkplain PhaseTimer#stop(int) stop} when the phase completes
+     */
+    @Internal
+    public static PhaseTimer time(@Nullable LoadReport report, String phase) {
+        checkNotNull(phase);
+        return new PhaseTimer(report, phase);
+    }
+
+    /**
+     * Adds the results of loading a descriptor set resource.
+     */
+    static void recordResource(@Nullable LoadReport report,
+                               String resource, long bytes, int files, long nanos) {
+        var event = new DescriptorSetReadEvent();
+        if (event.shouldCommit()) {
+            event.resource = resource;
+            event.bytes = bytes;
+            event.files = files;
+            event.nanos = nanos;
+            event.commit();
+        }
+        if (report != null) {
+            report.resources.add(new ResourceLoad(resource, bytes, files, Duration.ofNanos(nanos)));
+        }
+    }
+
+    /**
+     * Obtains the completed phases in the order of completion.
+     */
+    public ImmutableList<Phase> phases() {
+        return ImmutableList.copyOf(phases);
+    }
+
+    /**
+     * Obtains the first completed phase with the given name.
+     */
+    public Optional<Phase> phase(String name) {
+        checkNotNull(name);
+        return phases.stream()
+                     .filter(phase -> phase.name.equals(name))
+                     .findFirst();
+    }
+
+    /**
+     * Obtains the loaded descriptor set resources in the order of completion.
+     */
+    public ImmutableList<ResourceLoad> resources() {
+        return ImmutableList.copyOf(resources);
+    }
+
+    /**
+     * Obtains the total time of the completed phases.
+     */
+    public Duration total() {
+        return phases.stream()
+                     .map(Phase::duration)
+                     .reduce(Duration.ZERO, Duration::plus);
+    }
+
+    @Override
+    public String toString() {
+        var result = new StringBuilder("Load report, total ")
+                .append(total().toMillis())
+                .append(" ms:");
+        for (var phase : phases) {
+            result.append(lineSeparator())
+                  .append("  ")
+                  .append(phase);
+        }
+        for (var resource : resources) {
+            result.append(lineSeparator())
+                  .append("    ")
+                  .append(resource);
+        }
+        return result.toString();
+    }
+
+    /**
+     * A completed phase of loading.
+     */
+    public static final class Phase {
+
+        private final String name;
+        private final int count;
+        private final Duration duration;
+
+        private Phase(String name, int count, Duration duration) {
+            this.name = name;
+            this.count = count;
+            this.duration = duration;
+        }
+
+        /**
+         * Obtains the name of the phase.
+         */
+        public String name() {
+            return name;
+        }
+
+        /**
+         * Obtains the number of the items, such as files or types, processed in the phase.
+         */
+        public int count() {
+            return count;
+        }
+
+        /**
+         * Obtains the time spent on the phase.
+         */
+        public Duration duration() {
+            return duration;
+        }
+
+        @Override
+        public String toString() {
+            return format("%s: %d in %d ms", name, count, duration.toMillis());
+        }
+    }
+
+    /**
+     * The results of loading a descriptor set resource.
+     */
+    public static final class ResourceLoad {
+
+        private final String resource;
+        private final long bytes;
+        private final int files;
+        private final Duration duration;
+
+        private ResourceLoad(String resource, long bytes, int files, Duration duration) {
+            this.resource = resource;
+            this.bytes = bytes;
+            this.files = files;
+            this.duration = duration;
+        }
+
+        /**
+         * Obtains the path of the resource.
+         */
+        public String resource() {
+            return resource;
+        }
+
+        /**
+         * Obtains the size of the descriptor set in bytes.
+         */
+        public long bytes() {
+            return bytes;
+        }
+
+        /**
+         * Obtains the number of files in the descriptor set.
+         */
+        public int files() {
+            return files;
+        }
+
+        /**
+         * Obtains the time spent on reading the resource.
+         */
+        public Duration duration() {
+            return duration;
+        }
+
+        @Override
+        public String toString() {
+            return format("%s: %d files, %d bytes in %d ms",
+                          resource, files, bytes, duration.toMillis());
+        }
+    }
+
+    /**
+     * Measures the time of a phase.
+     */
+    @Internal
+    public static final class PhaseTimer {
+
+        private final @Nullable LoadReport report;
+        private final String phase;
+        private final LoadPhaseEvent event;
+        private final long start;
+
+        private PhaseTimer(@Nullable LoadReport report, String phase) {
+            this.report = report;
+            this.phase = phase;
+            this.event = new LoadPhaseEvent();
+            event.begin();
+            this.start = System.nanoTime();
+        }
+
+        /**
+         * Completes the phase.
+         *
+         * @param count
+         *         the number of the items processed in the phase
+         */
+        public void stop(int count) {
+            var elapsed = System.nanoTime() - start;
+            event.end();
+            if (event.shouldCommit()) {
+                event.phase = phase;
+                event.count = count;
+                event.commit();
+            }
+            if (report != null) {
+                report.phases.add(new Phase(phase, count, Duration.ofNanos(elapsed)));
+            }
+        }
+    }
+}
@@ -26,25 +26,45 @@
 
 package io.spine.io;
 
-import com.google.common.collect.ImmutableList;
+import com.google.common.io.MoreFiles;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
-import java.util.function.BiPredicate;
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.function.Predicate;
 
-import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.base.Preconditions.checkNotNull;
 import static io.spine.io.IoPreconditions.checkIsDirectory;
+import static java.nio.file.FileVisitResult.CONTINUE;
 import static java.nio.file.Files.copy;
 import static java.nio.file.Files.createDirectories;
-import static java.nio.file.Files.exists;
-import static java.nio.file.Files.find;
-import static java.nio.file.Files.isDirectory;
 import static java.nio.file.Files.isRegularFile;
+import static java.nio.file.Files.readAttributes;
+import static java.nio.file.Files.size;
+import static java.nio.file.Files.walkFileTree;
+import static java.nio.file.StandardCopyOption.COPY_ATTRIBUTES;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 /**
  * Utilities for copy operations.
+ *
+ * <p>The directories are copied while walking the source tree. The directories are created
+ * as they are visited, and the files are copied concurrently on a bounded pool of threads.
+ *
+ * <p>By default, a copy operation fails if a target file already exists. For incremental
+ * copying into a directory populated by a previous copy, pass an {@link Overwrite} mode.
  */
 public final class Copy {
 
@@ -89,9 +109,35 @@ public final class Copy {
      *         the predicate accepting the copied content
      */
     public static void copyDir(Path dir, Path target, Predicate<Path> matching) throws IOException {
+        copyDir(dir, target, matching, Overwrite.NEVER);
+    }
+
+    /**
+     * Copies the directory and its contents matching the given predicate into another directory,
+     * overwriting the existing files according to the given mode.
+     *
+     * <p>Both paths must point to existing directories.
+     *
+     * <p>The {@code dir} itself is copied as well, as by {@link #copyDir(Path, Path, Predicate)}.
+     *
+     * @param dir
+     *         the directory to copy
+     * @param target
+     *         the new parent directory
+     * @param matching
+     *         the predicate accepting the copied content
+     * @param overwrite
+     *         tells which of the existing target files to overwrite
+     */
+    public static void copyDir(Path dir,
+                               Path target,
+                               Predicate<Path> matching,
+                               Overwrite overwrite) throws IOException {
         checkIsDirectory(dir);
         checkIsDirectory(target);
-        doCopy(dir, target, matching, true);
+        checkNotNull(matching);
+        checkNotNull(overwrite);
+        doCopy(dir, target, matching, overwrite, true);
     }
 
     /**
@@ -108,9 +154,7 @@ public final class Copy {
      *         the new parent directory
      */
     public static void copyContent(Path dir, Path target) throws IOException {
-        checkIsDirectory(dir);
-        checkIsDirectory(target);
-        doCopy(dir, target, path -> true, false);
+        copyContent(dir, target, path -> true);
     }
 
     /**
@@ -130,46 +174,275 @@ public final class Copy {
      */
     public static void copyContent(Path dir, Path target, Predicate<Path> matching)
             throws IOException {
+        copyContent(dir, target, matching, Overwrite.NEVER);
+    }
+
+    /**
+     * Copies the content of a directory matching the given predicate into another directory,
+     * overwriting the existing files according to the given mode.
+     *
+     * <p>Both paths must point to existing directories.
+     *
+     * <p>The directory itself is not copied,
+     * as by {@link #copyContent(Path, Path, Predicate)}.
+     *
+     * @param dir
+     *         the directory content of which will be copied
+     * @param target
+     *         the new parent directory
+     * @param matching
+     *         the predicate accepting the copied content
+     * @param overwrite
+     *         tells which of the existing target files to overwrite
+     */
+    public static void copyContent(Path dir,
+                                   Path target,
+                                   Predicate<Path> matching,
+                                   Overwrite overwrite) throws IOException {
         checkIsDirectory(dir);
         checkIsDirectory(target);
-        doCopy(dir, target, matching, false);
+        checkNotNull(matching);
+        checkNotNull(overwrite);
+        doCopy(dir, target, matching, overwrite, false);
     }
 
     private static void doCopy(Path dir,
                                Path target,
                                Predicate<Path> matching,
+                               Overwrite overwrite,
                                boolean withEnclosingDir) throws IOException {
         var oldParent = withEnclosingDir
                          ? dir.getParent()
                          : dir;
-        var paths = contentOf(dir, matching);
-        for (var path : paths) {
+        var copying = new TreeCopy(oldParent, target, matching, overwrite);
+        try {
+            walkFileTree(dir, copying);
+        } catch (IOException | RuntimeException e) {
+            copying.cancel(e);
+            throw e;
+        }
+        copying.finish();
+    }
+
+    /**
+     * Tells which of the existing target files to overwrite when copying.
+     */
+    public enum Overwrite {
+
+        /**
+         * Does not overwrite the files.
+         *
+         * <p>The copying fails if a target file exists.
+         */
+        NEVER,
+
+        /**
+         * Overwrites all the existing files.
+         */
+        ALWAYS,
+
+        /**
+         * Overwrites the files which size or last modification time differ
+         * from the source file.
+         *
+         * <p>The copied files get the last modification time of the source files,
+         * so that the unchanged files are skipped when copying again.
+         */
+        IF_MODIFIED,
+
+        /**
+         * Overwrites the files which content differs from the source file.
+         *
+         * <p>Compares the content of the files of the same size byte by byte. Unlike
+         * {@link #IF_MODIFIED}, does not depend on the file modification times, which may be
+         * unreliable, e.g. after checking out the files from a version control system.
+         */
+        IF_CONTENT_DIFFERS
+    }
+
+    /**
+     * Copies a tree of files while walking it.
+     *
+     * <p>The directories are created in the walking thread. The files are copied
+     * by a pool of threads. The number of the files waiting to be copied is bounded,
+     * so that the walking does not get too far ahead of the copying.
+     */
+    private static final class TreeCopy extends SimpleFileVisitor<Path> {
+
+        private static final int THREAD_COUNT =
+                Math.min(8, Runtime.getRuntime().availableProcessors());
+
+        private static final int MAX_PENDING = 4 * THREAD_COUNT;
+
+        private final Path oldParent;
+        private final Path target;
+        private final Predicate<Path> matching;
+        private final Overwrite overwrite;
+
+        /**
+         * The target directories created so far.
+         *
+         * <p>Accessed only by the walking thread.
+         */
+        private final Set<Path> created = new HashSet<>();
+
+        private final Semaphore pending = new Semaphore(MAX_PENDING);
+        private final Queue<IOException> failures = new ConcurrentLinkedQueue<>();
+        private final ExecutorService executor = Executors.newFixedThreadPool(
+                THREAD_COUNT,
+                new ThreadFactoryBuilder().setDaemon(true)
+                                          .setNameFormat("copy-%d")
+                                          .build()
+        );
+
+        private TreeCopy(Path oldParent,
+                         Path target,
+                         Predicate<Path> matching,
+                         Overwrite overwrite) {
+            super();
+            this.oldParent = oldParent;
+            this.target = target;
+            this.matching = matching;
+            this.overwrite = overwrite;
+        }
+
+        private Path targetOf(Path path) {
             var relative = oldParent.relativize(path);
-            var newPath = target.resolve(relative);
-            if (isDirectory(path)) {
-                if (!exists(newPath)) {
-                    createDirectories(newPath);
+            return target.resolve(relative);
+        }
+
+        @Override
+        public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs)
+                throws IOException {
+            if (matching.test(dir)) {
+                ensureDirectory(targetOf(dir));
+            }
+            return CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs)
+                throws IOException {
+            checkFailures();
+            if (!matching.test(file) || !(attrs.isRegularFile() || isRegularFile(file))) {
+                return CONTINUE;
+            }
+            var newFile = targetOf(file);
+            ensureDirectory(newFile.getParent());
+            try {
+                pending.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while copying `" + file + "`.");
+            }
+            executor.execute(() -> {
+                try {
+                    copyFile(file, newFile);
+                } catch (IOException e) {
+                    failures.add(e);
+                } finally {
+                    pending.release();
+                }
+            });
+            return CONTINUE;
+        }
+
+        /**
+         * Creates the directory, unless it is already created by this copying.
+         */
+        private void ensureDirectory(Path dir) throws IOException {
+            if (created.contains(dir)) {
+                return;
+            }
+            createDirectories(dir);
+            created.add(dir);
+        }
+
+        private void copyFile(Path file, Path newFile) throws IOException {
+            switch (overwrite) {
+                case NEVER -> copy(file, newFile);
+                case ALWAYS -> copy(file, newFile, REPLACE_EXISTING);
+                case IF_MODIFIED -> {
+                    if (isModified(file, newFile)) {
+                        copy(file, newFile, REPLACE_EXISTING, COPY_ATTRIBUTES);
+                    }
                 }
-            } else if (isRegularFile(path)) {
-                var containingDir = newPath.getParent();
-                if (!exists(containingDir)) {
-                    createDirectories(containingDir);
+                case IF_CONTENT_DIFFERS -> {
+                    if (contentDiffers(file, newFile)) {
+                        copy(file, newFile, REPLACE_EXISTING);
+                    }
                 }
-                copy(path, newPath);
             }
         }
-    }
 
-    /**
-     * Obtains all subdirectories and files enclosed the passed directory that match
-     * the passed predicate.
-     */
-    private static ImmutableList<Path> contentOf(Path dir, Predicate<Path> matching)
-            throws IOException {
-        BiPredicate<Path, BasicFileAttributes> predicate = (path, attrs) -> matching.test(path);
-        try (var found = find(dir, Integer.MAX_VALUE, predicate)) {
-            var paths = found.collect(toImmutableList());
-            return paths;
+        private static boolean isModified(Path file, Path newFile) throws IOException {
+            if (!isRegularFile(newFile)) {
+                return true;
+            }
+            var source = readAttributes(file, BasicFileAttributes.class);
+            var copied = readAttributes(newFile, BasicFileAttributes.class);
+            return source.size() != copied.size()
+                    || !source.lastModifiedTime().equals(copied.lastModifiedTime());
+        }
+
+        private static boolean contentDiffers(Path file, Path newFile) throws IOException {
+            if (!isRegularFile(newFile) || size(file) != size(newFile)) {
+                return true;
+            }
+            var source = MoreFiles.asByteSource(file);
+            var copied = MoreFiles.asByteSource(newFile);
+            return !source.contentEquals(copied);
+        }
+
+        private void checkFailures() throws IOException {
+            var failure = failures.peek();
+            if (failure != null) {
+                throw failure;
+            }
+        }
+
+        /**
+         * Waits for the pending files to be copied, and reports the failures, if any.
+         */
+        private void finish() throws IOException {
+            executor.shutdown();
+            try {
+                executor.awaitTermination(Long.MAX_VALUE, NANOSECONDS);
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while copying files.");
+            }
+            var failure = failures.poll();
+            if (failure != null) {
+                failures.forEach(failure::addSuppressed);
+                throw failure;
+            }
+        }
+
+        /**
+         * Stops copying the files which are not copied yet, and waits for the files
+         * being copied.
+         *
+         * <p>The failures of copying the files are added to the given exception
+         * as suppressed ones.
+         *
+         * @param thrown
+         *         the exception which stopped walking the tree
+         */
+        private void cancel(Exception thrown) {
+            executor.shutdownNow();
+            try {
+                executor.awaitTermination(Long.MAX_VALUE, NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                thrown.addSuppressed(e);
+            }
+            for (var failure : failures) {
+                if (failure != thrown) {
+                    thrown.addSuppressed(failure);
+                }
+            }
         }
     }
 }
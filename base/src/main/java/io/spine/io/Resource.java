@@ -27,17 +27,13 @@
 package io.spine.io;
 
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Iterators;
-import com.google.common.io.CharStreams;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.net.URL;
 import java.nio.charset.Charset;
-import java.util.Enumeration;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static io.spine.util.Exceptions.illegalStateWithCauseOf;
@@ -81,24 +77,13 @@ public final class Resource extends ResourceObject {
      * @return the URLs to the resolved resource files
      */
     public ImmutableList<URL> locateAll() {
-        var resources = resourceEnumeration();
-        var iterator = Iterators.forEnumeration(resources);
-        var result = ImmutableList.copyOf(iterator);
+        var result = resources();
         if (result.isEmpty()) {
             throw cannotFind();
         }
         return result;
     }
 
-    private Enumeration<URL> resourceEnumeration() {
-        try {
-            var resources = resources();
-            return resources;
-        } catch (IOException e) {
-            throw illegalStateWithCauseOf(e);
-        }
-    }
-
     /**
      * Obtains a new {@link InputStream} to the resource.
      *
@@ -149,9 +134,31 @@ public final class Resource extends ResourceObject {
      *         on a failure of reading or closing the file
      */
     public String read() throws IOException {
-        try (Reader reader = new BufferedReader(openAsText())) {
-            return CharStreams.toString(reader);
+        try (var stream = open()) {
+            return ResourceBuffers.readText(stream, UTF_8);
+        }
+    }
+
+    /**
+     * Loads all the resource files by this path as UTF-8 text files.
+     *
+     * <p>The files are read in the order of the {@linkplain #locateAll() located} URLs.
+     *
+     * @return the contents of the resource files
+     * @throws IllegalStateException
+     *         if there are no such files
+     * @throws IOException
+     *         on a failure of reading or closing a file
+     */
+    public ImmutableList<String> readAll() throws IOException {
+        var urls = locateAll();
+        var result = ImmutableList.<String>builderWithExpectedSize(urls.size());
+        for (var url : urls) {
+            try (var stream = url.openStream()) {
+                result.add(ResourceBuffers.readText(stream, UTF_8));
+            }
         }
+        return result.build();
     }
 
     @Override
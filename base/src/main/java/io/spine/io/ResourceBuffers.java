@@ -0,0 +1,95 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * A pool of buffers for reading small resources.
+ *
+ * <p>Reading a resource into a pooled buffer avoids allocating and growing a new array
+ * for each resource. Resources larger than a pooled buffer are read into a grown copy
+ * of the buffer, which is not returned to the pool.
+ */
+final class ResourceBuffers {
+
+    /**
+     * The size of a pooled buffer, which fits most of the small resources.
+     */
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    /**
+     * The maximum number of the buffers kept in the pool.
+     */
+    private static final int POOL_SIZE = 2 * Runtime.getRuntime()
+                                                    .availableProcessors();
+
+    private static final Queue<byte[]> pool = new ArrayBlockingQueue<>(POOL_SIZE);
+
+    /**
+     * Prevents the utility class instantiation.
+     */
+    private ResourceBuffers() {
+    }
+
+    /**
+     * Reads the whole stream as text in the given charset.
+     *
+     * <p>The stream is not closed by this method.
+     */
+    static String readText(InputStream stream, Charset charset) throws IOException {
+        var buffer = acquire();
+        try {
+            var data = buffer;
+            var length = 0;
+            int read;
+            while ((read = stream.read(data, length, data.length - length)) >= 0) {
+                length += read;
+                if (length == data.length) {
+                    data = Arrays.copyOf(data, data.length * 2);
+                }
+            }
+            return new String(data, 0, length, charset);
+        } finally {
+            release(buffer);
+        }
+    }
+
+    private static byte[] acquire() {
+        var buffer = pool.poll();
+        return buffer != null ? buffer : new byte[BUFFER_SIZE];
+    }
+
+    private static void release(byte[] buffer) {
+        pool.offer(buffer);
+    }
+}
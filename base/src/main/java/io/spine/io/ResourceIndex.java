@@ -0,0 +1,151 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.io;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterators;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.spine.util.Exceptions.illegalStateWithCauseOf;
+
+/**
+ * The resources found by a {@link ClassLoader}, remembered by their paths.
+ *
+ * <p>Looking up resources may require a {@code ClassLoader} to scan the indexes of all
+ * the JARs in the classpath. The index asks the {@code ClassLoader} for the resources
+ * with a particular path only once and answers the subsequent lookups from memory.
+ *
+ * <p>There is one index per {@code ClassLoader}. The indexes are discarded along with their
+ * {@code ClassLoader}s, so a new {@code ClassLoader} always gets a new index, even if
+ * it is equal to a previous one.
+ *
+ * <p>Only the resources packed in archives, such as JARs, are remembered. The resources
+ * which are files in a directory are cheap to look up, and may be deleted or added while
+ * the program runs. Therefore, the lookups of such resources, as well as the lookups which
+ * found no resources, are always passed to the {@code ClassLoader}.
+ *
+ * <p>An index does not reference its {@code ClassLoader}, so that the {@code ClassLoader}
+ * can be garbage-collected.
+ */
+final class ResourceIndex {
+
+    /**
+     * The indexes of the {@code ClassLoader}s, compared by identity.
+     */
+    private static final Cache<ClassLoader, ResourceIndex> indexes =
+            CacheBuilder.newBuilder()
+                        .weakKeys()
+                        .build();
+
+    /**
+     * The first resource found by a path.
+     */
+    private final Map<String, URL> first = new ConcurrentHashMap<>();
+
+    /**
+     * All the resources found by a path.
+     */
+    private final Map<String, ImmutableList<URL>> all = new ConcurrentHashMap<>();
+
+    private ResourceIndex() {
+    }
+
+    /**
+     * Obtains the index of the resources of the given {@code ClassLoader}.
+     */
+    static ResourceIndex of(ClassLoader classLoader) {
+        return indexes.asMap()
+                      .computeIfAbsent(classLoader, loader -> new ResourceIndex());
+    }
+
+    /**
+     * Finds the resource with the given path.
+     *
+     * @param path
+     *         the path of the resource
+     * @param classLoader
+     *         the {@code ClassLoader} of this index
+     * @return the URL of the resource, or {@code null} if there is no such resource
+     * @see ClassLoader#getResource(String)
+     */
+    @Nullable URL find(String path, ClassLoader classLoader) {
+        var cached = first.get(path);
+        if (cached != null) {
+            return cached;
+        }
+        @Nullable URL url = classLoader.getResource(path);
+        if (url != null && isArchived(url)) {
+            first.put(path, url);
+        }
+        return url;
+    }
+
+    /**
+     * Finds all the resources with the given path.
+     *
+     * @param path
+     *         the path of the resources
+     * @param classLoader
+     *         the {@code ClassLoader} of this index
+     * @return the URLs of the resources, or an empty list if there are no such resources
+     * @see ClassLoader#getResources(String)
+     */
+    ImmutableList<URL> findAll(String path, ClassLoader classLoader) {
+        var cached = all.get(path);
+        if (cached != null) {
+            return cached;
+        }
+        var result = scan(path, classLoader);
+        if (!result.isEmpty() && result.stream().allMatch(ResourceIndex::isArchived)) {
+            all.put(path, result);
+        }
+        return result;
+    }
+
+    private static ImmutableList<URL> scan(String path, ClassLoader classLoader) {
+        try {
+            var resources = classLoader.getResources(path);
+            return ImmutableList.copyOf(Iterators.forEnumeration(resources));
+        } catch (IOException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+    }
+
+    /**
+     * Tells if the resource is packed in an archive, rather than being a file in a directory.
+     */
+    private static boolean isArchived(URL url) {
+        return !"file".equals(url.getProtocol());
+    }
+}
@@ -26,11 +26,10 @@
 
 package io.spine.io;
 
+import com.google.common.collect.ImmutableList;
 import org.jspecify.annotations.Nullable;
 
-import java.io.IOException;
 import java.net.URL;
-import java.util.Enumeration;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static io.spine.util.Exceptions.newIllegalStateException;
@@ -56,7 +55,8 @@ abstract class ResourceObject {
     }
 
     private @Nullable URL findUrl() {
-        @Nullable URL url = classLoader.getResource(path);
+        @Nullable URL url = ResourceIndex.of(classLoader)
+                                         .find(path, classLoader);
         return url;
     }
 
@@ -76,6 +76,9 @@ abstract class ResourceObject {
      * <p>If the resource cannot be resolved (i.e., the file does not exist), throws
      * an {@code IllegalStateException}.
      *
+     * <p>A resource packed in an archive is {@linkplain ResourceIndex remembered}
+     * after it is found for the first time.
+     *
      * @return the resource URL
      */
     public URL locate() {
@@ -99,10 +102,14 @@ abstract class ResourceObject {
     }
 
     /**
-     * Enumerates all resources with the given path.
+     * Obtains all resources with the given path.
+     *
+     * <p>The resources packed in archives are {@linkplain ResourceIndex remembered}
+     * after they are found for the first time.
      */
-    final Enumeration<URL> resources() throws IOException {
-        return classLoader.getResources(path);
+    final ImmutableList<URL> resources() {
+        return ResourceIndex.of(classLoader)
+                            .findAll(path, classLoader);
     }
 
     @Override
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.query;
+
+import com.google.common.base.MoreObjects;
+import com.google.protobuf.Message;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.query.ComparisonOperator.EQUALS;
+
+/**
+ * Statistics on the values of a {@link RecordColumn}, collected incrementally.
+ *
+ * <p>For each column, the statistics include the number of the recorded values,
+ * the number of {@code null} values, and the estimated number of distinct values.
+ *
+ * <p>For the columns which values can be ordered, i.e. the values of {@code Comparable} types
+ * and {@link com.google.protobuf.Timestamp Timestamp}s, the minimum and maximum values
+ * are tracked. Also, a uniform random sample of the values is kept. The sample serves
+ * as a histogram of the value distribution when estimating the selectivity
+ * of the order-based comparisons.
+ *
+ * <p>The instances of this type are thread-safe.
+ *
+ * @param <R>
+ *         the type of the records
+ * @param <V>
+ *         the type of the column values
+ * @see RecordStatistics
+ */
+public final class ColumnStatistics<R extends Message, V> {
+
+    /**
+     * The maximum number of values in the sample.
+     */
+    private static final int SAMPLE_SIZE = 1_024;
+
+    /**
+     * The selectivity of an equality comparison for a column without the recorded values.
+     */
+    static final double DEFAULT_EQUALITY_SELECTIVITY = 0.1;
+
+    /**
+     * The selectivity of an order-based comparison, if it cannot be estimated.
+     */
+    static final double DEFAULT_RANGE_SELECTIVITY = 1.0 / 3;
+
+    private final RecordColumn<R, V> column;
+    private final boolean orderable;
+    private final DistinctCountSketch distinctValues = new DistinctCountSketch();
+    private final List<V> sample = new ArrayList<>();
+
+    /**
+     * The source of randomness for the reservoir sampling.
+     *
+     * <p>Uses a fixed seed, so that the statistics of the same values are reproducible.
+     */
+    private final SplittableRandom random = new SplittableRandom(SAMPLE_SIZE);
+
+    private long count;
+    private long nullCount;
+    private @Nullable V min;
+    private @Nullable V max;
+
+    private ColumnStatistics(RecordColumn<R, V> column) {
+        this.column = column;
+        this.orderable = ColumnValues.isOrderable(column.type());
+    }
+
+    /**
+     * Creates empty statistics for the passed column.
+     */
+    public static <R extends Message, V> ColumnStatistics<R, V> of(RecordColumn<R, V> column) {
+        checkNotNull(column);
+        return new ColumnStatistics<>(column);
+    }
+
+    /**
+     * Returns the column, which values are described by these statistics.
+     */
+    public RecordColumn<R, V> column() {
+        return column;
+    }
+
+    /**
+     * Takes into account the value of the column in the passed record.
+     */
+    public synchronized void record(R record) {
+        checkNotNull(record);
+        count++;
+        var value = column.valueIn(record);
+        if (value == null) {
+            nullCount++;
+            return;
+        }
+        distinctValues.add(value);
+        if (orderable) {
+            updateRange(value);
+            sample(value);
+        }
+    }
+
+    private void updateRange(V value) {
+        if (min == null || ColumnValues.compare(value, min) < 0) {
+            min = value;
+        }
+        if (max == null || ColumnValues.compare(value, max) > 0) {
+            max = value;
+        }
+    }
+
+    /**
+     * Adds the value to the sample using the reservoir sampling.
+     */
+    private void sample(V value) {
+        var seen = count - nullCount;
+        if (sample.size() < SAMPLE_SIZE) {
+            sample.add(value);
+        } else {
+            var index = random.nextLong(seen);
+            if (index < SAMPLE_SIZE) {
+                sample.set((int) index, value);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of the recorded values, including {@code null}s.
+     */
+    public synchronized long count() {
+        return count;
+    }
+
+    /**
+     * Returns the number of the recorded {@code null} values.
+     */
+    public synchronized long nullCount() {
+        return nullCount;
+    }
+
+    /**
+     * Returns the estimated number of distinct non-{@code null} values.
+     */
+    public synchronized long distinctCount() {
+        return Math.min(distinctValues.estimate(), count - nullCount);
+    }
+
+    /**
+     * Returns the minimum recorded value, if the values of the column can be ordered.
+     */
+    public synchronized Optional<V> min() {
+        return Optional.ofNullable(min);
+    }
+
+    /**
+     * Returns the maximum recorded value, if the values of the column can be ordered.
+     */
+    public synchronized Optional<V> max() {
+        return Optional.ofNullable(max);
+    }
+
+    /**
+     * Estimates the fraction of the recorded values, for which the comparison with
+     * the passed value using the passed operator evaluates to {@code true}.
+     *
+     * @param operator
+     *         the operator comparing the actual value with the passed one
+     * @param value
+     *         the value to compare with
+     * @return the estimated fraction in the range of {@code [0, 1]}
+     */
+    public synchronized double selectivity(ComparisonOperator operator, Object value) {
+        checkNotNull(operator);
+        checkNotNull(value);
+        if (count == 0) {
+            return operator == EQUALS
+                   ? DEFAULT_EQUALITY_SELECTIVITY
+                   : DEFAULT_RANGE_SELECTIVITY;
+        }
+        var nonNullFraction = (double) (count - nullCount) / count;
+        var comparable = orderable && column.type().isInstance(value);
+        if (operator == EQUALS) {
+            if (comparable && isOutOfRange(value)) {
+                return 0.0;
+            }
+            var distinct = Math.max(1, distinctCount());
+            return nonNullFraction / distinct;
+        }
+        if (!comparable || sample.isEmpty()) {
+            return DEFAULT_RANGE_SELECTIVITY;
+        }
+        var matching = 0;
+        for (var sampled : sample) {
+            if (operator.eval(sampled, value)) {
+                matching++;
+            }
+        }
+        return nonNullFraction * matching / sample.size();
+    }
+
+    private boolean isOutOfRange(Object value) {
+        return min == null
+                || ColumnValues.compare(value, min) < 0
+                || ColumnValues.compare(value, max) > 0;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("column", column.name())
+                          .add("count", count)
+                          .add("nullCount", nullCount)
+                          .add("distinctCount", distinctCount())
+                          .add("min", min)
+                          .add("max", max)
+                          .toString();
+    }
+}
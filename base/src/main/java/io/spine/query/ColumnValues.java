@@ -0,0 +1,81 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.query;
+
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Timestamps;
+import org.jspecify.annotations.Nullable;
+
+import static java.lang.String.format;
+
+/**
+ * Utilities for ordering the values of the columns.
+ *
+ * <p>As in {@link ComparisonOperator}, the order is defined for the values
+ * of {@code Comparable} types and {@link Timestamp}s.
+ */
+final class ColumnValues {
+
+    /**
+     * Prevents the utility class instantiation.
+     */
+    private ColumnValues() {
+    }
+
+    /**
+     * Tells whether the values of the passed type can be ordered.
+     */
+    static boolean isOrderable(Class<?> type) {
+        return Timestamp.class.equals(type) || Comparable.class.isAssignableFrom(type);
+    }
+
+    /**
+     * Compares two values of the same column.
+     *
+     * <p>A {@code null} value precedes all other values.
+     *
+     * @throws UnsupportedOperationException
+     *         if the values cannot be ordered
+     */
+    @SuppressWarnings({"ChainOfInstanceofChecks", // Generic but limited operand types.
+            "rawtypes", "unchecked"               // Values of the same column.
+    })
+    static int compare(@Nullable Object left, @Nullable Object right) {
+        if (left == null || right == null) {
+            return left == right ? 0 : (left == null ? -1 : 1);
+        }
+        if (left instanceof Timestamp) {
+            return Timestamps.compare((Timestamp) left, (Timestamp) right);
+        }
+        if (left instanceof Comparable) {
+            return ((Comparable) left).compareTo(right);
+        }
+        throw new UnsupportedOperationException(format(
+                "Ordering is not supported for the values of type `%s`.",
+                left.getClass().getCanonicalName()));
+    }
+}
@@ -30,8 +30,10 @@ import com.google.protobuf.Timestamp;
 import com.google.protobuf.util.Timestamps;
 import org.jspecify.annotations.Nullable;
 
+import java.util.Comparator;
 import java.util.Objects;
 
+import static com.google.common.base.Preconditions.checkNotNull;
 import static java.lang.String.format;
 
 /**
@@ -49,6 +51,14 @@ import static java.lang.String.format;
  *
  * <p>It is required that the runtime Java class of the two compared values is the same. Otherwise,
  * an {@code IllegalArgumentException} is thrown.
+ *
+ * <h3>Typed evaluation</h3>
+ *
+ * <p>When the type of the compared values is known in advance, the typed methods such as
+ * {@link #evalInt(int, int) evalInt()} or {@link #evalTimestamp(Timestamp, Timestamp)
+ * evalTimestamp()} avoid the runtime type checks and boxing. To evaluate many values of
+ * the same column, obtain an {@linkplain #evaluatorFor(Class) evaluator} for the column type
+ * once, and then use it for each value.
  */
 public enum ComparisonOperator {
 
@@ -61,6 +71,11 @@ public enum ComparisonOperator {
             return Objects.equals(left, right);
         }
 
+        @Override
+        boolean accepts(int comparison) {
+            return comparison == 0;
+        }
+
         @Override
         public String toString() {
             return "==";
@@ -73,7 +88,12 @@ public enum ComparisonOperator {
     LESS_THAN {
         @Override
         public boolean eval(@Nullable Object left, @Nullable Object right) {
-            return GREATER_THAN.eval(right, left);
+            return left != null && right != null && compareOrdered(left, right) < 0;
+        }
+
+        @Override
+        boolean accepts(int comparison) {
+            return comparison < 0;
         }
 
         @Override
@@ -88,8 +108,15 @@ public enum ComparisonOperator {
     LESS_OR_EQUALS {
         @Override
         public boolean eval(@Nullable Object left, @Nullable Object right) {
-            return LESS_THAN.eval(left, right)
-                    || EQUALS.eval(left, right);
+            if (left == null || right == null) {
+                return left == right;
+            }
+            return compareOrdered(left, right) <= 0;
+        }
+
+        @Override
+        boolean accepts(int comparison) {
+            return comparison <= 0;
         }
 
         @Override
@@ -102,37 +129,14 @@ public enum ComparisonOperator {
      * The actual value must be greater than the value of the subject parameter.
      */
     GREATER_THAN {
-        @SuppressWarnings({"ChainOfInstanceofChecks", // Generic but limited operand types.
-                "rawtypes", "unchecked"               // Types are checked at runtime.
-        })
         @Override
         public boolean eval(@Nullable Object left, @Nullable Object right) {
-            if (left == null || right == null) {
-                return false;
-            }
-            if (left.getClass() != right.getClass()) {
-                throw new IllegalArgumentException(
-                        format("Cannot compare an instance of %s to an instance of %s.",
-                               left.getClass(),
-                               right.getClass())
-                );
-            }
-            if (left instanceof Timestamp) {
-                var firstT = (Timestamp) left;
-                var secondT = (Timestamp) right;
-                return Timestamps.compare(firstT, secondT) > 0;
-            }
-            if (left instanceof Comparable<?>) {
-                Comparable cmpLeft = (Comparable<?>) left;
-                Comparable cmpRight = (Comparable<?>) right;
-                var comparisonResult = cmpLeft.compareTo(cmpRight);
-                return comparisonResult > 0;
-            }
-            throw new UnsupportedOperationException(format(
-                    "Comparison operations are not supported for type %s.",
-                    left.getClass()
-                        .getCanonicalName())
-            );
+            return left != null && right != null && compareOrdered(left, right) > 0;
+        }
+
+        @Override
+        boolean accepts(int comparison) {
+            return comparison > 0;
         }
 
         @Override
@@ -147,8 +151,15 @@ public enum ComparisonOperator {
     GREATER_OR_EQUALS {
         @Override
         public boolean eval(@Nullable Object left, @Nullable Object right) {
-            return GREATER_THAN.eval(left, right)
-                    || EQUALS.eval(left, right);
+            if (left == null || right == null) {
+                return left == right;
+            }
+            return compareOrdered(left, right) >= 0;
+        }
+
+        @Override
+        boolean accepts(int comparison) {
+            return comparison >= 0;
         }
 
         @Override
@@ -163,4 +174,171 @@ public enum ComparisonOperator {
      * @return {@code true} if the expression evaluates into {@code true}, {@code false} otherwise
      */
     public abstract boolean eval(@Nullable Object left, @Nullable Object right);
+
+    /**
+     * Tells whether the result of comparing the actual value to the value of the subject
+     * parameter satisfies this operator.
+     *
+     * @param comparison
+     *         the result of the comparison in the sense of {@link Comparator#compare}
+     */
+    abstract boolean accepts(int comparison);
+
+    /**
+     * Evaluates the expression for two {@code int} operands.
+     */
+    public final boolean evalInt(int left, int right) {
+        return accepts(Integer.compare(left, right));
+    }
+
+    /**
+     * Evaluates the expression for two {@code long} operands.
+     */
+    public final boolean evalLong(long left, long right) {
+        return accepts(Long.compare(left, right));
+    }
+
+    /**
+     * Evaluates the expression for two {@code double} operands.
+     *
+     * <p>The operands are compared via {@link Double#compare}, which is consistent with
+     * the comparison of the {@code Double} values by {@link #eval(Object, Object) eval()}.
+     */
+    public final boolean evalDouble(double left, double right) {
+        return accepts(Double.compare(left, right));
+    }
+
+    /**
+     * Evaluates the expression for two {@code Timestamp} operands.
+     *
+     * <p>The {@code null} operands are treated the same way as by
+     * {@link #eval(Object, Object) eval()}.
+     */
+    public final boolean evalTimestamp(@Nullable Timestamp left, @Nullable Timestamp right) {
+        if (left == null || right == null) {
+            return acceptsNulls(left, right);
+        }
+        return accepts(Timestamps.compare(left, right));
+    }
+
+    /**
+     * Evaluates the expression for two operands ordered by the passed comparator.
+     *
+     * <p>The {@code null} operands are never passed to the comparator. They are treated
+     * the same way as by {@link #eval(Object, Object) eval()}.
+     */
+    public final <T> boolean eval(@Nullable T left,
+                                  @Nullable T right,
+                                  Comparator<? super T> comparator) {
+        if (left == null || right == null) {
+            return acceptsNulls(left, right);
+        }
+        return accepts(comparator.compare(left, right));
+    }
+
+    /**
+     * Returns an evaluator of this operator for the values of the passed type.
+     *
+     * <p>The evaluator is specialized for the type once, so that evaluating it
+     * does not involve the runtime type checks. The values of {@code Integer}, {@code Long},
+     * {@code Double} and {@code Timestamp} types are compared without calling
+     * the generic {@code compareTo()}.
+     *
+     * <p>For the types not supporting the ordering, the evaluator of an order-based
+     * operator throws an {@code UnsupportedOperationException} once evaluated
+     * for two non-{@code null} values.
+     *
+     * @param type
+     *         the type of the compared values
+     * @param <V>
+     *         the type of the compared values
+     * @return the evaluator of this operator
+     */
+    @SuppressWarnings({"ChainOfInstanceofChecks", // Generic but limited operand types.
+            "unchecked", "rawtypes"               // Ensured by the type check.
+    })
+    public final <V> Evaluator<V> evaluatorFor(Class<V> type) {
+        checkNotNull(type);
+        if (this == EQUALS) {
+            return Objects::equals;
+        }
+        Evaluator<?> result;
+        if (type == Integer.class) {
+            result = (Evaluator<Integer>) (l, r) -> l != null && r != null
+                    ? evalInt(l, r)
+                    : acceptsNulls(l, r);
+        } else if (type == Long.class) {
+            result = (Evaluator<Long>) (l, r) -> l != null && r != null
+                    ? evalLong(l, r)
+                    : acceptsNulls(l, r);
+        } else if (type == Double.class) {
+            result = (Evaluator<Double>) (l, r) -> l != null && r != null
+                    ? evalDouble(l, r)
+                    : acceptsNulls(l, r);
+        } else if (type == Timestamp.class) {
+            result = (Evaluator<Timestamp>) this::evalTimestamp;
+        } else if (Comparable.class.isAssignableFrom(type)) {
+            result = (Evaluator<Comparable>) (l, r) -> eval(l, r, Comparable::compareTo);
+        } else {
+            result = this::eval;
+        }
+        return (Evaluator<V>) result;
+    }
+
+    /**
+     * Evaluates the expression in case any of the operands is {@code null}.
+     */
+    private boolean acceptsNulls(@Nullable Object left, @Nullable Object right) {
+        return left == right && accepts(0);
+    }
+
+    /**
+     * Compares two non-{@code null} values supporting the ordering.
+     *
+     * @throws IllegalArgumentException
+     *         if the values are of different types
+     * @throws UnsupportedOperationException
+     *         if the values do not support the ordering
+     */
+    @SuppressWarnings({"ChainOfInstanceofChecks", // Generic but limited operand types.
+            "rawtypes", "unchecked"               // Types are checked at runtime.
+    })
+    private static int compareOrdered(Object left, Object right) {
+        if (left.getClass() != right.getClass()) {
+            throw new IllegalArgumentException(
+                    format("Cannot compare an instance of %s to an instance of %s.",
+                           left.getClass(),
+                           right.getClass())
+            );
+        }
+        if (left instanceof Timestamp) {
+            return Timestamps.compare((Timestamp) left, (Timestamp) right);
+        }
+        if (left instanceof Comparable<?>) {
+            Comparable cmpLeft = (Comparable<?>) left;
+            Comparable cmpRight = (Comparable<?>) right;
+            return cmpLeft.compareTo(cmpRight);
+        }
+        throw new UnsupportedOperationException(format(
+                "Comparison operations are not supported for type %s.",
+                left.getClass()
+                    .getCanonicalName())
+        );
+    }
+
+    /**
+     * Evaluates a {@code ComparisonOperator} for two values of a known type.
+     *
+     * @param <V>
+     *         the type of the compared values
+     * @see #evaluatorFor(Class)
+     */
+    @FunctionalInterface
+    public interface Evaluator<V> {
+
+        /**
+         * Evaluates the operator for the actual value and the value of the subject parameter.
+         */
+        boolean eval(@Nullable V left, @Nullable V right);
+    }
 }
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.query;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.function.Predicate;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.query.LogicalOperator.AND;
+
+/**
+ * A {@link QueryPredicate} prepared for the evaluation against the records in memory.
+ *
+ * <p>The predicate tree is compiled once into the tests of the parameters and the compiled
+ * child predicates. The compiled predicate may then be evaluated against many records
+ * without traversing the original predicate structure.
+ *
+ * <p>Each parameter is evaluated using the {@linkplain ComparisonOperator#evaluatorFor(Class)
+ * evaluator} specialized for the type of its column.
+ *
+ * <p>The parameters addressing the {@linkplain CustomColumn custom columns} are evaluated
+ * by passing the record itself as the source of the column value.
+ *
+ * <p>An empty predicate matches any record.
+ *
+ * <p>The instances of this type are immutable and thread-safe, provided that
+ * the getters of the columns are.
+ *
+ * @param <R>
+ *         the type of the evaluated records
+ */
+public final class CompiledPredicate<R> implements Predicate<R> {
+
+    private final boolean conjunction;
+    private final ImmutableList<ParameterTest<R>> tests;
+    private final ImmutableList<CompiledPredicate<R>> children;
+
+    private CompiledPredicate(boolean conjunction,
+                              ImmutableList<ParameterTest<R>> tests,
+                              ImmutableList<CompiledPredicate<R>> children) {
+        this.conjunction = conjunction;
+        this.tests = tests;
+        this.children = children;
+    }
+
+    /**
+     * Compiles the passed predicate.
+     *
+     * @param predicate
+     *         the predicate to compile
+     * @param <R>
+     *         the type of the evaluated records
+     * @return a new compiled predicate
+     */
+    public static <R> CompiledPredicate<R> compile(QueryPredicate<R> predicate) {
+        checkNotNull(predicate);
+        var tests = ImmutableList.<ParameterTest<R>>builder();
+        for (var parameter : predicate.parameters()) {
+            tests.add(testOf(parameter));
+        }
+        for (var parameter : predicate.customParameters()) {
+            tests.add(testOfCustom(parameter));
+        }
+        var children = ImmutableList.<CompiledPredicate<R>>builder();
+        for (var child : predicate.children()) {
+            children.add(compile(child));
+        }
+        return new CompiledPredicate<>(predicate.operator() == AND,
+                                       tests.build(),
+                                       children.build());
+    }
+
+    @SuppressWarnings("unchecked")  /* The value of the parameter is of the column type. */
+    private static <R> ParameterTest<R> testOf(SubjectParameter<R, ?, ?> parameter) {
+        var column = (Column<R, Object>) parameter.column();
+        var evaluator = parameter.operator()
+                                 .evaluatorFor((Class<Object>) column.type());
+        var expected = parameter.value();
+        return record -> evaluator.eval(column.valueIn(record), expected);
+    }
+
+    @SuppressWarnings("unchecked")  /* See the class-level docs on custom columns. */
+    private static <R> ParameterTest<R> testOfCustom(CustomSubjectParameter<?, ?> parameter) {
+        var column = (Column<Object, Object>) parameter.column();
+        var evaluator = parameter.operator()
+                                 .evaluatorFor((Class<Object>) column.type());
+        var expected = parameter.value();
+        return record -> evaluator.eval(column.valueIn(record), expected);
+    }
+
+    /**
+     * Tells whether the passed record matches this predicate.
+     */
+    @Override
+    public boolean test(R record) {
+        if (tests.isEmpty() && children.isEmpty()) {
+            return true;
+        }
+        return conjunction ? testAll(record) : testAny(record);
+    }
+
+    @SuppressWarnings("ForLoopReplaceableByForEach")    /* Avoid iterators in the hot loop. */
+    private boolean testAll(R record) {
+        for (int i = 0, size = tests.size(); i < size; i++) {
+            if (!tests.get(i).test(record)) {
+                return false;
+            }
+        }
+        for (int i = 0, size = children.size(); i < size; i++) {
+            if (!children.get(i).test(record)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @SuppressWarnings("ForLoopReplaceableByForEach")    /* Avoid iterators in the hot loop. */
+    private boolean testAny(R record) {
+        for (int i = 0, size = tests.size(); i < size; i++) {
+            if (tests.get(i).test(record)) {
+                return true;
+            }
+        }
+        for (int i = 0, size = children.size(); i < size; i++) {
+            if (children.get(i).test(record)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tests a record against a single query parameter.
+     *
+     * @param <R>
+     *         the type of the evaluated records
+     */
+    @FunctionalInterface
+    private interface ParameterTest<R> {
+
+        boolean test(R record);
+    }
+}
@@ -57,4 +57,11 @@ public final class CustomSubjectParameter<S, V> extends SubjectParameter<S, Colu
     CustomSubjectParameter(CustomColumn<S, V> column, V value, ComparisonOperator operator) {
         super(column, operator, value);
     }
+
+    @Override
+    @SuppressWarnings("unchecked")  /* See the contract of the overridden method. */
+    CustomSubjectParameter<S, V> withValue(Object value) {
+        var column = (CustomColumn<S, V>) column();
+        return new CustomSubjectParameter<>(column, (V) value, operator());
+    }
 }
@@ -54,4 +54,10 @@ final class EntitySubjectParameter<S extends EntityState<?>, V>
     EntitySubjectParameter(EntityColumn<S, V> column, V value, ComparisonOperator operator) {
         super(column, operator, value);
     }
+
+    @Override
+    @SuppressWarnings("unchecked")  /* See the contract of the overridden method. */
+    EntitySubjectParameter<S, V> withValue(Object value) {
+        return new EntitySubjectParameter<>(column(), (V) value, operator());
+    }
 }
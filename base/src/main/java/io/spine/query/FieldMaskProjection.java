@@ -0,0 +1,562 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.query;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.EnumValueDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.FieldMask;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.google.protobuf.MessageLite;
+import io.spine.annotation.SPI;
+import io.spine.protobuf.Messages;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.protobuf.WireFormat.WIRETYPE_END_GROUP;
+import static com.google.protobuf.WireFormat.WIRETYPE_LENGTH_DELIMITED;
+import static com.google.protobuf.WireFormat.WIRETYPE_START_GROUP;
+import static com.google.protobuf.WireFormat.getTagFieldNumber;
+import static com.google.protobuf.WireFormat.getTagWireType;
+import static io.spine.util.Exceptions.illegalStateWithCauseOf;
+
+/**
+ * Applies a {@link FieldMask} to the records returned by a {@link Query}.
+ *
+ * <p>The mask is compiled against the descriptor of the record type once. The compiled
+ * projection holds the field descriptors sorted by their numbers, along with the nested
+ * projections for the paths pointing to the fields of the nested messages.
+ * Such a projection may be applied to many records without parsing the mask again.
+ *
+ * <p>The projection may be applied in three ways:
+ *
+ * <ol>
+ *     <li>{@link #project(Message)} creates a new message with only the masked fields set.
+ *
+ *     <li>{@link #writeTo(Message, OutputStream)} writes the wire bytes of the masked fields
+ *     of the record directly, without creating the masked message.
+ *
+ *     <li>{@link #transcode(CodedInputStream, CodedOutputStream)} copies the masked fields
+ *     from the serialized record to the output. The fields which are not masked
+ *     are skipped without being parsed. This is the most efficient way for the storages
+ *     which keep the records in their serialized form.
+ * </ol>
+ *
+ * <p>The semantics of the mask application is the same as of
+ * {@link com.google.protobuf.util.FieldMaskUtil#merge(FieldMask, Message, Message.Builder)
+ * FieldMaskUtil.merge(..)}. If the mask is empty, the records are returned as-is,
+ * as defined by the contract of {@link Query#mask()}.
+ *
+ * <p>The instances of this type are immutable and thread-safe.
+ *
+ * @param <R>
+ *         the type of the projected records
+ */
+@SPI
+public final class FieldMaskProjection<R extends Message> {
+
+    private final Descriptor type;
+    private final @Nullable Plan plan;
+
+    private FieldMaskProjection(Descriptor type, @Nullable Plan plan) {
+        this.type = type;
+        this.plan = plan;
+    }
+
+    /**
+     * Compiles the projection of the records of the passed descriptor.
+     *
+     * @param type
+     *         the descriptor of the projected records
+     * @param mask
+     *         the mask to apply
+     * @return a new projection
+     * @throws IllegalArgumentException
+     *         if the mask contains paths which are not valid for the passed type
+     */
+    public static FieldMaskProjection<Message> compile(Descriptor type, FieldMask mask) {
+        checkNotNull(type);
+        checkNotNull(mask);
+        return create(type, mask);
+    }
+
+    /**
+     * Compiles the projection of the records of the passed class.
+     *
+     * @param type
+     *         the class of the projected records
+     * @param mask
+     *         the mask to apply
+     * @param <R>
+     *         the type of the projected records
+     * @return a new projection
+     * @throws IllegalArgumentException
+     *         if the mask contains paths which are not valid for the passed type
+     */
+    public static <R extends Message> FieldMaskProjection<R>
+    compile(Class<R> type, FieldMask mask) {
+        checkNotNull(type);
+        checkNotNull(mask);
+        var descriptor = Messages.getDefaultInstance(type)
+                                 .getDescriptorForType();
+        return create(descriptor, mask);
+    }
+
+    /**
+     * Compiles the projection for the {@linkplain Query#mask() mask} of the passed query.
+     *
+     * @param query
+     *         the query which mask to apply
+     * @param <R>
+     *         the type of the queried records
+     * @return a new projection
+     */
+    public static <R extends Message> FieldMaskProjection<R> of(Query<?, R> query) {
+        checkNotNull(query);
+        var recordType = query.subject()
+                              .recordType();
+        return compile(recordType, query.mask());
+    }
+
+    private static <R extends Message> FieldMaskProjection<R>
+    create(Descriptor type, FieldMask mask) {
+        var plan = mask.getPathsCount() == 0
+                   ? null
+                   : Plan.compile(type, mask.getPathsList());
+        return new FieldMaskProjection<>(type, plan);
+    }
+
+    /**
+     * Tells whether this projection returns the records as-is.
+     *
+     * <p>It is the case if the projection is created for an empty mask.
+     */
+    public boolean isIdentity() {
+        return plan == null;
+    }
+
+    /**
+     * Creates a copy of the passed record with only the masked fields set.
+     *
+     * @param record
+     *         the record to project
+     * @return the masked message or the passed record, if this projection
+     *         {@linkplain #isIdentity() is an identity}
+     */
+    @SuppressWarnings("unchecked") // The builder is created for the type of the record.
+    public R project(R record) {
+        checkType(record);
+        if (plan == null) {
+            return record;
+        }
+        return (R) plan.project(record);
+    }
+
+    /**
+     * Writes the masked fields of the passed record to the output in the Protobuf
+     * binary format.
+     *
+     * <p>The fields are written in the order of their numbers, so that the bytes written
+     * are the same as if the {@linkplain #project(Message) projected message}
+     * were serialized.
+     *
+     * <p>This method does not close or flush the passed stream.
+     *
+     * @param record
+     *         the record to project
+     * @param output
+     *         the stream to write to
+     * @throws IOException
+     *         if writing fails
+     */
+    public void writeTo(R record, OutputStream output) throws IOException {
+        checkType(record);
+        checkNotNull(output);
+        var coded = CodedOutputStream.newInstance(output);
+        writeTo(record, coded);
+        coded.flush();
+    }
+
+    /**
+     * Writes the masked fields of the passed record to the output in the Protobuf
+     * binary format.
+     *
+     * <p>This method does not flush the passed stream.
+     *
+     * @see #writeTo(Message, OutputStream)
+     */
+    public void writeTo(R record, CodedOutputStream output) throws IOException {
+        checkType(record);
+        checkNotNull(output);
+        if (plan == null) {
+            record.writeTo(output);
+        } else {
+            plan.write(record, output);
+        }
+    }
+
+    /**
+     * Copies the masked fields of a serialized record from the input to the output.
+     *
+     * <p>The fields which are not masked are skipped on the wire level. The masked fields are
+     * copied without being parsed, unless the mask points to some of their nested fields.
+     *
+     * <p>The input is read until its end or the current limit.
+     * This method does not flush the output.
+     *
+     * @param input
+     *         the serialized record
+     * @param output
+     *         the stream to write the masked record to
+     * @throws IOException
+     *         if the input is not a valid serialized record, or reading or writing fails
+     */
+    public void transcode(CodedInputStream input, CodedOutputStream output) throws IOException {
+        checkNotNull(input);
+        checkNotNull(output);
+        if (plan == null) {
+            copyAll(input, output);
+        } else {
+            plan.transcode(input, output);
+        }
+    }
+
+    /**
+     * Projects the serialized record.
+     *
+     * @param record
+     *         the bytes of the record
+     * @return the bytes of the masked record
+     * @throws InvalidProtocolBufferException
+     *         if the passed bytes are not a valid serialized record
+     * @see #transcode(CodedInputStream, CodedOutputStream)
+     */
+    public ByteString transcode(ByteString record) throws InvalidProtocolBufferException {
+        checkNotNull(record);
+        if (plan == null) {
+            return record;
+        }
+        var result = ByteString.newOutput(record.size());
+        var output = CodedOutputStream.newInstance(result);
+        try {
+            plan.transcode(record.newCodedInput(), output);
+            output.flush();
+        } catch (InvalidProtocolBufferException e) {
+            throw e;
+        } catch (IOException e) {
+            throw illegalStateWithCauseOf(e);
+        }
+        return result.toByteString();
+    }
+
+    private void checkType(R record) {
+        checkNotNull(record);
+        checkArgument(record.getDescriptorForType().equals(type),
+                      "Expected a record of type `%s`, but got `%s`.",
+                      type.getFullName(), record.getDescriptorForType().getFullName());
+    }
+
+    private static void copyAll(CodedInputStream input, CodedOutputStream output)
+            throws IOException {
+        var tag = input.readTag();
+        while (tag != 0) {
+            input.skipField(tag, output);
+            tag = input.readTag();
+        }
+    }
+
+    /**
+     * The compiled projection of a message type.
+     */
+    private static final class Plan {
+
+        /**
+         * The numbers of the masked fields, sorted in the ascending order.
+         */
+        private final int[] numbers;
+
+        /**
+         * The masked fields, in the same order as {@link #numbers}.
+         */
+        private final FieldDescriptor[] fields;
+
+        /**
+         * The projections of the masked message fields, in the same order as {@link #numbers}.
+         *
+         * <p>If the field is masked as a whole, the corresponding element is {@code null}.
+         */
+        private final @Nullable Plan[] nested;
+
+        private Plan(int[] numbers, FieldDescriptor[] fields, @Nullable Plan[] nested) {
+            this.numbers = numbers;
+            this.fields = fields;
+            this.nested = nested;
+        }
+
+        /**
+         * Compiles the plan for the passed field paths.
+         *
+         * <p>If a field is masked both as a whole and by some of its nested fields,
+         * it is masked as a whole.
+         */
+        private static Plan compile(Descriptor type, Collection<String> paths) {
+            Map<String, @Nullable List<String>> subPaths = new HashMap<>();
+            for (var path : paths) {
+                var dot = path.indexOf('.');
+                if (dot < 0) {
+                    subPaths.put(path, null);
+                    continue;
+                }
+                var name = path.substring(0, dot);
+                if (subPaths.containsKey(name) && subPaths.get(name) == null) {
+                    continue;
+                }
+                subPaths.computeIfAbsent(name, k -> new ArrayList<>())
+                        .add(path.substring(dot + 1));
+            }
+            List<FieldDescriptor> masked = new ArrayList<>(subPaths.size());
+            for (var name : subPaths.keySet()) {
+                var field = type.findFieldByName(name);
+                checkArgument(field != null,
+                              "The type `%s` has no field named `%s`.",
+                              type.getFullName(), name);
+                masked.add(field);
+            }
+            masked.sort(Comparator.comparingInt(FieldDescriptor::getNumber));
+
+            var size = masked.size();
+            var numbers = new int[size];
+            var fields = new FieldDescriptor[size];
+            var nested = new @Nullable Plan[size];
+            for (var i = 0; i < size; i++) {
+                var field = masked.get(i);
+                numbers[i] = field.getNumber();
+                fields[i] = field;
+                var fieldPaths = subPaths.get(field.getName());
+                if (fieldPaths != null) {
+                    checkArgument(isSingularMessage(field),
+                                  "The field `%s` is not a singular message field," +
+                                          " so its nested fields cannot be masked.",
+                                  field.getFullName());
+                    nested[i] = compile(field.getMessageType(), fieldPaths);
+                }
+            }
+            return new Plan(numbers, fields, nested);
+        }
+
+        private static boolean isSingularMessage(FieldDescriptor field) {
+            return field.getJavaType() == FieldDescriptor.JavaType.MESSAGE
+                    && !field.isRepeated();
+        }
+
+        private Message project(Message message) {
+            var builder = message.newBuilderForType();
+            for (var i = 0; i < fields.length; i++) {
+                var field = fields[i];
+                if (!isSet(message, field)) {
+                    continue;
+                }
+                var value = message.getField(field);
+                var plan = nested[i];
+                if (plan != null) {
+                    value = plan.project((Message) value);
+                }
+                builder.setField(field, value);
+            }
+            return builder.build();
+        }
+
+        private void write(Message message, CodedOutputStream output) throws IOException {
+            for (var i = 0; i < fields.length; i++) {
+                var field = fields[i];
+                if (!isSet(message, field)) {
+                    continue;
+                }
+                var value = message.getField(field);
+                var plan = nested[i];
+                if (plan != null) {
+                    var projected = plan.project((Message) value);
+                    output.writeMessage(field.getNumber(), projected);
+                } else {
+                    WireValues.write(field, value, output);
+                }
+            }
+        }
+
+        private static boolean isSet(Message message, FieldDescriptor field) {
+            return field.isRepeated()
+                   ? message.getRepeatedFieldCount(field) > 0
+                   : message.hasField(field);
+        }
+
+        private void transcode(CodedInputStream input, CodedOutputStream output)
+                throws IOException {
+            var tag = input.readTag();
+            while (tag != 0) {
+                var index = Arrays.binarySearch(numbers, getTagFieldNumber(tag));
+                if (index < 0) {
+                    input.skipField(tag);
+                } else {
+                    var plan = nested[index];
+                    if (plan == null || getTagWireType(tag) != WIRETYPE_LENGTH_DELIMITED) {
+                        input.skipField(tag, output);
+                    } else {
+                        plan.transcodeNested(getTagFieldNumber(tag), input, output);
+                    }
+                }
+                tag = input.readTag();
+            }
+        }
+
+        private void transcodeNested(int number, CodedInputStream input, CodedOutputStream output)
+                throws IOException {
+            var length = input.readRawVarint32();
+            var oldLimit = input.pushLimit(length);
+            var buffer = ByteString.newOutput(length);
+            var nestedOutput = CodedOutputStream.newInstance(buffer);
+            transcode(input, nestedOutput);
+            nestedOutput.flush();
+            input.popLimit(oldLimit);
+            output.writeBytes(number, buffer.toByteString());
+        }
+    }
+
+    /**
+     * Writes the field values obtained via the Protobuf reflection API in the binary format.
+     */
+    private static final class WireValues {
+
+        /** Prevents the utility class instantiation. */
+        private WireValues() {
+        }
+
+        private static void write(FieldDescriptor field, Object value, CodedOutputStream output)
+                throws IOException {
+            var number = field.getNumber();
+            if (!field.isRepeated()) {
+                writeElement(field, number, value, output);
+                return;
+            }
+            var values = (List<?>) value;
+            if (field.isPacked()) {
+                var size = 0;
+                for (var element : values) {
+                    size += sizeNoTag(field.getType(), element);
+                }
+                output.writeTag(number, WIRETYPE_LENGTH_DELIMITED);
+                output.writeUInt32NoTag(size);
+                for (var element : values) {
+                    writeNoTag(field.getType(), element, output);
+                }
+            } else {
+                for (var element : values) {
+                    writeElement(field, number, element, output);
+                }
+            }
+        }
+
+        private static void
+        writeElement(FieldDescriptor field, int number, Object value, CodedOutputStream output)
+                throws IOException {
+            var type = field.getType();
+            if (type == FieldDescriptor.Type.GROUP) {
+                output.writeTag(number, WIRETYPE_START_GROUP);
+                ((MessageLite) value).writeTo(output);
+                output.writeTag(number, WIRETYPE_END_GROUP);
+                return;
+            }
+            output.writeTag(number, field.getLiteType().getWireType());
+            writeNoTag(type, value, output);
+        }
+
+        @SuppressWarnings("OverlyComplexMethod") // One branch per field type.
+        private static void writeNoTag(FieldDescriptor.Type type,
+                                       Object value,
+                                       CodedOutputStream output) throws IOException {
+            switch (type) {
+                case DOUBLE: output.writeDoubleNoTag((Double) value); break;
+                case FLOAT: output.writeFloatNoTag((Float) value); break;
+                case INT64: output.writeInt64NoTag((Long) value); break;
+                case UINT64: output.writeUInt64NoTag((Long) value); break;
+                case INT32: output.writeInt32NoTag((Integer) value); break;
+                case FIXED64: output.writeFixed64NoTag((Long) value); break;
+                case FIXED32: output.writeFixed32NoTag((Integer) value); break;
+                case BOOL: output.writeBoolNoTag((Boolean) value); break;
+                case STRING: output.writeStringNoTag((String) value); break;
+                case BYTES: output.writeBytesNoTag((ByteString) value); break;
+                case UINT32: output.writeUInt32NoTag((Integer) value); break;
+                case ENUM: output.writeEnumNoTag(((EnumValueDescriptor) value).getNumber()); break;
+                case SFIXED32: output.writeSFixed32NoTag((Integer) value); break;
+                case SFIXED64: output.writeSFixed64NoTag((Long) value); break;
+                case SINT32: output.writeSInt32NoTag((Integer) value); break;
+                case SINT64: output.writeSInt64NoTag((Long) value); break;
+                case MESSAGE: output.writeMessageNoTag((MessageLite) value); break;
+                default:
+                    throw new IllegalArgumentException("Unexpected field type: " + type);
+            }
+        }
+
+        @SuppressWarnings("OverlyComplexMethod") // One branch per packable field type.
+        private static int sizeNoTag(FieldDescriptor.Type type, Object value) {
+            switch (type) {
+                case DOUBLE: return CodedOutputStream.computeDoubleSizeNoTag((Double) value);
+                case FLOAT: return CodedOutputStream.computeFloatSizeNoTag((Float) value);
+                case INT64: return CodedOutputStream.computeInt64SizeNoTag((Long) value);
+                case UINT64: return CodedOutputStream.computeUInt64SizeNoTag((Long) value);
+                case INT32: return CodedOutputStream.computeInt32SizeNoTag((Integer) value);
+                case FIXED64: return CodedOutputStream.computeFixed64SizeNoTag((Long) value);
+                case FIXED32: return CodedOutputStream.computeFixed32SizeNoTag((Integer) value);
+                case BOOL: return CodedOutputStream.computeBoolSizeNoTag((Boolean) value);
+                case UINT32: return CodedOutputStream.computeUInt32SizeNoTag((Integer) value);
+                case ENUM:
+                    return CodedOutputStream.computeEnumSizeNoTag(
+                            ((EnumValueDescriptor) value).getNumber());
+                case SFIXED32: return CodedOutputStream.computeSFixed32SizeNoTag((Integer) value);
+                case SFIXED64: return CodedOutputStream.computeSFixed64SizeNoTag((Long) value);
+                case SINT32: return CodedOutputStream.computeSInt32SizeNoTag((Integer) value);
+                case SINT64: return CodedOutputStream.computeSInt64SizeNoTag((Long) value);
+                default:
+                    throw new IllegalArgumentException("The field type is not packable: " + type);
+            }
+        }
+    }
+}
@@ -34,6 +34,7 @@ import org.jspecify.annotations.Nullable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -80,6 +81,22 @@ public final class QueryPredicate<R> {
         this.children = ImmutableList.copyOf(builder.children);
     }
 
+    /**
+     * Creates a new {@code Predicate} from the already prepared parts.
+     *
+     * <p>Unlike the {@code Builder}-based constructor, does not apply any simplifications
+     * to the structure of the predicate.
+     */
+    private QueryPredicate(LogicalOperator operator,
+                           ImmutableList<SubjectParameter<R, ?, ?>> parameters,
+                           ImmutableList<CustomSubjectParameter<?, ?>> customParameters,
+                           ImmutableList<QueryPredicate<R>> children) {
+        this.operator = operator;
+        this.parameters = parameters;
+        this.customParameters = customParameters;
+        this.children = children;
+    }
+
     /**
      * Creates a new instance of builder for the top-level predicate
      * with the specified logical operator.
@@ -191,6 +208,40 @@ public final class QueryPredicate<R> {
         return children().isEmpty() && allParams().isEmpty();
     }
 
+    /**
+     * Creates a copy of this predicate, in which the value of each parameter is replaced
+     * with the one returned by the passed function.
+     *
+     * <p>The structure of the predicate tree is preserved as-is. The parameters are visited
+     * in the following order: the parameters for own columns, the parameters for custom
+     * columns, and then the parameters of each child predicate, recursively.
+     *
+     * @param newValue
+     *         the function returning the new value for the passed parameter
+     */
+    QueryPredicate<R> withValues(Function<SubjectParameter<?, ?, ?>, Object> newValue) {
+        var newParams =
+                ImmutableList.<SubjectParameter<R, ?, ?>>builderWithExpectedSize(parameters.size());
+        for (var parameter : parameters) {
+            newParams.add(parameter.withValue(newValue.apply(parameter)));
+        }
+        var newCustomParams =
+                ImmutableList.<CustomSubjectParameter<?, ?>>builderWithExpectedSize(
+                        customParameters.size());
+        for (var parameter : customParameters) {
+            newCustomParams.add(parameter.withValue(newValue.apply(parameter)));
+        }
+        var newChildren =
+                ImmutableList.<QueryPredicate<R>>builderWithExpectedSize(children.size());
+        for (var child : children) {
+            newChildren.add(child.withValues(newValue));
+        }
+        return new QueryPredicate<>(operator,
+                                    newParams.build(),
+                                    newCustomParams.build(),
+                                    newChildren.build());
+    }
+
     private static <R> void copyChildren(QueryPredicate<R> predicate, Builder<R> builder) {
         for (var child : predicate.children) {
             builder.addPredicate(child);
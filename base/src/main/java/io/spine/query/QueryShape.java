@@ -0,0 +1,294 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.query;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * The structure of a {@link QueryPredicate} with the parameter values replaced by slots.
+ *
+ * <p>Two predicates have equal shapes if they are built of the same logical operators,
+ * columns and comparison operators, arranged in the same way. The values, to which
+ * the columns are compared, do not affect the shape.
+ *
+ * <p>A shape is hashable, so it may serve as a key when caching the results of the costly
+ * transformations of the predicates, such as query planning. The
+ * {@linkplain #bindDnf(List) disjunctive normal form} of the shape is computed once
+ * per shape instance, and then bound to the values of each particular predicate.
+ *
+ * <p>Here is how it plays together with a {@link QueryShapeCache}:
+ *
+ * <pre>
+ * {@literal    QueryShapeCache<Manufacturer, QueryShape<Manufacturer>> cache =              }
+ *             QueryShapeCache.create(shape -> shape, 1_000);
+ *
+ *     // ...
+ *
+ * {@literal    QueryShape.Parameterized<Manufacturer> parameterized =                        }
+ *             QueryShape.parameterize(query.subject().predicate());
+ * {@literal    QueryShape<Manufacturer> shape = cache.planFor(parameterized.shape());        }
+ * {@literal    QueryPredicate<Manufacturer> dnf = shape.bindDnf(parameterized.values());     }
+ * </pre>
+ *
+ * <p>The instances of this type are immutable and thread-safe.
+ *
+ * @param <R>
+ *         the type of the queried records
+ */
+public final class QueryShape<R> {
+
+    /**
+     * The predicate, in which the value of each parameter is a {@link Slot}.
+     */
+    private final QueryPredicate<R> template;
+
+    /**
+     * The number of slots in the shape.
+     */
+    private final int slotCount;
+
+    /**
+     * The hash code of the template, computed once as the shapes are typically
+     * used as keys in hash-based collections.
+     */
+    private final int hashCode;
+
+    /**
+     * The disjunctive normal form of the {@link #template}, computed on demand.
+     */
+    private volatile @Nullable QueryPredicate<R> dnfTemplate;
+
+    private QueryShape(QueryPredicate<R> template, int slotCount) {
+        this.template = template;
+        this.slotCount = slotCount;
+        this.hashCode = template.hashCode();
+    }
+
+    /**
+     * Splits the passed predicate into its shape and the values of its parameters.
+     *
+     * @param predicate
+     *         the predicate to parameterize
+     * @param <R>
+     *         the type of the queried records
+     * @return the shape of the predicate along with the parameter values
+     */
+    public static <R> Parameterized<R> parameterize(QueryPredicate<R> predicate) {
+        checkNotNull(predicate);
+        List<Object> values = new ArrayList<>();
+        var template = predicate.withValues(parameter -> {
+            var slot = new Slot(values.size());
+            values.add(parameter.value());
+            return slot;
+        });
+        var shape = new QueryShape<>(template, values.size());
+        return new Parameterized<>(shape, ImmutableList.copyOf(values));
+    }
+
+    /**
+     * Returns the shape of the passed predicate.
+     */
+    public static <R> QueryShape<R> of(QueryPredicate<R> predicate) {
+        return parameterize(predicate).shape();
+    }
+
+    /**
+     * Returns the number of parameter values required to {@linkplain #bind(List) bind}
+     * this shape.
+     */
+    public int slotCount() {
+        return slotCount;
+    }
+
+    /**
+     * Creates a predicate of this shape with the passed parameter values.
+     *
+     * @param values
+     *         the values of the parameters in the order returned by
+     *         {@link Parameterized#values()}
+     * @return a new predicate
+     * @throws IllegalArgumentException
+     *         if the number of values does not match the {@linkplain #slotCount() slot count},
+     *         or if some value is not of the type of the corresponding column
+     * @throws UnsupportedOperationException
+     *         if the shape has a parameter of a type declared outside of this package
+     */
+    public QueryPredicate<R> bind(List<?> values) {
+        return bindTo(template, values);
+    }
+
+    /**
+     * Creates the disjunctive normal form of the predicate of this shape with the passed
+     * parameter values.
+     *
+     * <p>The transformation into the disjunctive normal form is performed only once
+     * per shape instance. Each consequent call only substitutes the values.
+     *
+     * @param values
+     *         the values of the parameters in the order returned by
+     *         {@link Parameterized#values()}
+     * @return a new predicate in its disjunctive normal form
+     * @throws IllegalArgumentException
+     *         if the number of values does not match the {@linkplain #slotCount() slot count},
+     *         or if some value is not of the type of the corresponding column
+     * @see QueryPredicate#toDnf()
+     */
+    public QueryPredicate<R> bindDnf(List<?> values) {
+        return bindTo(dnfTemplate(), values);
+    }
+
+    private QueryPredicate<R> dnfTemplate() {
+        var result = dnfTemplate;
+        if (result == null) {
+            result = template.toDnf();
+            dnfTemplate = result;
+        }
+        return result;
+    }
+
+    private QueryPredicate<R> bindTo(QueryPredicate<R> target, List<?> values) {
+        checkNotNull(values);
+        checkArgument(values.size() == slotCount,
+                      "Expected %s parameter values, but got %s.", slotCount, values.size());
+        var result = target.withValues(parameter -> {
+            var slot = (Slot) parameter.value();
+            var value = checkNotNull(values.get(slot.index));
+            var columnType = parameter.column().type();
+            checkArgument(columnType.isInstance(value),
+                          "The value `%s` is not of the type `%s` of the column `%s`.",
+                          value, columnType.getName(), parameter.column().name());
+            return value;
+        });
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                          .add("template", template)
+                          .toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof QueryShape)) {
+            return false;
+        }
+        var shape = (QueryShape<?>) o;
+        return hashCode == shape.hashCode &&
+                template.equals(shape.template);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    /**
+     * A placeholder for a parameter value in the template predicate of a shape.
+     */
+    private static final class Slot {
+
+        private final int index;
+
+        private Slot(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public String toString() {
+            return "?" + index;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Slot)) {
+                return false;
+            }
+            return index == ((Slot) o).index;
+        }
+
+        @Override
+        public int hashCode() {
+            return index;
+        }
+    }
+
+    /**
+     * A predicate split into its {@linkplain QueryShape shape} and the values
+     * of its parameters.
+     *
+     * @param <R>
+     *         the type of the queried records
+     */
+    public static final class Parameterized<R> {
+
+        private final QueryShape<R> shape;
+        private final ImmutableList<Object> values;
+
+        private Parameterized(QueryShape<R> shape, ImmutableList<Object> values) {
+            this.shape = shape;
+            this.values = values;
+        }
+
+        /**
+         * Returns the shape of the predicate.
+         */
+        public QueryShape<R> shape() {
+            return shape;
+        }
+
+        /**
+         * Returns the values of the predicate parameters in the order of the shape slots.
+         */
+        public ImmutableList<Object> values() {
+            return values;
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this)
+                              .add("shape", shape)
+                              .add("values", values)
+                              .toString();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.query;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A bounded cache of the compiled forms of the {@linkplain QueryShape query shapes}.
+ *
+ * <p>The compiled form is computed once per distinct shape by the function passed
+ * on creation. The function receives the first instance of the shape added to the cache,
+ * so the form may rely on the values memoized by this instance, such as
+ * the {@linkplain QueryShape#bindDnf(java.util.List) disjunctive normal form}.
+ *
+ * <p>The instances of this type are thread-safe.
+ *
+ * @param <R>
+ *         the type of the queried records
+ * @param <P>
+ *         the type of the compiled form of the shapes
+ */
+public final class QueryShapeCache<R, P> {
+
+    private final Cache<QueryShape<R>, P> cache;
+    private final Function<QueryShape<R>, P> compiler;
+
+    private QueryShapeCache(Function<QueryShape<R>, P> compiler, long maximumSize) {
+        this.compiler = compiler;
+        this.cache = CacheBuilder.newBuilder()
+                                 .maximumSize(maximumSize)
+                                 .build();
+    }
+
+    /**
+     * Creates a new cache.
+     *
+     * @param compiler
+     *         the function computing the compiled form of a shape
+     * @param maximumSize
+     *         the maximum number of the shapes to keep in the cache
+     * @param <R>
+     *         the type of the queried records
+     * @param <P>
+     *         the type of the compiled form of the shapes
+     * @return a new instance of the cache
+     */
+    public static <R, P> QueryShapeCache<R, P>
+    create(Function<QueryShape<R>, P> compiler, long maximumSize) {
+        checkNotNull(compiler);
+        checkArgument(maximumSize > 0, "The maximum size of the cache must be positive.");
+        return new QueryShapeCache<>(compiler, maximumSize);
+    }
+
+    /**
+     * Obtains the compiled form of the passed shape, computing it if the shape
+     * is not yet cached.
+     */
+    public P planFor(QueryShape<R> shape) {
+        checkNotNull(shape);
+        var result = cache.asMap()
+                          .computeIfAbsent(shape, compiler);
+        return result;
+    }
+
+    /**
+     * Obtains the compiled form of the shape of the passed predicate.
+     *
+     * @see #planFor(QueryShape)
+     */
+    public P planFor(QueryPredicate<R> predicate) {
+        checkNotNull(predicate);
+        return planFor(QueryShape.of(predicate));
+    }
+
+    /**
+     * Returns the approximate number of the shapes in this cache.
+     */
+    public long size() {
+        return cache.size();
+    }
+}
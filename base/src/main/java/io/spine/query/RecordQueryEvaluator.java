@@ -0,0 +1,328 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.query;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.protobuf.Message;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.query.Direction.DESC;
+
+/**
+ * Evaluates {@link RecordQuery RecordQueries} against the records held in memory.
+ *
+ * <p>The evaluator {@linkplain CompiledPredicate compiles} the predicate of the query once,
+ * and then tests each record of the {@link RecordSource} against it.
+ *
+ * <p>A parallel evaluator splits the sources of at least
+ * {@linkplain #parallel(ForkJoinPool, int) threshold} records into partitions and evaluates
+ * them on a {@link ForkJoinPool}. If the query defines the sorting directives, each partition
+ * keeps only the top records in the sorting order, limited by the query limit, if it is set.
+ * The partition results are then merged according to the same sorting directives.
+ *
+ * <p>The results are deterministic and do not depend on the evaluation mode.
+ * The records considered equal by the sorting directives, as well as the records
+ * of the queries without sorting, are returned in the order of the source.
+ *
+ * <p>Sorting is supported for the columns of {@code Comparable} types
+ * and {@link com.google.protobuf.Timestamp Timestamp}s. The {@code null} column values
+ * precede all other values in the ascending order.
+ *
+ * <p>The {@linkplain Query#mask() field mask} of the query is applied to the resulting records.
+ */
+public final class RecordQueryEvaluator {
+
+    /**
+     * The default minimal number of records in a source to evaluate it in parallel.
+     */
+    private static final int DEFAULT_THRESHOLD = 10_000;
+
+    /**
+     * The number of partitions per a worker thread of the pool.
+     *
+     * <p>Having more partitions than workers allows the pool to balance the load.
+     */
+    private static final int PARTITIONS_PER_WORKER = 4;
+
+    private static final RecordQueryEvaluator SEQUENTIAL = new RecordQueryEvaluator(null, 0);
+
+    private final @Nullable ForkJoinPool pool;
+    private final int parallelismThreshold;
+
+    private RecordQueryEvaluator(@Nullable ForkJoinPool pool, int parallelismThreshold) {
+        this.pool = pool;
+        this.parallelismThreshold = parallelismThreshold;
+    }
+
+    /**
+     * Returns an evaluator which processes records in the calling thread.
+     */
+    public static RecordQueryEvaluator sequential() {
+        return SEQUENTIAL;
+    }
+
+    /**
+     * Returns an evaluator which uses the {@linkplain ForkJoinPool#commonPool() common pool}
+     * for the sources of at least 10 000 records.
+     */
+    public static RecordQueryEvaluator parallel() {
+        return parallel(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Creates an evaluator which uses the passed pool for large sources.
+     *
+     * @param pool
+     *         the pool to evaluate the partitions in
+     * @param parallelismThreshold
+     *         the minimal number of records in a source to evaluate it in parallel;
+     *         smaller sources are evaluated in the calling thread
+     * @return a new evaluator
+     */
+    public static RecordQueryEvaluator parallel(ForkJoinPool pool, int parallelismThreshold) {
+        checkNotNull(pool);
+        checkArgument(parallelismThreshold > 0,
+                      "The parallelism threshold must be positive, but was %s.",
+                      parallelismThreshold);
+        return new RecordQueryEvaluator(pool, parallelismThreshold);
+    }
+
+    /**
+     * Evaluates the query against the records of the source.
+     *
+     * @param query
+     *         the query to evaluate
+     * @param source
+     *         the records to query
+     * @param <I>
+     *         the type of the record identifiers
+     * @param <R>
+     *         the type of the records
+     * @return the matching records, sorted and limited according to the query
+     */
+    public <I, R extends Message> ImmutableList<R>
+    evaluate(RecordQuery<I, R> query, RecordSource<I, R> source) {
+        checkNotNull(query);
+        checkNotNull(source);
+        var evaluation = new Evaluation<>(query, source);
+        var size = source.size();
+        List<Match<R>> matches;
+        if (pool == null || size < parallelismThreshold) {
+            matches = evaluation.scan(0, size);
+        } else {
+            var partitionSize = Math.max(1, size / (pool.getParallelism() * PARTITIONS_PER_WORKER));
+            var task = new EvaluationTask<>(evaluation, 0, size, partitionSize);
+            matches = pool.invoke(task);
+        }
+        var projection = FieldMaskProjection.of(query);
+        var result = ImmutableList.<R>builderWithExpectedSize(matches.size());
+        for (var match : matches) {
+            result.add(projection.project(match.record));
+        }
+        return result.build();
+    }
+
+    /**
+     * Creates a comparator of the records according to the passed sorting directives.
+     *
+     * @return the comparator, or {@code null} if there are no directives
+     */
+    private static <R extends Message> @Nullable Comparator<R>
+    comparatorOf(List<SortBy<?, R>> sorting) {
+        @Nullable Comparator<R> result = null;
+        for (var sortBy : sorting) {
+            var column = sortBy.column();
+            Comparator<R> byColumn =
+                    (a, b) -> ColumnValues.compare(column.valueIn(a), column.valueIn(b));
+            if (sortBy.direction() == DESC) {
+                byColumn = byColumn.reversed();
+            }
+            result = result == null ? byColumn : result.thenComparing(byColumn);
+        }
+        return result;
+    }
+
+    /**
+     * A record matching the query along with its index in the source.
+     */
+    private static final class Match<R> {
+
+        private final int index;
+        private final R record;
+
+        private Match(int index, R record) {
+            this.index = index;
+            this.record = record;
+        }
+    }
+
+    /**
+     * The evaluation of a particular query against a particular source.
+     */
+    private static final class Evaluation<I, R extends Message> {
+
+        private final RecordSource<I, R> source;
+        private final ImmutableSet<I> ids;
+        private final CompiledPredicate<R> predicate;
+        private final @Nullable Comparator<Match<R>> order;
+        private final @Nullable Integer limit;
+
+        private Evaluation(RecordQuery<I, R> query, RecordSource<I, R> source) {
+            this.source = source;
+            var subject = query.subject();
+            this.ids = subject.id().values();
+            this.predicate = CompiledPredicate.compile(subject.predicate());
+            var comparator = comparatorOf(query.sorting());
+            this.order = comparator == null
+                         ? null
+                         : Comparator.<Match<R>, R>comparing(m -> m.record, comparator)
+                                     .thenComparingInt(m -> m.index);
+            this.limit = query.limit();
+        }
+
+        /**
+         * Evaluates the records in the passed range of indexes.
+         *
+         * @return the matching records in the sorting order, or in the source order,
+         *         if the query defines no sorting
+         */
+        private List<Match<R>> scan(int from, int to) {
+            if (order != null && limit != null) {
+                return scanTop(from, to, order, limit);
+            }
+            List<Match<R>> result = new ArrayList<>();
+            for (var index = from; index < to; index++) {
+                var record = matchingAt(index);
+                if (record != null) {
+                    result.add(new Match<>(index, record));
+                }
+            }
+            if (order != null) {
+                result.sort(order);
+            }
+            return result;
+        }
+
+        private List<Match<R>>
+        scanTop(int from, int to, Comparator<Match<R>> order, int limit) {
+            var top = new PriorityQueue<>(Math.min(limit, to - from) + 1, order.reversed());
+            for (var index = from; index < to; index++) {
+                var record = matchingAt(index);
+                if (record != null) {
+                    top.add(new Match<>(index, record));
+                    if (top.size() > limit) {
+                        top.poll();
+                    }
+                }
+            }
+            List<Match<R>> result = new ArrayList<>(top);
+            result.sort(order);
+            return result;
+        }
+
+        private @Nullable R matchingAt(int index) {
+            if (!ids.isEmpty() && !ids.contains(source.idAt(index))) {
+                return null;
+            }
+            var record = source.recordAt(index);
+            return predicate.test(record) ? record : null;
+        }
+
+        /**
+         * Merges the results of two adjacent partitions, the left one preceding the right one.
+         */
+        private List<Match<R>> merge(List<Match<R>> left, List<Match<R>> right) {
+            if (order == null) {
+                List<Match<R>> result = new ArrayList<>(left.size() + right.size());
+                result.addAll(left);
+                result.addAll(right);
+                return result;
+            }
+            var total = left.size() + right.size();
+            var size = limit == null ? total : Math.min(limit, total);
+            List<Match<R>> result = new ArrayList<>(size);
+            int l = 0;
+            int r = 0;
+            while (result.size() < size) {
+                if (r == right.size()
+                        || (l < left.size() && order.compare(left.get(l), right.get(r)) <= 0)) {
+                    result.add(left.get(l++));
+                } else {
+                    result.add(right.get(r++));
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Evaluates a range of the source records, splitting it in halves until
+     * the partition size is reached.
+     */
+    private static final class EvaluationTask<I, R extends Message>
+            extends RecursiveTask<List<Match<R>>> {
+
+        private static final long serialVersionUID = 0L;
+
+        private final Evaluation<I, R> evaluation;
+        private final int from;
+        private final int to;
+        private final int partitionSize;
+
+        private EvaluationTask(Evaluation<I, R> evaluation, int from, int to, int partitionSize) {
+            super();
+            this.evaluation = evaluation;
+            this.from = from;
+            this.to = to;
+            this.partitionSize = partitionSize;
+        }
+
+        @Override
+        protected List<Match<R>> compute() {
+            if (to - from <= partitionSize) {
+                return evaluation.scan(from, to);
+            }
+            var middle = (from + to) >>> 1;
+            var left = new EvaluationTask<>(evaluation, from, middle, partitionSize);
+            var right = new EvaluationTask<>(evaluation, middle, to, partitionSize);
+            left.fork();
+            var rightResult = right.compute();
+            var leftResult = left.join();
+            return evaluation.merge(leftResult, rightResult);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.query;
+
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * An indexed source of records along with their identifiers.
+ *
+ * <p>The source allows the random access to its records, so that it can be split
+ * into partitions evaluated independently by a {@link RecordQueryEvaluator}.
+ *
+ * @param <I>
+ *         the type of the record identifiers
+ * @param <R>
+ *         the type of the records
+ */
+public interface RecordSource<I, R> {
+
+    /**
+     * Returns the number of records in this source.
+     */
+    int size();
+
+    /**
+     * Returns the identifier of the record at the passed index.
+     */
+    I idAt(int index);
+
+    /**
+     * Returns the record at the passed index.
+     */
+    R recordAt(int index);
+
+    /**
+     * Creates a source over the passed list of records.
+     *
+     * <p>The list is not copied, so it must not be modified while the source is in use.
+     *
+     * @param records
+     *         the list of records allowing the random access to its elements
+     * @param idOf
+     *         the function returning the identifier of a record
+     * @param <I>
+     *         the type of the record identifiers
+     * @param <R>
+     *         the type of the records
+     * @return a new source
+     */
+    static <I, R> RecordSource<I, R> of(List<R> records, Function<? super R, I> idOf) {
+        checkNotNull(records);
+        checkNotNull(idOf);
+        checkArgument(records instanceof RandomAccess,
+                      "The list of records must allow the random access to its elements.");
+        return new RecordSource<>() {
+            @Override
+            public int size() {
+                return records.size();
+            }
+
+            @Override
+            public I idAt(int index) {
+                return idOf.apply(records.get(index));
+            }
+
+            @Override
+            public R recordAt(int index) {
+                return records.get(index);
+            }
+        };
+    }
+
+    /**
+     * Creates a source over the records of the passed map.
+     *
+     * <p>The records are taken in the iteration order of the map.
+     *
+     * @param records
+     *         the records by their identifiers
+     * @param <I>
+     *         the type of the record identifiers
+     * @param <R>
+     *         the type of the records
+     * @return a new source
+     */
+    static <I, R> RecordSource<I, R> of(Map<I, R> records) {
+        checkNotNull(records);
+        var ids = ImmutableList.copyOf(records.keySet());
+        var values = ImmutableList.copyOf(records.values());
+        return new RecordSource<>() {
+            @Override
+            public int size() {
+                return ids.size();
+            }
+
+            @Override
+            public I idAt(int index) {
+                return ids.get(index);
+            }
+
+            @Override
+            public R recordAt(int index) {
+                return values.get(index);
+            }
+        };
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.query;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.protobuf.Message;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static io.spine.query.ColumnStatistics.DEFAULT_EQUALITY_SELECTIVITY;
+import static io.spine.query.ColumnStatistics.DEFAULT_RANGE_SELECTIVITY;
+import static io.spine.query.ComparisonOperator.EQUALS;
+import static io.spine.query.LogicalOperator.AND;
+
+/**
+ * Statistics on the records of some type, serving to estimate the number
+ * of the records matching a query.
+ *
+ * <p>The statistics are collected {@linkplain ColumnStatistics per column} as the records
+ * are {@linkplain #record(Message) fed} one by one.
+ *
+ * <p>To estimate the selectivity of a {@link QueryPredicate}, it is first transformed
+ * into the disjunctive normal form. The selectivity of each parameter is estimated using
+ * the statistics of its column. The columns are considered independent. Therefore,
+ * the selectivity of a conjunction is a product of the selectivities of its members,
+ * and the selectivity of a disjunction is {@code 1 - (1 - s1) * (1 - s2) * ... }.
+ *
+ * <p>The parameters targeting the columns without statistics, including
+ * the {@linkplain CustomColumn custom columns}, are given a default selectivity.
+ *
+ * <p>The instances of this type are thread-safe.
+ *
+ * @param <R>
+ *         the type of the records
+ */
+public final class RecordStatistics<R extends Message> {
+
+    private final ImmutableMap<ColumnName, ColumnStatistics<R, ?>> columns;
+    private final AtomicLong count = new AtomicLong();
+
+    private RecordStatistics(ImmutableMap<ColumnName, ColumnStatistics<R, ?>> columns) {
+        this.columns = columns;
+    }
+
+    /**
+     * Creates empty statistics on the passed columns of the records.
+     */
+    public static <R extends Message> RecordStatistics<R> of(Columns<R> columns) {
+        checkNotNull(columns);
+        var statistics = ImmutableMap.<ColumnName, ColumnStatistics<R, ?>>builder();
+        for (var column : columns) {
+            statistics.put(column.name(), ColumnStatistics.of(column));
+        }
+        return new RecordStatistics<>(statistics.buildOrThrow());
+    }
+
+    /**
+     * Takes into account the values of the columns in the passed record.
+     */
+    public void record(R record) {
+        checkNotNull(record);
+        for (var column : columns.values()) {
+            column.record(record);
+        }
+        count.incrementAndGet();
+    }
+
+    /**
+     * Returns the number of the recorded records.
+     */
+    public long count() {
+        return count.get();
+    }
+
+    /**
+     * Returns the statistics on the values of the passed column.
+     *
+     * @return the column statistics, or {@code Optional.empty()} if the column
+     *         is not tracked by these statistics
+     */
+    @SuppressWarnings("unchecked") // Ensured by the column name and type check.
+    public <V> Optional<ColumnStatistics<R, V>> statisticsOf(RecordColumn<R, V> column) {
+        checkNotNull(column);
+        var statistics = columns.get(column.name());
+        if (statistics == null || !statistics.column().type().equals(column.type())) {
+            return Optional.empty();
+        }
+        return Optional.of((ColumnStatistics<R, V>) statistics);
+    }
+
+    /**
+     * Estimates the fraction of the recorded records matching the passed predicate.
+     *
+     * @return the estimated fraction in the range of {@code [0, 1]}
+     */
+    public double selectivity(QueryPredicate<R> predicate) {
+        checkNotNull(predicate);
+        if (predicate.isEmpty()) {
+            return 1.0;
+        }
+        return selectivityOf(predicate.toDnf());
+    }
+
+    private double selectivityOf(QueryPredicate<R> predicate) {
+        var conjunction = predicate.operator() == AND;
+        var result = conjunction ? 1.0 : 0.0;
+        for (var param : predicate.allParams()) {
+            result = combine(result, selectivityOf(param), conjunction);
+        }
+        for (var child : predicate.children()) {
+            result = combine(result, selectivityOf(child), conjunction);
+        }
+        return result;
+    }
+
+    private static double combine(double accumulated, double selectivity, boolean conjunction) {
+        return conjunction
+               ? accumulated * selectivity
+               : 1.0 - (1.0 - accumulated) * (1.0 - selectivity);
+    }
+
+    private double selectivityOf(SubjectParameter<?, ?, ?> param) {
+        var operator = param.operator();
+        var statistics = columns.get(param.column().name());
+        if (statistics == null || param instanceof CustomSubjectParameter) {
+            return operator == EQUALS
+                   ? DEFAULT_EQUALITY_SELECTIVITY
+                   : DEFAULT_RANGE_SELECTIVITY;
+        }
+        return statistics.selectivity(operator, param.value());
+    }
+
+    /**
+     * Estimates the number of the recorded records matching the passed predicate.
+     */
+    public long estimate(QueryPredicate<R> predicate) {
+        return Math.round(count() * selectivity(predicate));
+    }
+
+    /**
+     * Estimates the number of the recorded records which would be returned by the passed query.
+     *
+     * <p>Takes into account the identifiers the query is restricted to,
+     * the predicate of the query, and its limit.
+     */
+    public long estimate(RecordQuery<?, R> query) {
+        checkNotNull(query);
+        var subject = query.subject();
+        long candidates = count();
+        var ids = subject.id().values();
+        if (!ids.isEmpty()) {
+            candidates = Math.min(candidates, ids.size());
+        }
+        var result = Math.round(candidates * selectivity(subject.predicate()));
+        var limit = query.limit();
+        if (limit != null) {
+            result = Math.min(result, limit);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return columns.values().toString();
+    }
+}
@@ -44,4 +44,10 @@ public final class RecordSubjectParameter<R extends Message, V>
     public RecordSubjectParameter(RecordColumn<R, V> column, ComparisonOperator operator, V value) {
         super(column, operator, value);
     }
+
+    @Override
+    @SuppressWarnings("unchecked")  /* See the contract of the overridden method. */
+    RecordSubjectParameter<R, V> withValue(Object value) {
+        return new RecordSubjectParameter<>(column(), operator(), (V) value);
+    }
 }
@@ -29,6 +29,7 @@ package io.spine.query;
 import java.util.Objects;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
 
 /**
  * A parameter which defines the expected value for the {@linkplain RecordColumn record column}
@@ -75,6 +76,24 @@ public abstract class SubjectParameter<R, C extends Column<R, V>, V> {
         return operator;
     }
 
+    /**
+     * Creates a new parameter for the same column and operator, but with the passed value.
+     *
+     * <p>The type of the value is not checked, as this method serves to substitute
+     * the values when {@linkplain QueryShape#bind(java.util.List) binding} a query shape.
+     *
+     * <p>The parameters of the types declared in this package override this method.
+     * The parameters of other types do not support the substitution of values.
+     *
+     * @throws UnsupportedOperationException
+     *         if this type of parameters does not support the substitution
+     */
+    SubjectParameter<R, C, V> withValue(Object value) {
+        throw new UnsupportedOperationException(format(
+                "The parameter of type `%s` does not support the substitution of values.",
+                getClass().getName()));
+    }
+
     @Override
     public String toString() {
         return column.name().value() + ' ' + operator + ' ' + value;
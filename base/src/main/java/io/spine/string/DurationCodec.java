@@ -0,0 +1,177 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.string;
+
+import com.google.protobuf.Duration;
+import com.google.protobuf.util.Durations;
+import org.jspecify.annotations.Nullable;
+
+import java.text.ParseException;
+
+/**
+ * Converts {@code Duration}s to strings and back.
+ *
+ * <p>The produced strings, such as {@code "1.500s"}, are identical to the ones
+ * of {@link Durations#toString(Duration)}. The characters are written directly,
+ * without creating intermediate strings.
+ *
+ * <p>The strings of the canonical form, which is an optional minus sign, the seconds,
+ * an optional fraction of up to nine digits, and the {@code "s"} suffix, are parsed directly.
+ * Other strings are delegated to {@link Durations#parse(String)}, so that
+ * the result is the same.
+ *
+ * <p>The methods of this class are thread-safe.
+ */
+final class DurationCodec {
+
+    /**
+     * The maximum number of digits in the seconds of a valid duration.
+     */
+    private static final int MAX_SECONDS_DIGITS = 12;
+
+    private static final int NANOS_DIGITS = 9;
+
+    /**
+     * The maximum length of a formatted duration, {@code -315576000000.nnnnnnnnns}.
+     */
+    private static final int MAX_LENGTH = 24;
+
+    /**
+     * Prevents the utility class instantiation.
+     */
+    private DurationCodec() {
+    }
+
+    /**
+     * Converts the duration into a string.
+     *
+     * @throws IllegalArgumentException
+     *         if the duration is not valid
+     */
+    static String toString(Duration duration) {
+        var result = new StringBuilder(MAX_LENGTH);
+        appendTo(duration, result);
+        return result.toString();
+    }
+
+    /**
+     * Appends the string representation of the duration to the builder.
+     *
+     * @throws IllegalArgumentException
+     *         if the duration is not valid
+     */
+    static void appendTo(Duration duration, StringBuilder out) {
+        Durations.checkValid(duration);
+        var seconds = duration.getSeconds();
+        var nanos = duration.getNanos();
+        if (seconds < 0 || nanos < 0) {
+            out.append('-');
+            seconds = -seconds;
+            nanos = -nanos;
+        }
+        out.append(seconds);
+        if (nanos != 0) {
+            out.append('.');
+            TimestampCodec.appendNanos(nanos, out);
+        }
+        out.append('s');
+    }
+
+    /**
+     * Parses the duration from a string.
+     *
+     * @throws ParseException
+     *         if the string is not a valid duration
+     */
+    static Duration parse(String value) throws ParseException {
+        var result = parseCanonical(value);
+        if (result != null) {
+            return result;
+        }
+        return Durations.parse(value);
+    }
+
+    /**
+     * Parses the duration in the canonical form.
+     *
+     * @return the parsed duration, or {@code null} if the string is not in the canonical form,
+     *         or does not denote a valid duration
+     */
+    @SuppressWarnings("MethodWithMultipleReturnPoints") // Bailing out to the general parser.
+    private static @Nullable Duration parseCanonical(String value) {
+        var length = value.length();
+        if (length < 2 || value.charAt(length - 1) != 's') {
+            return null;
+        }
+        var negative = value.charAt(0) == '-';
+        var position = negative ? 1 : 0;
+        var end = length - 1;
+        long seconds = 0;
+        var start = position;
+        while (position < end && isDigit(value.charAt(position))) {
+            seconds = seconds * 10 + (value.charAt(position) - '0');
+            position++;
+        }
+        var secondsDigits = position - start;
+        if (secondsDigits < 1 || secondsDigits > MAX_SECONDS_DIGITS) {
+            return null;
+        }
+        var nanos = 0;
+        if (position < end) {
+            if (value.charAt(position) != '.') {
+                return null;
+            }
+            position++;
+            var digits = end - position;
+            if (digits < 1 || digits > NANOS_DIGITS) {
+                return null;
+            }
+            nanos = TimestampCodec.readDigits(value, position, digits);
+            if (nanos < 0) {
+                return null;
+            }
+            for (var i = digits; i < NANOS_DIGITS; i++) {
+                nanos *= 10;
+            }
+        }
+        if (negative) {
+            seconds = -seconds;
+            nanos = -nanos;
+        }
+        if (!Durations.isValid(seconds, nanos)) {
+            return null;
+        }
+        return Duration.newBuilder()
+                .setSeconds(seconds)
+                .setNanos(nanos)
+                .build();
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
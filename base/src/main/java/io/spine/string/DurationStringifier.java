@@ -27,10 +27,10 @@
 package io.spine.string;
 
 import com.google.protobuf.Duration;
-import com.google.protobuf.util.Durations;
 
 import java.text.ParseException;
 
+import static com.google.common.base.Preconditions.checkNotNull;
 import static io.spine.util.Exceptions.illegalArgumentWithCauseOf;
 
 /**
@@ -51,15 +51,22 @@ final class DurationStringifier extends SerializableStringifier<Duration> {
 
     @Override
     protected String toString(Duration duration) {
-        var result = Durations.toString(duration);
+        var result = DurationCodec.toString(duration);
         return result;
     }
 
+    @Override
+    public void appendTo(Duration duration, StringBuilder out) {
+        checkNotNull(duration);
+        checkNotNull(out);
+        DurationCodec.appendTo(duration, out);
+    }
+
     @Override
     protected Duration fromString(String str) {
         Duration result;
         try {
-            result = Durations.parse(str);
+            result = DurationCodec.parse(str);
         } catch (ParseException e) {
             throw illegalArgumentWithCauseOf(e);
         }
@@ -29,6 +29,8 @@ package io.spine.string;
 import com.google.common.base.Converter;
 import com.google.common.primitives.Ints;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
 /**
  * The {@code Stringifier} for the integer values.
  */
@@ -51,6 +53,13 @@ final class IntegerStringifier extends StringifierWithConverter<Integer> {
         return Ints.stringConverter();
     }
 
+    @Override
+    public void appendTo(Integer value, StringBuilder out) {
+        checkNotNull(value);
+        checkNotNull(out);
+        out.append(value.intValue());
+    }
+
     private Object readResolve() {
         return INSTANCE;
     }
@@ -26,35 +26,102 @@
 
 package io.spine.string;
 
-import java.util.regex.Pattern;
-
 import static com.google.common.base.Preconditions.checkNotNull;
-import static java.util.regex.Pattern.compile;
 
 /**
  * The {@code Quoter} for the {@code List}.
+ *
+ * <p>Quote characters in the value are prefixed with a backslash.
+ *
+ * <p>When unquoting, the value is processed as if the quotes and the delimiters of the list
+ * were prefixed with a backslash, and then each pair of backslashes were removed.
+ * This reverses the quoting and keeps the compatibility with the values produced
+ * by the earlier versions.
  */
 final class ListQuoter extends Quoter {
 
-    static final Quoter INSTANCE = new ListQuoter();
+    static final Quoter INSTANCE = new ListQuoter(ListStringifier.DEFAULT_ELEMENT_DELIMITER);
+
+    private final char delimiter;
+
+    /**
+     * Creates a new instance for the list with the given delimiter of the elements.
+     */
+    ListQuoter(char delimiter) {
+        super();
+        this.delimiter = delimiter;
+    }
 
-    private static final String BACKSLASH_PATTERN_VALUE = "\\\\\\\\";
-    private static final Pattern BACKSLASH_LIST_PATTERN = compile(BACKSLASH_PATTERN_VALUE);
-    private static final String ESCAPED_QUOTE = BACKSLASH + QUOTE_CHAR;
-    private static final String QUOTE = String.valueOf(QUOTE_CHAR);
-    private static final Pattern QUOTE_PATTERN = compile(QUOTE);
+    @Override
+    void quote(String value, StringBuilder out) {
+        checkNotNull(value);
+        out.append(QUOTE_CHAR);
+        for (int i = 0, length = value.length(); i < length; i++) {
+            var c = value.charAt(i);
+            if (c == QUOTE_CHAR) {
+                out.append(BACKSLASH);
+            }
+            out.append(c);
+        }
+        out.append(QUOTE_CHAR);
+    }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>If the value contains no quote characters, it is enclosed into quotes in place.
+     */
     @Override
-    String quote(String stringToQuote) {
-        checkNotNull(stringToQuote);
-        var escaped = QUOTE_PATTERN.matcher(stringToQuote)
-                                   .replaceAll(ESCAPED_QUOTE);
-        var result = QUOTE_CHAR + escaped + QUOTE_CHAR;
-        return result;
+    void quoteAppended(StringBuilder out, int start) {
+        if (!containsQuote(out, start)) {
+            out.insert(start, QUOTE_CHAR)
+               .append(QUOTE_CHAR);
+        } else {
+            super.quoteAppended(out, start);
+        }
+    }
+
+    private static boolean containsQuote(CharSequence value, int start) {
+        for (int i = start, length = value.length(); i < length; i++) {
+            if (value.charAt(i) == QUOTE_CHAR) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
-    String unquote(String value) {
-        return unquoteValue(value, BACKSLASH_LIST_PATTERN);
+    void unquote(String source, int start, int end, StringBuilder out) {
+        var pendingBackslash = false;
+        for (var i = start; i < end; i++) {
+            var c = source.charAt(i);
+            if (c == QUOTE_CHAR || c == delimiter) {
+                pendingBackslash = append(BACKSLASH, pendingBackslash, out);
+            }
+            pendingBackslash = append(c, pendingBackslash, out);
+        }
+        if (pendingBackslash) {
+            out.append(BACKSLASH);
+        }
+    }
+
+    /**
+     * Appends the character to the builder, removing the pairs of backslashes.
+     *
+     * @param c
+     *         the character to append
+     * @param pendingBackslash
+     *         whether the previous character was a backslash not yet appended
+     * @return whether the appended character is a backslash not yet appended
+     */
+    private static boolean append(char c, boolean pendingBackslash, StringBuilder out) {
+        if (c == BACKSLASH) {
+            return !pendingBackslash;
+        }
+        if (pendingBackslash) {
+            out.append(BACKSLASH);
+        }
+        out.append(c);
+        return false;
     }
 }
@@ -26,15 +26,10 @@
 
 package io.spine.string;
 
-import com.google.common.base.Converter;
-import com.google.common.base.Joiner;
-import com.google.common.base.Splitter;
-import com.google.common.escape.Escaper;
-
 import java.util.ArrayList;
 import java.util.List;
 
-import static com.google.common.collect.Lists.newArrayList;
+import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
  * The stringifier for the {@code List} classes.
@@ -72,15 +67,14 @@ import static com.google.common.collect.Lists.newArrayList;
  */
 final class ListStringifier<T> extends Stringifier<List<T>> {
 
-    private static final char DEFAULT_ELEMENT_DELIMITER = ',';
+    static final char DEFAULT_ELEMENT_DELIMITER = ',';
 
     /**
      * The delimiter for the passed elements in the {@code String} representation,
      * {@code DEFAULT_ELEMENT_DELIMITER} by default.
      */
     private final char delimiter;
-    private final Escaper escaper;
-    private final Splitter splitter;
+    private final Quoter quoter;
     private final Stringifier<T> elementStringifier;
 
     /**
@@ -96,8 +90,7 @@ final class ListStringifier<T> extends Stringifier<List<T>> {
         super();
         this.elementStringifier = StringifierRegistry.getFor(listGenericClass);
         this.delimiter = delimiter;
-        this.escaper = Stringifiers.createEscaper(delimiter);
-        this.splitter = Splitter.onPattern(Quoter.createDelimiterPattern(delimiter));
+        this.quoter = new ListQuoter(delimiter);
     }
 
     /**
@@ -114,29 +107,52 @@ final class ListStringifier<T> extends Stringifier<List<T>> {
 
     @Override
     protected String toString(List<T> list) {
-        Converter<String, String> quoter = Quoter.forLists();
-        List<String> convertedItems = new ArrayList<>();
+        var result = new StringBuilder();
+        appendTo(list, result);
+        return result.toString();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The elements are appended by the element stringifier directly to the passed builder.
+     */
+    @Override
+    public void appendTo(List<T> list, StringBuilder out) {
+        checkNotNull(list);
+        checkNotNull(out);
+        var first = true;
         for (var item : list) {
-            var convertedItem = elementStringifier.andThen(quoter)
-                                                  .convert(item);
-            convertedItems.add(convertedItem);
+            if (!first) {
+                out.append(delimiter);
+            }
+            first = false;
+            var start = out.length();
+            elementStringifier.appendTo(checkNotNull(item), out);
+            quoter.quoteAppended(out, start);
         }
-        var result = Joiner.on(delimiter)
-                           .join(convertedItems);
-        return result;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The elements are separated by the delimiters, which are not prefixed with a backslash.
+     */
     @Override
     protected List<T> fromString(String s) {
-        var escapedString = escaper.escape(s);
-        List<String> items = newArrayList(splitter.split(escapedString));
-        Converter<String, String> quoter = Quoter.forLists();
-        var converter = quoter.reverse()
-                              .andThen(elementStringifier.reverse());
-        List<T> result = newArrayList();
-        for (var item : items) {
-            var convertedItem = converter.convert(item);
-            result.add(convertedItem);
+        var elementConverter = elementStringifier.reverse();
+        List<T> result = new ArrayList<>();
+        var length = s.length();
+        var start = 0;
+        var end = -1;
+        while (end < length) {
+            end = Quoter.indexOfUnescaped(s, delimiter, start, length);
+            if (end < 0) {
+                end = length;
+            }
+            var item = quoter.unquote(s, start, end);
+            result.add(elementConverter.convert(item));
+            start = end + 1;
         }
         return result;
     }
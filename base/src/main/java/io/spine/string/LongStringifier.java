@@ -29,6 +29,8 @@ package io.spine.string;
 import com.google.common.base.Converter;
 import com.google.common.primitives.Longs;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
 /**
  * The {@code Stringifier} for the long values.
  */
@@ -51,6 +53,13 @@ final class LongStringifier extends StringifierWithConverter<Long> {
         return Longs.stringConverter();
     }
 
+    @Override
+    public void appendTo(Long value, StringBuilder out) {
+        checkNotNull(value);
+        checkNotNull(out);
+        out.append(value.longValue());
+    }
+
     private Object readResolve() {
         return INSTANCE;
     }
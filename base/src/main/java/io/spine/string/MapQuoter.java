@@ -26,34 +26,76 @@
 
 package io.spine.string;
 
-import java.util.regex.Pattern;
-
 import static com.google.common.base.Preconditions.checkNotNull;
-import static java.util.regex.Pattern.compile;
 
 /**
  * The {@code Quoter} for the {@code Map}.
+ *
+ * <p>Each character of the value, other than an ASCII letter, a digit, an underscore, or
+ * a backslash, is prefixed with a backslash. In order to keep the string representation
+ * produced by the earlier versions, each such character is replaced with the first of them
+ * found in the value.
+ *
+ * <p>Unquoting removes all the backslashes from the value.
  */
 final class MapQuoter extends Quoter {
 
     static final MapQuoter INSTANCE = new MapQuoter();
 
-    private static final String QUOTE_PATTERN = "((?=[^\\\\])[^\\w])";
-    private static final Pattern DOUBLE_BACKSLASH_PATTERN = compile(BACKSLASH);
-
     @Override
-    String quote(String stringToQuote) {
-        checkNotNull(stringToQuote);
-        var matcher = compile(QUOTE_PATTERN).matcher(stringToQuote);
-        var unslashed = matcher.find()
-                        ? matcher.replaceAll(BACKSLASH + matcher.group())
-                        : stringToQuote;
-        var result = QUOTE_CHAR + unslashed + QUOTE_CHAR;
-        return result;
+    void quote(String value, StringBuilder out) {
+        checkNotNull(value);
+        out.append(QUOTE_CHAR);
+        var first = indexOfEscaped(value);
+        if (first < 0) {
+            out.append(value);
+        } else {
+            out.append(value, 0, first);
+            var replacement = value.codePointAt(first);
+            var length = value.length();
+            var i = first;
+            while (i < length) {
+                var codePoint = value.codePointAt(i);
+                if (isEscaped(codePoint)) {
+                    out.append(BACKSLASH)
+                       .appendCodePoint(replacement);
+                } else {
+                    out.appendCodePoint(codePoint);
+                }
+                i += Character.charCount(codePoint);
+            }
+        }
+        out.append(QUOTE_CHAR);
     }
 
     @Override
-    String unquote(String value) {
-        return unquoteValue(value, DOUBLE_BACKSLASH_PATTERN);
+    void unquote(String source, int start, int end, StringBuilder out) {
+        for (var i = start; i < end; i++) {
+            var c = source.charAt(i);
+            if (c != BACKSLASH) {
+                out.append(c);
+            }
+        }
+    }
+
+    private static int indexOfEscaped(String value) {
+        var length = value.length();
+        var i = 0;
+        while (i < length) {
+            var codePoint = value.codePointAt(i);
+            if (isEscaped(codePoint)) {
+                return i;
+            }
+            i += Character.charCount(codePoint);
+        }
+        return -1;
+    }
+
+    private static boolean isEscaped(int codePoint) {
+        var wordChar = (codePoint >= 'a' && codePoint <= 'z')
+                || (codePoint >= 'A' && codePoint <= 'Z')
+                || (codePoint >= '0' && codePoint <= '9')
+                || codePoint == '_';
+        return !wordChar && codePoint != BACKSLASH;
     }
 }
@@ -26,16 +26,11 @@
 
 package io.spine.string;
 
-import com.google.common.base.Converter;
-import com.google.common.base.Joiner;
-import com.google.common.base.Splitter;
-import com.google.common.escape.Escaper;
-
 import java.util.Map;
-import java.util.regex.Pattern;
 
+import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.collect.Maps.newHashMap;
-import static com.google.common.collect.Maps.newLinkedHashMap;
+import static io.spine.util.Exceptions.newIllegalArgumentException;
 
 /**
  * The stringifier for the {@code Map} classes.
@@ -81,8 +76,7 @@ final class MapStringifier<K, V> extends Stringifier<Map<K, V>> {
      * {@code DEFAULT_ELEMENT_DELIMITER} by default.
      */
     private final char delimiter;
-    private final Escaper escaper;
-    private final Splitter.MapSplitter splitter;
+    private final Quoter quoter = Quoter.forMaps();
     private final Stringifier<K> keyStringifier;
     private final Stringifier<V> valueStringifier;
 
@@ -101,9 +95,6 @@ final class MapStringifier<K, V> extends Stringifier<Map<K, V>> {
         this.keyStringifier = StringifierRegistry.getFor(keyClass);
         this.valueStringifier = StringifierRegistry.getFor(valueClass);
         this.delimiter = delimiter;
-        this.escaper = Stringifiers.createEscaper(delimiter);
-        this.splitter = createMapSplitter(Quoter.createDelimiterPattern(delimiter),
-                                          createKeyValuePattern());
     }
 
     /**
@@ -119,60 +110,118 @@ final class MapStringifier<K, V> extends Stringifier<Map<K, V>> {
         this(keyClass, valueClass, DEFAULT_ELEMENT_DELIMITER);
     }
 
-    private static Splitter.MapSplitter createMapSplitter(String bucketPattern,
-                                                          String keyValuePattern) {
-        var result = Splitter.onPattern(bucketPattern)
-                             .withKeyValueSeparator(Splitter.onPattern(keyValuePattern));
-        return result;
+    @Override
+    protected String toString(Map<K, V> obj) {
+        var result = new StringBuilder();
+        appendTo(obj, result);
+        return result.toString();
     }
 
-    private static String createKeyValuePattern() {
-        return Pattern.compile("(?<!\\\\)" + KEY_VALUE_DELIMITER)
-                      .pattern();
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The keys and the values are appended by their stringifiers directly
+     * to the passed builder.
+     */
+    @Override
+    public void appendTo(Map<K, V> map, StringBuilder out) {
+        checkNotNull(map);
+        checkNotNull(out);
+        var first = true;
+        for (var entry : map.entrySet()) {
+            if (!first) {
+                out.append(delimiter);
+            }
+            first = false;
+            var keyStart = out.length();
+            keyStringifier.appendTo(checkNotNull(entry.getKey()), out);
+            quoter.quoteAppended(out, keyStart);
+            out.append(KEY_VALUE_DELIMITER);
+            var valueStart = out.length();
+            valueStringifier.appendTo(checkNotNull(entry.getValue()), out);
+            quoter.quoteAppended(out, valueStart);
+        }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The entries are separated by the delimiters, and the keys are separated from
+     * the values by colons. The delimiters and the colons prefixed with a backslash
+     * are not treated as separators.
+     *
+     * @throws IllegalArgumentException
+     *         if the string is not a valid representation of a map
+     */
     @Override
-    protected String toString(Map<K, V> obj) {
-        Converter<String, String> quoter = Quoter.forMaps();
-        var keyConverter = keyStringifier.andThen(quoter);
-        var valueConverter = valueStringifier.andThen(quoter);
-
-        Map<String, String> resultMap = newLinkedHashMap();
-        for (var entry : obj.entrySet()) {
-            var convertedKey = keyConverter.convert(entry.getKey());
-            var convertedValue = valueConverter.convert(entry.getValue());
-            resultMap.put(convertedKey, convertedValue);
+    protected Map<K, V> fromString(String s) {
+        var keyConverter = keyStringifier.reverse();
+        var valueConverter = valueStringifier.reverse();
+        Map<K, V> result = newHashMap();
+        var length = s.length();
+        var start = 0;
+        var end = -1;
+        while (end < length) {
+            end = Quoter.indexOfUnescaped(s, delimiter, start, length);
+            if (end < 0) {
+                end = length;
+            }
+            var separator = keyValueSeparator(s, start, end);
+            K key;
+            V value;
+            try {
+                key = keyConverter.convert(quoter.unquote(s, start, separator));
+                value = valueConverter.convert(quoter.unquote(s, separator + 1, end));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException(
+                        "The exception occurred during the conversion", e);
+            }
+            if (result.containsKey(key)) {
+                checkNotDuplicate(s, start, separator);
+            }
+            result.put(key, value);
+            start = end + 1;
         }
-        var result = Joiner.on(delimiter)
-                           .withKeyValueSeparator(KEY_VALUE_DELIMITER)
-                           .join(resultMap);
         return result;
     }
 
-    @Override
-    protected Map<K, V> fromString(String s) {
-        var escapedString = escaper.escape(s);
-        var buckets = splitter.split(escapedString);
-        var resultMap = convert(buckets);
-        return resultMap;
+    /**
+     * Finds the separator of the key and the value in the entry occupying the given range.
+     *
+     * @throws IllegalArgumentException
+     *         if there is no single separator in the entry
+     */
+    private static int keyValueSeparator(String s, int start, int end) {
+        var separator = Quoter.indexOfUnescaped(s, KEY_VALUE_DELIMITER, start, end);
+        if (separator < 0
+                || Quoter.indexOfUnescaped(s, KEY_VALUE_DELIMITER, separator + 1, end) >= 0) {
+            throw newIllegalArgumentException("The entry `%s` is not a valid key-value pair.",
+                                              s.substring(start, end));
+        }
+        return separator;
     }
 
-    private Map<K, V> convert(Map<String, String> buckets) {
-        Converter<String, String> quoter = Quoter.forMaps();
-        var keyConverter = quoter.reverse()
-                                 .andThen(keyStringifier.reverse());
-        var valueConverter = quoter.reverse()
-                                   .andThen(valueStringifier.reverse());
-        Map<K, V> resultMap = newHashMap();
-        try {
-            for (var bucket : buckets.entrySet()) {
-                var convertedKey = keyConverter.convert(bucket.getKey());
-                var convertedValue = valueConverter.convert(bucket.getValue());
-                resultMap.put(convertedKey, convertedValue);
+    /**
+     * Ensures that the key occupying the given range does not literally repeat
+     * the key of a preceding entry.
+     *
+     * <p>The keys which differ literally, but are converted to equal values, are allowed.
+     * The latter of them overrides the former.
+     *
+     * @throws IllegalArgumentException
+     *         if there is a preceding entry with the same key
+     */
+    private void checkNotDuplicate(String s, int keyStart, int keyEnd) {
+        var keyLength = keyEnd - keyStart;
+        var start = 0;
+        while (start < keyStart) {
+            var end = Quoter.indexOfUnescaped(s, delimiter, start, keyStart);
+            var separator = Quoter.indexOfUnescaped(s, KEY_VALUE_DELIMITER, start, end);
+            if (separator - start == keyLength && s.regionMatches(start, s, keyStart, keyLength)) {
+                throw newIllegalArgumentException("Duplicate key `%s`.",
+                                                  s.substring(keyStart, keyEnd));
             }
-            return resultMap;
-        } catch (Throwable e) {
-            throw new IllegalArgumentException("The exception occurred during the conversion", e);
+            start = end + 1;
         }
     }
 }
@@ -28,21 +28,19 @@ package io.spine.string;
 
 import com.google.common.base.Converter;
 
-import java.util.regex.Pattern;
-
 import static com.google.common.base.Preconditions.checkNotNull;
 import static io.spine.util.Exceptions.newIllegalArgumentException;
-import static java.util.regex.Pattern.compile;
 
 /**
  * Encloses and discloses the {@code String} objects with double quotes.
+ *
+ * <p>Quoting and unquoting are performed in a single pass over the characters,
+ * writing the result into a {@code StringBuilder}.
  */
 abstract class Quoter extends Converter<String, String> {
 
-    private static final String BACKSLASH_QUOTE = "\\\"";
-    static final String BACKSLASH = "\\\\";
+    static final char BACKSLASH = '\\';
     static final char QUOTE_CHAR = '"';
-    private static final String DELIMITER_PATTERN_PREFIX = "(?<!" + BACKSLASH + ')' + BACKSLASH;
 
     @Override
     protected String doForward(String s) {
@@ -52,33 +50,73 @@ abstract class Quoter extends Converter<String, String> {
     @Override
     protected String doBackward(String s) {
         checkNotNull(s);
-        return unquote(s);
+        return unquote(s, 0, s.length());
     }
 
     /**
-     * Prepends quote characters in the given string with two leading backslashes,
-     * and then wraps the string into quotes.
+     * Escapes the characters of the given string, and then wraps the string into quotes.
      */
-    abstract String quote(String stringToQuote);
+    final String quote(String stringToQuote) {
+        checkNotNull(stringToQuote);
+        var result = new StringBuilder(stringToQuote.length() + 2);
+        quote(stringToQuote, result);
+        return result.toString();
+    }
 
     /**
-     * Unquotes the passed string and removes double backslash prefixes for quote symbols
-     * found inside the passed value.
+     * Appends the quoted value to the passed builder.
      */
-    abstract String unquote(String value);
+    abstract void quote(String value, StringBuilder out);
+
+    /**
+     * Quotes the value appended to the builder starting from the given index.
+     *
+     * <p>The default implementation copies the appended value out of the builder,
+     * and then appends it quoted.
+     *
+     * @param out
+     *         the builder containing the value to quote
+     * @param start
+     *         the index of the first character of the value
+     */
+    void quoteAppended(StringBuilder out, int start) {
+        var value = out.substring(start);
+        out.setLength(start);
+        quote(value, out);
+    }
 
     /**
-     * Creates the pattern to match the escaped delimiters.
+     * Unquotes the value occupying the given range of the source string.
      *
-     * @param delimiter the character to match
-     * @return the created pattern
+     * @param source
+     *         the string containing the quoted value
+     * @param start
+     *         the index of the opening quote
+     * @param end
+     *         the index following the closing quote
+     * @return the unquoted value
+     * @throws IllegalArgumentException
+     *         if the range is not enclosed in quotes
      */
-    static String createDelimiterPattern(char delimiter) {
-        var quotedDelimiter = Pattern.quote(String.valueOf(delimiter));
-        var result = compile(DELIMITER_PATTERN_PREFIX + quotedDelimiter).pattern();
-        return result;
+    final String unquote(String source, int start, int end) {
+        checkQuoted(source, start, end);
+        var result = new StringBuilder(end - start - 2);
+        unquote(source, start + 1, end - 1, result);
+        return result.toString();
     }
 
+    /**
+     * Appends the unescaped characters of the given range to the passed builder.
+     *
+     * @param source
+     *         the string containing the quoted value
+     * @param start
+     *         the index following the opening quote
+     * @param end
+     *         the index of the closing quote
+     */
+    abstract void unquote(String source, int start, int end, StringBuilder out);
+
     /**
      * Returns the {@code MapQuoter} instance.
      */
@@ -87,27 +125,38 @@ abstract class Quoter extends Converter<String, String> {
     }
 
     /**
-     * Returns the {@code ListQuoter} instance.
+     * Returns the {@code ListQuoter} instance for the default delimiter.
      */
     static Quoter forLists() {
         return ListQuoter.INSTANCE;
     }
 
-    static String unquoteValue(String value, Pattern pattern) {
-        checkQuoted(value);
-        var unquoted = value.substring(2, value.length() - 2);
-        var unescaped = pattern.matcher(unquoted)
-                               .replaceAll("");
-        return unescaped;
+    /**
+     * Finds the first occurrence of the character in the given range,
+     * which is not escaped with a backslash.
+     *
+     * <p>The character at the start of the range is never considered escaped.
+     *
+     * @return the index of the character or {@code -1} if there is no such character
+     */
+    static int indexOfUnescaped(String source, char ch, int start, int end) {
+        for (var i = start; i < end; i++) {
+            if (source.charAt(i) == ch && (i == start || source.charAt(i - 1) != BACKSLASH)) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     /**
-     * Throws IllegalArgumentException if the passed char sequence is not wrapped into {@code \"}.
+     * Throws {@code IllegalArgumentException} if the passed range is not wrapped into quotes.
      */
-    private static void checkQuoted(String str) {
-        if (!(str.startsWith(BACKSLASH_QUOTE)
-                && str.endsWith(BACKSLASH_QUOTE))) {
-            throw newIllegalArgumentException("The passed string is not quoted: `%s`.", str);
+    private static void checkQuoted(String source, int start, int end) {
+        if (end - start < 2
+                || source.charAt(start) != QUOTE_CHAR
+                || source.charAt(end - 1) != QUOTE_CHAR) {
+            throw newIllegalArgumentException("The passed string is not quoted: `%s`.",
+                                              source.substring(start, end));
         }
     }
 }
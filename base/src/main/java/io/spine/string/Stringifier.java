@@ -28,6 +28,10 @@ package io.spine.string;
 
 import com.google.common.base.Converter;
 
+import java.io.IOException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
 /**
  * Serves as converter from {@code I} to {@code String} with an associated
  * reverse function from {@code String} to {@code I}.
@@ -35,6 +39,10 @@ import com.google.common.base.Converter;
  * <p>It is used for converting back and forth between the different
  * representations of the same information.
  *
+ * <p>When the string representation is a part of a bigger string, it may be
+ * {@linkplain #appendTo(Object, StringBuilder) appended} to the string being built
+ * without creating an intermediate {@code String}.
+ *
  * @param <T> the type of converted objects
  * @see #convert(Object)
  * @see #reverse()
@@ -51,6 +59,48 @@ public abstract class Stringifier<T> extends Converter<T, String> {
      */
     protected abstract T fromString(String s);
 
+    /**
+     * Appends the string representation of the passed value to the builder.
+     *
+     * <p>The appended characters are the same as the ones returned by
+     * {@link #convert(Object) convert()}.
+     *
+     * <p>The default implementation appends the result of {@link #toString(Object)}.
+     * The stringifiers which are able to write the value directly override this method.
+     *
+     * @param value
+     *         the value to append
+     * @param out
+     *         the builder to append to
+     */
+    public void appendTo(T value, StringBuilder out) {
+        checkNotNull(value);
+        checkNotNull(out);
+        out.append(toString(value));
+    }
+
+    /**
+     * Appends the string representation of the passed value to the {@code Appendable}.
+     *
+     * @param value
+     *         the value to append
+     * @param out
+     *         the {@code Appendable} to append to
+     * @throws IOException
+     *         if the {@code Appendable} fails to append the characters
+     * @see #appendTo(Object, StringBuilder)
+     */
+    public final void appendTo(T value, Appendable out) throws IOException {
+        checkNotNull(out);
+        if (out instanceof StringBuilder) {
+            appendTo(value, (StringBuilder) out);
+            return;
+        }
+        var builder = new StringBuilder();
+        appendTo(value, builder);
+        out.append(builder);
+    }
+
     /**
      * Invokes {@link #toString(Object)}.
      */
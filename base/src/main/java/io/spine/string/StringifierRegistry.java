@@ -36,9 +36,9 @@ import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import static com.google.common.collect.Maps.newHashMap;
 import static io.spine.protobuf.Messages.isMessageClass;
 import static io.spine.string.Stringifiers.forBoolean;
 import static io.spine.string.Stringifiers.forDuration;
@@ -49,7 +49,6 @@ import static io.spine.string.Stringifiers.forTimestamp;
 import static io.spine.string.Stringifiers.newForEnum;
 import static io.spine.string.Stringifiers.newForMessage;
 import static java.lang.String.format;
-import static java.util.Collections.synchronizedMap;
 
 /**
  * The registry of converters of types to their string representations.
@@ -58,7 +57,27 @@ public final class StringifierRegistry {
 
     private static final StringifierRegistry INSTANCE = new StringifierRegistry();
 
-    private final Map<Type, Stringifier<?>> stringifiers = synchronizedMap(newHashMap());
+    /**
+     * The stringifiers registered explicitly.
+     *
+     * <p>The reads do not block, so that the stringification performed concurrently
+     * does not contend for the registry.
+     */
+    private final Map<Type, Stringifier<?>> stringifiers = new ConcurrentHashMap<>();
+
+    /**
+     * The stringifiers {@linkplain #getFor(Type) created} for the enum and message types,
+     * which do not have the registered stringifiers.
+     *
+     * <p>The stringifiers are associated with their classes via the {@link ClassValue} API,
+     * so that they do not prevent the classes and their class loaders from being unloaded.
+     */
+    private final ClassValue<Stringifier<?>> derived = new ClassValue<>() {
+        @Override
+        protected Stringifier<?> computeValue(Class<?> type) {
+            return derive(type);
+        }
+    };
 
     /**
      * Initializes the registry with the default stringifiers for primitive types,
@@ -91,6 +110,9 @@ public final class StringifierRegistry {
      * <p>If the passed type is a message, the returned instance is adapted to the type
      * {@linkplain Stringifiers#newForMessage(Class) as well}.
      *
+     * <p>The adapted stringifiers are created once per type and are reused afterwards.
+     * A stringifier registered for the type takes precedence over the adapted one.
+     *
      * <p>This method does not serve {@code List} or {@link Map} types. In order to handle
      * such a stringification, please call corresponding methods of the {@link Stringifiers} class.
      *
@@ -99,25 +121,31 @@ public final class StringifierRegistry {
      */
     static <T> Stringifier<T> getFor(Type typeOfT) {
         checkNotNull(typeOfT);
-        Optional<Stringifier<T>> optional = instance().find(typeOfT);
-
-        if (optional.isPresent()) {
-            var stringifier = optional.get();
-            return stringifier;
+        var registry = instance();
+        @Nullable Stringifier<?> registered = registry.stringifiers.get(typeOfT);
+        if (registered != null) {
+            return cast(registered);
         }
+        var derived = typeOfT instanceof Class<?> cls
+                      ? registry.derived.get(cls)
+                      : derive(typeOfT);
+        return cast(derived);
+    }
 
+    /**
+     * Creates a stringifier for the passed enum or message type.
+     *
+     * @throws MissingStringifierException
+     *         if the type is neither an enum, nor a message
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"}) // OK since the type is checked.
+    private static Stringifier<?> derive(Type typeOfT) {
         if (isEnumClass(typeOfT)) {
-            @SuppressWarnings({"unchecked", "rawtypes"}) // OK since the type is checked above.
-            var result = (Stringifier<T>) newForEnum((Class<Enum>) typeOfT);
-            return result;
+            return newForEnum((Class<Enum>) typeOfT);
         }
-
         if (isMessageClass(typeOfT)) {
-            @SuppressWarnings("unchecked") // OK since the type is checked above.
-            var result = (Stringifier<T>) newForMessage((Class<Message>) typeOfT);
-            return result;
+            return newForMessage((Class<Message>) typeOfT);
         }
-
         var errMsg = format("No stringifier registered for the type: %s", typeOfT);
         throw new MissingStringifierException(errMsg);
     }
@@ -0,0 +1,322 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.string;
+
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Timestamps;
+import org.jspecify.annotations.Nullable;
+
+import java.text.ParseException;
+
+/**
+ * Converts {@code Timestamp}s to the RFC 3339 date strings and back.
+ *
+ * <p>The produced strings are identical to the ones of {@link Timestamps#toString(Timestamp)}.
+ * The characters are computed directly from the number of seconds, without
+ * involving the calendar or the date formatting classes.
+ *
+ * <p>The strings of the canonical form {@code yyyy-MM-ddTHH:mm:ss[.f]Z}, or the ones with
+ * a {@code +HH:MM} or {@code -HH:MM} offset instead of {@code Z}, are parsed directly.
+ * Other strings are delegated to {@link Timestamps#parse(String)}, so that
+ * the result is the same.
+ *
+ * <p>The methods of this class are thread-safe.
+ */
+final class TimestampCodec {
+
+    /**
+     * The number of seconds of {@code 0001-01-01T00:00:00Z}.
+     */
+    private static final long MIN_SECONDS = -62_135_596_800L;
+
+    /**
+     * The number of seconds of {@code 9999-12-31T23:59:59Z}.
+     */
+    private static final long MAX_SECONDS = 253_402_300_799L;
+
+    private static final int SECONDS_PER_MINUTE = 60;
+    private static final int SECONDS_PER_HOUR = 3_600;
+    private static final int SECONDS_PER_DAY = 86_400;
+    private static final int NANOS_PER_MICROSECOND = 1_000;
+    private static final int NANOS_PER_MILLISECOND = 1_000_000;
+    private static final int NANOS_DIGITS = 9;
+
+    /**
+     * The length of {@code yyyy-MM-ddTHH:mm:ss}.
+     */
+    private static final int DATE_TIME_LENGTH = 19;
+
+    /**
+     * The maximum length of a formatted timestamp, {@code yyyy-MM-ddTHH:mm:ss.nnnnnnnnnZ}.
+     */
+    private static final int MAX_LENGTH = 30;
+
+    /**
+     * The number of days between {@code 0000-03-01} and {@code 1970-01-01}.
+     */
+    private static final int EPOCH_DAY_SHIFT = 719_468;
+    private static final int DAYS_PER_ERA = 146_097;
+    private static final int YEARS_PER_ERA = 400;
+
+    /**
+     * Prevents the utility class instantiation.
+     */
+    private TimestampCodec() {
+    }
+
+    /**
+     * Converts the timestamp into a string.
+     *
+     * @throws IllegalArgumentException
+     *         if the timestamp is not valid
+     */
+    static String toString(Timestamp timestamp) {
+        var result = new StringBuilder(MAX_LENGTH);
+        appendTo(timestamp, result);
+        return result.toString();
+    }
+
+    /**
+     * Appends the string representation of the timestamp to the builder.
+     *
+     * @throws IllegalArgumentException
+     *         if the timestamp is not valid
+     */
+    static void appendTo(Timestamp timestamp, StringBuilder out) {
+        Timestamps.checkValid(timestamp);
+        var seconds = timestamp.getSeconds();
+        var nanos = timestamp.getNanos();
+        var days = Math.floorDiv(seconds, SECONDS_PER_DAY);
+        var secondOfDay = (int) Math.floorMod(seconds, SECONDS_PER_DAY);
+
+        // Converts the days since the epoch into the proleptic Gregorian calendar date,
+        // with the years starting on March 1 for simpler leap day handling.
+        var shiftedDays = days + EPOCH_DAY_SHIFT;
+        var era = Math.floorDiv(shiftedDays, DAYS_PER_ERA);
+        var dayOfEra = (int) (shiftedDays - era * DAYS_PER_ERA);
+        var yearOfEra = (dayOfEra - dayOfEra / 1_460 + dayOfEra / 36_524 - dayOfEra / 146_096)
+                / 365;
+        var dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        var shiftedMonth = (5 * dayOfYear + 2) / 153;
+        var day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        var month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        var year = (int) (era * YEARS_PER_ERA) + yearOfEra + (month <= 2 ? 1 : 0);
+
+        var chars = new char[MAX_LENGTH];
+        writeDigits(chars, 0, year, 4);
+        chars[4] = '-';
+        writeDigits(chars, 5, month, 2);
+        chars[7] = '-';
+        writeDigits(chars, 8, day, 2);
+        chars[10] = 'T';
+        writeDigits(chars, 11, secondOfDay / SECONDS_PER_HOUR, 2);
+        chars[13] = ':';
+        writeDigits(chars, 14, secondOfDay % SECONDS_PER_HOUR / SECONDS_PER_MINUTE, 2);
+        chars[16] = ':';
+        writeDigits(chars, 17, secondOfDay % SECONDS_PER_MINUTE, 2);
+        var length = DATE_TIME_LENGTH;
+        if (nanos != 0) {
+            chars[length++] = '.';
+            length = writeNanos(chars, length, nanos);
+        }
+        chars[length++] = 'Z';
+        out.append(chars, 0, length);
+    }
+
+    /**
+     * Appends the fraction of a second, using 3, 6, or 9 digits, as required for
+     * the passed positive number of nanoseconds.
+     */
+    static void appendNanos(int nanos, StringBuilder out) {
+        var chars = new char[NANOS_DIGITS];
+        var length = writeNanos(chars, 0, nanos);
+        out.append(chars, 0, length);
+    }
+
+    private static int writeNanos(char[] chars, int offset, int nanos) {
+        if (nanos % NANOS_PER_MILLISECOND == 0) {
+            writeDigits(chars, offset, nanos / NANOS_PER_MILLISECOND, 3);
+            return offset + 3;
+        }
+        if (nanos % NANOS_PER_MICROSECOND == 0) {
+            writeDigits(chars, offset, nanos / NANOS_PER_MICROSECOND, 6);
+            return offset + 6;
+        }
+        writeDigits(chars, offset, nanos, NANOS_DIGITS);
+        return offset + NANOS_DIGITS;
+    }
+
+    /**
+     * Writes the non-negative value as the given number of digits, padding it with zeros.
+     */
+    private static void writeDigits(char[] chars, int offset, int value, int digits) {
+        var remainder = value;
+        for (var i = offset + digits - 1; i >= offset; i--) {
+            chars[i] = (char) ('0' + remainder % 10);
+            remainder /= 10;
+        }
+    }
+
+    /**
+     * Parses the timestamp from a string.
+     *
+     * @throws ParseException
+     *         if the string is not a valid timestamp
+     */
+    static Timestamp parse(String value) throws ParseException {
+        var result = parseCanonical(value);
+        if (result != null) {
+            return result;
+        }
+        return Timestamps.parse(value);
+    }
+
+    /**
+     * Parses the timestamp in the canonical form.
+     *
+     * @return the parsed timestamp, or {@code null} if the string is not in the canonical form,
+     *         or does not denote a valid timestamp
+     */
+    @SuppressWarnings("MethodWithMultipleReturnPoints") // Bailing out to the general parser.
+    private static @Nullable Timestamp parseCanonical(String value) {
+        var length = value.length();
+        if (length < DATE_TIME_LENGTH + 1
+                || value.charAt(4) != '-'
+                || value.charAt(7) != '-'
+                || value.charAt(10) != 'T'
+                || value.charAt(13) != ':'
+                || value.charAt(16) != ':') {
+            return null;
+        }
+        var year = readDigits(value, 0, 4);
+        var month = readDigits(value, 5, 2);
+        var day = readDigits(value, 8, 2);
+        var hour = readDigits(value, 11, 2);
+        var minute = readDigits(value, 14, 2);
+        var second = readDigits(value, 17, 2);
+        if (year < 1 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)
+                || hour < 0 || hour > 23 || minute < 0 || minute > 59
+                || second < 0 || second > 59) {
+            return null;
+        }
+        var position = DATE_TIME_LENGTH;
+        var nanos = 0;
+        if (value.charAt(position) == '.') {
+            position++;
+            var start = position;
+            while (position < length && isDigit(value.charAt(position))) {
+                position++;
+            }
+            var digits = position - start;
+            if (digits < 1 || digits > NANOS_DIGITS || position == length) {
+                return null;
+            }
+            nanos = readDigits(value, start, digits);
+            for (var i = digits; i < NANOS_DIGITS; i++) {
+                nanos *= 10;
+            }
+        }
+        var seconds = daysFromCivil(year, month, day) * SECONDS_PER_DAY
+                + hour * SECONDS_PER_HOUR
+                + minute * SECONDS_PER_MINUTE
+                + second;
+        var zone = value.charAt(position);
+        if (zone == 'Z') {
+            if (position + 1 != length) {
+                return null;
+            }
+        } else if (zone == '+' || zone == '-') {
+            if (position + 6 != length || value.charAt(position + 3) != ':') {
+                return null;
+            }
+            var offsetHours = readDigits(value, position + 1, 2);
+            var offsetMinutes = readDigits(value, position + 4, 2);
+            if (offsetHours < 0 || offsetMinutes < 0) {
+                return null;
+            }
+            var offset = (offsetHours * 60L + offsetMinutes) * SECONDS_PER_MINUTE;
+            seconds = zone == '+' ? seconds - offset : seconds + offset;
+        } else {
+            return null;
+        }
+        if (seconds < MIN_SECONDS || seconds > MAX_SECONDS) {
+            return null;
+        }
+        return Timestamp.newBuilder()
+                .setSeconds(seconds)
+                .setNanos(nanos)
+                .build();
+    }
+
+    /**
+     * Returns the number of days since the epoch for the proleptic Gregorian calendar date.
+     */
+    private static long daysFromCivil(int year, int month, int day) {
+        var shiftedYear = month <= 2 ? year - 1 : year;
+        var era = Math.floorDiv(shiftedYear, YEARS_PER_ERA);
+        var yearOfEra = shiftedYear - era * YEARS_PER_ERA;
+        var dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        var dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return (long) era * DAYS_PER_ERA + dayOfEra - EPOCH_DAY_SHIFT;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                var leap = (year % 4 == 0 && year % 100 != 0) || year % 400 == 0;
+                return leap ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * Reads the given number of decimal digits.
+     *
+     * @return the read value, or {@code -1} if there is a non-digit character
+     */
+    static int readDigits(String value, int offset, int digits) {
+        var result = 0;
+        for (var i = offset; i < offset + digits; i++) {
+            var c = value.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -27,10 +27,10 @@
 package io.spine.string;
 
 import com.google.protobuf.Timestamp;
-import com.google.protobuf.util.Timestamps;
 
 import java.text.ParseException;
 
+import static com.google.common.base.Preconditions.checkNotNull;
 import static io.spine.util.Exceptions.newIllegalArgumentException;
 
 /**
@@ -51,13 +51,20 @@ final class TimestampStringifier extends SerializableStringifier<Timestamp> {
 
     @Override
     protected String toString(Timestamp value) {
-        return Timestamps.toString(value);
+        return TimestampCodec.toString(value);
+    }
+
+    @Override
+    public void appendTo(Timestamp value, StringBuilder out) {
+        checkNotNull(value);
+        checkNotNull(out);
+        TimestampCodec.appendTo(value, out);
     }
 
     @Override
     protected Timestamp fromString(String str) {
         try {
-            return Timestamps.parse(str);
+            return TimestampCodec.parse(str);
         } catch (ParseException e) {
             throw newIllegalArgumentException(e.getMessage(), e);
         }
@@ -35,12 +35,15 @@ import com.google.protobuf.TypeRegistry;
 import io.spine.annotation.Internal;
 import io.spine.annotation.VisibleForTesting;
 import io.spine.code.java.ClassName;
+import io.spine.code.proto.DescriptorSlice;
 import io.spine.code.proto.FileSet;
+import io.spine.code.proto.LoadReport;
 import io.spine.code.proto.TypeSet;
 import io.spine.logging.Logger;
 import io.spine.logging.LoggingFactory;
 import io.spine.security.InvocationGuard;
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+import org.jspecify.annotations.Nullable;
 
 import java.io.Serial;
 import java.io.Serializable;
@@ -80,6 +83,10 @@ import static java.util.stream.Collectors.toSet;
  * </pre>
  *
  * <p>In the snippet above, {@code oldTypes} contains a subset or is equal to the {@code newTypes}.
+ *
+ * <p>If the {@linkplain KnownTypesRoots roots} of the known types are configured, only
+ * the types reachable from the roots are loaded at start. Other types are loaded on demand,
+ * when they are looked up for the first time.
  */
 @Internal
 @Immutable
@@ -89,14 +96,55 @@ public class KnownTypes implements Serializable {
     private static final long serialVersionUID = 0L;
 
     @SuppressWarnings("TransientFieldNotInitialized") // Instance is substituted on deserialization.
-    private final transient TypeSet typeSet;
+    private final transient TypeIndex index;
+
+    @SuppressWarnings({
+            "TransientFieldNotInitialized" /* Instance is substituted on deserialization. */,
+            "Immutable" /* The report is only appended by building the cached values. */
+    })
+    private final transient LoadReport report;
+
+    /**
+     * Tells if this instance is obtained by extending the instance loaded from the classpath.
+     *
+     * <p>Building the {@linkplain #typeRegistry() type registry} of an extended instance
+     * is not added to the {@linkplain #loadReport() report}, so that the report does not grow
+     * with each extension.
+     */
+    private final transient boolean extended;
+
+    /**
+     * The files to load the types from on demand, or {@code null}
+     * if all the types are loaded at start.
+     *
+     * @see KnownTypesRoots
+     */
+    @SuppressWarnings({
+            "TransientFieldNotInitialized" /* Instance is substituted on deserialization. */,
+            "Immutable" /* The slice only loads the types not present in this instance. */
+    })
+    private final transient @Nullable DescriptorSlice slice;
+
+    @SuppressWarnings({
+            "NonFinalFieldInImmutable" /* This is a cached result of `asTypeSet()` method. */,
+            "Immutable" /* Caching this value does not mutate the real state of `KnownTypes.  */
+    })
+    @MonotonicNonNull
+    private transient volatile TypeSet typeSet;
 
     @SuppressWarnings({
             "NonFinalFieldInImmutable" /* This is a cached result of `typeRegistry()` method. */,
             "Immutable" /* Caching this value does not mutate the real state of `KnownTypes.  */
     })
     @MonotonicNonNull
-    private transient TypeRegistry typeRegistry;
+    private transient volatile TypeRegistry typeRegistry;
+
+    @SuppressWarnings({
+            "NonFinalFieldInImmutable" /* This is a cached result of `formats()` method. */,
+            "Immutable" /* Caching this value does not mutate the real state of `KnownTypes.  */
+    })
+    @MonotonicNonNull
+    private transient volatile RegistryFormats formats;
 
     /**
      * Retrieves the singleton instance of {@code KnownTypes}.
@@ -105,42 +153,136 @@ public class KnownTypes implements Serializable {
         return Holder.instance();
     }
 
-    private KnownTypes(TypeSet types) {
-        this.typeSet = checkNotNull(types);
+    private KnownTypes(TypeIndex index,
+                       LoadReport report,
+                       boolean extended,
+                       @Nullable DescriptorSlice slice,
+                       @Nullable TypeRegistry typeRegistry,
+                       @Nullable RegistryFormats formats) {
+        this.index = checkNotNull(index);
+        this.report = checkNotNull(report);
+        this.extended = extended;
+        this.slice = slice;
+        this.typeRegistry = typeRegistry;
+        this.formats = formats;
     }
 
+    /**
+     * Loads the known types from the classpath.
+     *
+     * <p>If the {@linkplain KnownTypesRoots roots} are configured, loads only the types
+     * reachable from the roots, leaving other types to be loaded on demand.
+     */
     private static KnownTypes load() {
-        var types = loadTypeSet();
-        var result = new KnownTypes(types);
-        return result;
+        return load(KnownTypesRoots.configured());
+    }
+
+    /**
+     * Loads the known types reachable from the given roots, or all the known types,
+     * if there are no roots.
+     */
+    @VisibleForTesting
+    static KnownTypes load(Set<String> roots) {
+        var report = LoadReport.newInstance();
+        if (roots.isEmpty()) {
+            var types = typesOf(FileSet.load(report), report);
+            return new KnownTypes(TypeIndex.of(types), report, false, null, null, null);
+        }
+        var slice = DescriptorSlice.load(report);
+        var types = typesOf(slice.link(roots, report), report);
+        return new KnownTypes(TypeIndex.of(types), report, false, slice, null, null);
     }
 
-    @SuppressWarnings("MethodOnlyUsedFromInnerClass")
-    private KnownTypes extendWith(TypeSet moreTypes) {
+    /**
+     * Creates new known types with the types of this instance and the given types.
+     *
+     * <p>The types of this instance are not copied, but shared with the new instance.
+     * The {@code TypeRegistry} and the {@linkplain #formats() formats} of this instance are
+     * reused by the new instance, if all the given message types are already known with
+     * the same descriptors.
+     *
+     * <p>A given type replaces the known type with the same name but a different descriptor,
+     * e.g. a recompiled one. In such a case, the registry is rebuilt, so that it contains
+     * the new descriptor.
+     */
+    @VisibleForTesting
+    KnownTypes extendWith(TypeSet moreTypes) {
         checkNotNull(moreTypes);
-        var combined = typeSet.union(moreTypes);
-        var result = new KnownTypes(combined);
+        var sameMessages = moreTypes.messageTypes()
+                .stream()
+                .allMatch(this::isKnownAsIs);
+        var extendedIndex = index.extendWith(moreTypes);
+        var registry = sameMessages ? typeRegistry : null;
+        var registryFormats = sameMessages ? formats : null;
+        var result = new KnownTypes(
+                extendedIndex, report, true, slice, registry, registryFormats
+        );
+        return result;
+    }
+
+    /**
+     * Creates new known types with the types of this instance and the given types
+     * loaded on demand.
+     *
+     * <p>Unlike {@link #extendWith(TypeSet)}, the new instance always shares
+     * the {@code TypeRegistry} and the {@linkplain #formats() formats} with this instance,
+     * building them first, if needed. This way, loading types on demand never rebuilds
+     * the registry. Therefore, the registry does not contain the types loaded on demand.
+     *
+     * @see KnownTypesRoots
+     */
+    @VisibleForTesting
+    KnownTypes extendOnDemand(TypeSet loadedTypes) {
+        checkNotNull(loadedTypes);
+        var extendedIndex = index.extendWith(loadedTypes);
+        var registryFormats = formats();
+        var result = new KnownTypes(
+                extendedIndex, report, true, slice, typeRegistry(), registryFormats
+        );
         return result;
     }
 
+    /**
+     * Tells if the given type is known with the very same descriptor.
+     */
+    private boolean isKnownAsIs(MessageType type) {
+        return index.find(type.name())
+                    .map(known -> known.descriptor() == type.descriptor())
+                    .orElse(false);
+    }
+
     @Serial
     private Object readResolve() {
         return load();
     }
 
     private Set<Type<?, ?>> types() {
-        return typeSet.allTypes();
+        return asTypeSet().allTypes();
     }
 
     /**
-     * Loads known types from the classpath.
+     * Obtains the types declared in the given files.
      */
-    private static TypeSet loadTypeSet() {
-        var protoDefinitions = FileSet.load();
-        var types = TypeSet.from(protoDefinitions);
+    private static TypeSet typesOf(FileSet files, LoadReport report) {
+        var timer = LoadReport.time(report, LoadReport.TYPE_SET);
+        var types = TypeSet.from(files);
+        timer.stop(types.size());
         return types;
     }
 
+    /**
+     * Obtains the time spent on loading the known types.
+     *
+     * <p>The report includes building of the {@linkplain #typeRegistry() type registry}
+     * of the instance loaded from the classpath, once it is built.
+     *
+     * <p>The extended instances share the report of the instance loaded from the classpath.
+     * Building the registries of the extended instances is not reported.
+     */
+    public LoadReport loadReport() {
+        return report;
+    }
+
     /**
      * Obtains the list of file descriptors containing known types.
      *
@@ -192,10 +334,11 @@ public class KnownTypes implements Serializable {
      *         if there is no such type known to the application
      */
     public ClassName classNameOf(TypeUrl type) throws UnknownTypeException {
-        if (!instance().contains(type)) {
+        var knownTypes = instance();
+        if (!knownTypes.contains(type)) {
             throw new UnknownTypeException(type.typeName().value());
         }
-        var result = instance().get(type);
+        var result = knownTypes.get(type);
         return result;
     }
 
@@ -212,19 +355,63 @@ public class KnownTypes implements Serializable {
      * Retrieves all Protobuf types known to the application.
      */
     public TypeSet asTypeSet() {
-        return typeSet;
+        var result = typeSet;
+        if (result == null) {
+            synchronized (this) {
+                result = typeSet;
+                if (result == null) {
+                    result = index.toTypeSet();
+                    typeSet = result;
+                }
+            }
+        }
+        return result;
     }
 
     /**
      * Assembles the known types into a {@code TypeRegistry}.
      *
-     * <p>The resulting registry contains all the known Protobuf message types.
+     * <p>The resulting registry contains all the known Protobuf message types, except for
+     * the types {@linkplain KnownTypesRoots loaded on demand}.
+     *
+     * <p>The registry is built once per instance. Once built, it is obtained without locking.
+     */
+    public TypeRegistry typeRegistry() {
+        var result = typeRegistry;
+        if (result == null) {
+            synchronized (this) {
+                result = typeRegistry;
+                if (result == null) {
+                    var types = asTypeSet();
+                    var timer = LoadReport.time(extended ? null : report,
+                                                LoadReport.TYPE_REGISTRY);
+                    result = types.toTypeRegistry();
+                    timer.stop(types.messageTypes().size());
+                    typeRegistry = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Obtains the printers and parsers using the {@linkplain #typeRegistry() registry}
+     * of these types.
+     *
+     * <p>The formats are built once per instance. Once built, they are obtained without locking.
      */
-    public synchronized TypeRegistry typeRegistry() {
-        if (typeRegistry == null) {
-            typeRegistry = typeSet.toTypeRegistry();
+    RegistryFormats formats() {
+        var result = formats;
+        if (result == null) {
+            synchronized (this) {
+                result = formats;
+                if (result == null) {
+                    result = new RegistryFormats(typeRegistry());
+                    formats = result;
+                }
+            }
         }
-        return typeRegistry;
+        return result;
     }
 
     /**
@@ -250,7 +437,7 @@ public class KnownTypes implements Serializable {
      */
     public boolean contains(TypeUrl typeUrl) {
         var name = typeUrl.typeName();
-        var result = typeSet.contains(name);
+        var result = lookup(name).isPresent();
         return result;
     }
 
@@ -260,13 +447,38 @@ public class KnownTypes implements Serializable {
      * @see TypeSet#find(TypeName)
      */
     Optional<Type<?, ?>> find(TypeName typeName) {
-        var type = typeSet.find(typeName);
+        var type = lookup(typeName);
         return type;
     }
 
     private Type<?, ?> get(TypeName name) throws UnknownTypeException {
-        var result = typeSet.find(name)
-                            .orElseThrow(() -> new UnknownTypeException(name.value()));
+        var result = lookup(name)
+                .orElseThrow(() -> new UnknownTypeException(name.value()));
+        return result;
+    }
+
+    /**
+     * Finds a type by its name, loading it on demand if the type is outside
+     * the {@linkplain KnownTypesRoots roots}.
+     *
+     * <p>The types loaded on demand are added to the {@linkplain #instance() current instance},
+     * unless it already has them. This instance stays unchanged, so the subsequent lookups
+     * of the same type on this instance obtain the type from the slice again.
+     */
+    private Optional<Type<?, ?>> lookup(TypeName name) {
+        var type = index.find(name);
+        if (type.isPresent() || slice == null) {
+            return type;
+        }
+        var files = slice.linkDeclaring(name);
+        if (files.isEmpty()) {
+            return Optional.empty();
+        }
+        var moreTypes = TypeSet.from(files);
+        var result = moreTypes.find(name);
+        if (result.isPresent()) {
+            Holder.extendOnDemand(moreTypes, name);
+        }
         return result;
     }
 
@@ -317,8 +529,14 @@ public class KnownTypes implements Serializable {
         /** The lock to synchronize the write access to the {@code KnownTypes} instance. */
         private static final Lock lock = new ReentrantLock(false);
 
-        /** The singleton instance, which can be updated by {@link #extendWith(TypeSet)}. */
-        private static KnownTypes instance = load();
+        /**
+         * The singleton instance, which can be updated by {@link #extendWith(TypeSet)}.
+         *
+         * <p>The instance is never modified. Instead, an extended instance replaces it.
+         * Therefore, the readers obtain a consistent snapshot of the known types
+         * without locking, while the writers are serialized by the {@link #lock}.
+         */
+        private static volatile KnownTypes instance = load();
 
         /** Prevents instantiation from the outside. */
         private Holder() {
@@ -342,6 +560,28 @@ public class KnownTypes implements Serializable {
         public static void extendWith(TypeSet moreKnownTypes) {
             InvocationGuard.allowOnly("io.spine.tools.type.MoreKnownTypes");
             logger.atDebug().log(() -> format("Adding types `%s` to known types.", moreKnownTypes));
+            doExtendWith(moreKnownTypes);
+        }
+
+        /**
+         * Extends the known types with the types loaded on demand for the type
+         * with the given name, unless the known types already contain the type.
+         */
+        private static void extendOnDemand(TypeSet moreKnownTypes, TypeName requested) {
+            lock.lock();
+            try {
+                if (instance.index.contains(requested)) {
+                    return;
+                }
+                logger.atDebug().log(() -> format(
+                        "Adding types `%s` loaded on demand to known types.", moreKnownTypes));
+                instance = instance.extendOnDemand(moreKnownTypes);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private static void doExtendWith(TypeSet moreKnownTypes) {
             lock.lock();
             try {
                 var extended = instance.extendWith(moreKnownTypes);
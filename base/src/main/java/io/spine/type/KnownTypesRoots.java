@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.type;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableSet;
+
+import java.util.ServiceLoader;
+import java.util.Set;
+
+/**
+ * A service provider interface for the roots of the {@linkplain KnownTypes known types}.
+ *
+ * <p>By default, the known types include all the types from the descriptor sets found in
+ * the classpath. If the roots are configured, only the types reachable from the roots are
+ * loaded at start. A root is either a name of a Protobuf package, which includes its
+ * subpackages, or a full name of a type. The types reachable from a root are the types
+ * declared in the files matching the root and in the dependencies of these files.
+ *
+ * <p>The types outside the roots are loaded on demand, when they are looked up by name.
+ * The types loaded on demand are not added to the {@linkplain KnownTypes#typeRegistry() type
+ * registry}, which is built once for the types loaded at start. Therefore, printing and
+ * parsing of JSON or the Protobuf text format cannot resolve a message packed into
+ * {@link com.google.protobuf.Any Any}, if its type is outside the roots, even after the type
+ * is looked up. Please include such types into the roots.
+ *
+ * <p>The roots are collected from the {@value #PROPERTY} system property, which contains
+ * the roots separated by commas, and from all the providers discovered by the service loading
+ * mechanism in the current classpath.
+ */
+public interface KnownTypesRoots {
+
+    /**
+     * The name of the system property with the comma-separated roots.
+     */
+    String PROPERTY = "io.spine.known.types.roots";
+
+    /**
+     * Obtains all the configured roots.
+     *
+     * @return the roots, or an empty set if all the types are to be loaded
+     */
+    @SuppressWarnings("AccessOfSystemProperties" /* is necessary for this method to function */)
+    static ImmutableSet<String> configured() {
+        var result = ImmutableSet.<String>builder();
+        var property = System.getProperty(PROPERTY, "");
+        result.addAll(Splitter.on(',')
+                              .trimResults()
+                              .omitEmptyStrings()
+                              .split(property));
+        var loader = ServiceLoader.load(KnownTypesRoots.class);
+        for (var provider : loader) {
+            result.addAll(provider.roots());
+        }
+        return result.build();
+    }
+
+    /**
+     * Obtains the names of the Protobuf packages and the full names of the types
+     * to be loaded at start.
+     */
+    Set<String> roots();
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.type;
+
+import com.google.protobuf.TextFormat;
+import com.google.protobuf.TypeRegistry;
+import com.google.protobuf.util.JsonFormat;
+
+/**
+ * Printers and parsers of messages which use the {@link TypeRegistry} of
+ * a {@link KnownTypes} instance.
+ *
+ * <p>The instances are created {@linkplain KnownTypes#formats() once} per {@code KnownTypes}
+ * instance. This way, the printers and parsers always match the current known types, while
+ * obtaining them does not require locking.
+ */
+final class RegistryFormats {
+
+    private final JsonFormat.Printer jsonPrinter;
+    private final JsonFormat.Printer compactJsonPrinter;
+    private final JsonFormat.Parser jsonParser;
+    private final TextFormat.Printer textPrinter;
+
+    RegistryFormats(TypeRegistry registry) {
+        this.jsonPrinter = JsonFormat.printer()
+                                     .usingTypeRegistry(registry);
+        this.compactJsonPrinter = jsonPrinter.omittingInsignificantWhitespace();
+        this.jsonParser = JsonFormat.parser()
+                                    .ignoringUnknownFields()
+                                    .usingTypeRegistry(registry);
+        this.textPrinter = TextFormat.printer()
+                                     .escapingNonAscii(true)
+                                     .usingTypeRegistry(registry);
+    }
+
+    /**
+     * Obtains the printer of multi-line JSON.
+     */
+    JsonFormat.Printer jsonPrinter() {
+        return jsonPrinter;
+    }
+
+    /**
+     * Obtains the printer of JSON without insignificant whitespace.
+     */
+    JsonFormat.Printer compactJsonPrinter() {
+        return compactJsonPrinter;
+    }
+
+    /**
+     * Obtains the parser of JSON which ignores unknown fields.
+     */
+    JsonFormat.Parser jsonParser() {
+        return jsonParser;
+    }
+
+    /**
+     * Obtains the printer of the Protobuf text format which escapes non-ASCII characters.
+     */
+    TextFormat.Printer textPrinter() {
+        return textPrinter;
+    }
+}
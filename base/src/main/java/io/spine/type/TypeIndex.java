@@ -0,0 +1,132 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.type;
+
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Immutable;
+import io.spine.code.proto.TypeSet;
+
+import java.util.ArrayList;
+import java.util.Optional;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * An index of types which can be extended without copying all the indexed types.
+ *
+ * <p>The index consists of layers, each being a {@link TypeSet}. Extending the index adds
+ * a layer, sharing the existing layers with the original index. If a type is present in
+ * several layers, the one in the most recently added layer takes precedence.
+ *
+ * <p>To keep the number of layers small, a new layer is merged with the previous one
+ * until the previous layer becomes more than twice as big as the merged one.
+ * Thus, the layer sizes decrease at least geometrically from the oldest layer to the newest.
+ * This limits the number of layers by the logarithm of the number of types, while each type
+ * is copied a logarithmic number of times over all extensions.
+ */
+@Immutable
+final class TypeIndex {
+
+    /**
+     * The layers of the index, the oldest first.
+     */
+    private final ImmutableList<TypeSet> layers;
+
+    private TypeIndex(ImmutableList<TypeSet> layers) {
+        this.layers = layers;
+    }
+
+    /**
+     * Creates an index of the given types.
+     */
+    static TypeIndex of(TypeSet types) {
+        checkNotNull(types);
+        return new TypeIndex(ImmutableList.of(types));
+    }
+
+    /**
+     * Creates a new index with the types of this index and the given types.
+     */
+    TypeIndex extendWith(TypeSet types) {
+        checkNotNull(types);
+        if (types.isEmpty()) {
+            return this;
+        }
+        var newLayers = new ArrayList<>(layers);
+        var layer = types;
+        while (!newLayers.isEmpty()) {
+            var last = newLayers.get(newLayers.size() - 1);
+            if (last.size() > 2 * layer.size()) {
+                break;
+            }
+            newLayers.remove(newLayers.size() - 1);
+            layer = last.union(layer);
+        }
+        newLayers.add(layer);
+        return new TypeIndex(ImmutableList.copyOf(newLayers));
+    }
+
+    /**
+     * Finds a type by its name.
+     */
+    Optional<Type<?, ?>> find(TypeName name) {
+        for (var i = layers.size() - 1; i >= 0; i--) {
+            var type = layers.get(i).find(name);
+            if (type.isPresent()) {
+                return type;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Checks if a type with the given name is present in this index.
+     */
+    boolean contains(TypeName name) {
+        return find(name).isPresent();
+    }
+
+    /**
+     * Obtains all the types of this index as a single set.
+     *
+     * <p>The call copies all the indexed types, unless the index has only one layer.
+     */
+    TypeSet toTypeSet() {
+        var result = layers.get(0);
+        for (var i = 1; i < layers.size(); i++) {
+            result = result.union(layers.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Obtains the number of the layers of this index.
+     */
+    int layerCount() {
+        return layers.size();
+    }
+}
@@ -101,14 +101,24 @@ public object DescriptorSetReferenceFile {
      */
     @JvmStatic
     public fun loadAll(): List<Resource> {
-        val allDescRefFiles = resourceFile.locateAll()
-        return loadFromResources(allDescRefFiles)
+        val contents = try {
+            resourceFile.readAll()
+        } catch (e: IOException) {
+            throw illegalStateWithCauseOf(e)
+        }
+        return referencesIn(contents)
     }
 
     @VisibleForTesting
     internal fun loadFromResources(resources: Collection<URL>): List<Resource> =
-        resources.map { readFile(it) }
-            .flatMap { it.lines().filter { line -> filterLine(line) } }
+        referencesIn(resources.map { readFile(it) })
+
+    /**
+     * Obtains the descriptor set files referenced in the given contents
+     * of the reference files.
+     */
+    private fun referencesIn(contents: List<String>): List<Resource> =
+        contents.flatMap { it.lines().filter { line -> filterLine(line) } }
             .distinct()
             .map { Resource.file(it, classLoader) }
 
@@ -25,6 +25,7 @@
  */
 package io.spine.code.proto
 
+import com.google.protobuf.CodedInputStream
 import com.google.protobuf.DescriptorProtos.FileDescriptorSet
 import com.google.protobuf.DescriptorProtos.FileDescriptorSet.parseFrom
 import com.google.protobuf.InvalidProtocolBufferException
@@ -32,6 +33,11 @@ import io.spine.type.ExtensionRegistryHolder.extensionRegistry
 import io.spine.util.Exceptions.illegalArgumentWithCauseOf
 import java.io.IOException
 import java.io.InputStream
+import java.nio.ByteBuffer
+import java.nio.channels.FileChannel
+import java.nio.channels.FileChannel.MapMode.READ_ONLY
+import java.nio.file.Path
+import java.nio.file.StandardOpenOption.READ
 import java.util.Optional
 
 /**
@@ -67,4 +73,46 @@ public object FileDescriptorSetReader {
     } catch (e: IOException) {
         throw illegalArgumentWithCauseOf(e)
     }
+
+    /**
+     * Parses a descriptor set from the remaining bytes of the given buffer.
+     *
+     * The bytes are read directly from the buffer without copying them into an array.
+     * The position of the buffer is not changed.
+     */
+    @JvmStatic
+    public fun parse(buffer: ByteBuffer): FileDescriptorSet = try {
+        val input = CodedInputStream.newInstance(buffer.duplicate())
+        parseFrom(input, extensionRegistry)
+    } catch (e: IOException) {
+        throw illegalArgumentWithCauseOf(e)
+    }
+
+    /**
+     * Parses a descriptor set from the file with the given path.
+     *
+     * The file is [mapped][map] into memory, so that its content is not copied into the heap.
+     *
+     * The mapping outlives the call until it is garbage-collected. On some platforms,
+     * such as Windows, the file cannot be overwritten or deleted in the meantime.
+     */
+    @JvmStatic
+    public fun parse(path: Path): FileDescriptorSet = try {
+        parse(map(path))
+    } catch (e: IOException) {
+        throw illegalArgumentWithCauseOf(e)
+    }
+
+    /**
+     * Maps the content of the file with the given path into memory for reading.
+     *
+     * The mapping remains valid after the file is closed, until the returned buffer
+     * is garbage-collected.
+     */
+    @JvmStatic
+    @Throws(IOException::class)
+    public fun map(path: Path): ByteBuffer =
+        FileChannel.open(path, READ).use { channel ->
+            channel.map(READ_ONLY, 0, channel.size())
+        }
 }
@@ -26,14 +26,23 @@
 
 package io.spine.io
 
+import com.google.common.cache.Cache
+import com.google.common.cache.CacheBuilder
 import java.nio.file.FileSystems
 import java.nio.file.Path
 import java.nio.file.PathMatcher
+import java.nio.file.Paths
 
 /**
  * A [GLOB](https://docs.oracle.com/javase/tutorial/essential/io/fileOps.html#glob) pattern for
  * matching file paths.
  *
+ * The patterns are compiled once and shared by all the instances with the same pattern.
+ * The patterns matching only file extensions, such as `**.proto` or `**.{yml,yaml}`,
+ * are matched by comparing the path suffixes, without compiling a regular expression.
+ *
+ * To match a path against many patterns, use [GlobSet].
+ *
  * @see java.nio.file.FileSystem.getPathMatcher
  */
 public data class Glob(val pattern: String) {
@@ -42,7 +51,7 @@ public data class Glob(val pattern: String) {
         require(pattern.isNotEmpty())
     }
 
-    private val matcher: PathMatcher = FileSystems.getDefault().getPathMatcher("glob:$pattern")
+    private val matcher: PathMatcher = matchers.asMap().computeIfAbsent(pattern, ::compile)
 
     /**
      * Checks if the given path matches this pattern.
@@ -57,6 +66,15 @@ public data class Glob(val pattern: String) {
         @JvmField
         public val any: Glob = Glob("**")
 
+        /**
+         * Tells if the default file system matches the paths ignoring the case
+         * of the characters, as on Windows.
+         */
+        @get:JvmStatic
+        public val ignoresCase: Boolean by lazy {
+            FileSystems.getDefault().getPathMatcher("glob:a").matches(Paths.get("A"))
+        }
+
         /**
          * Creates a pattern which matches any file with the given extensions.
          *
@@ -122,6 +140,66 @@ public data class Glob(val pattern: String) {
     }
 }
 
+/**
+ * The maximum number of the compiled patterns kept in memory.
+ */
+private const val MAX_CACHED_PATTERNS = 1_000
+
+/**
+ * The compiled patterns.
+ */
+private val matchers: Cache<String, PathMatcher> = CacheBuilder.newBuilder()
+    .maximumSize(MAX_CACHED_PATTERNS.toLong())
+    .build()
+
+/**
+ * The characters which make an extension pattern require the full GLOB matching.
+ */
+private const val SPECIAL_CHARS = "*?[]{}\\,/"
+
+private fun compile(pattern: String): PathMatcher {
+    val extensions = extensionsOf(pattern)
+    return if (extensions != null) {
+        ExtensionMatcher(extensions)
+    } else {
+        FileSystems.getDefault().getPathMatcher("glob:$pattern")
+    }
+}
+
+/**
+ * Obtains the extensions matched by the given pattern, if the pattern matches only
+ * the file extensions, e.g., `**.proto` or `**.{yml,yaml}`.
+ *
+ * @return the extensions without the leading dots, or `null` if the pattern
+ *   is not an extension pattern.
+ */
+internal fun extensionsOf(pattern: String): List<String>? {
+    if (!pattern.startsWith("**.")) {
+        return null
+    }
+    val rest = pattern.substring("**.".length)
+    val extensions = if (rest.length > 2 && rest.startsWith('{') && rest.endsWith('}')) {
+        rest.substring(1, rest.length - 1).split(',')
+    } else {
+        listOf(rest)
+    }
+    val plain = extensions.all { ext -> ext.none { it in SPECIAL_CHARS } }
+    return if (plain) extensions else null
+}
+
+/**
+ * Matches the paths ending with one of the given extensions.
+ */
+private class ExtensionMatcher(extensions: List<String>) : PathMatcher {
+
+    private val suffixes = extensions.map { ".$it" }
+
+    override fun matches(path: Path): Boolean {
+        val value = path.toString()
+        return suffixes.any { value.endsWith(it, Glob.ignoresCase) }
+    }
+}
+
 /**
  * Transforms this iteration of char sequences into a sorted list of values that do not
  * have a leading dot.
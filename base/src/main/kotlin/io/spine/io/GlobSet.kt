@@ -0,0 +1,116 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.io
+
+import java.io.File
+import java.nio.file.Path
+
+/**
+ * A set of [Glob] patterns for matching a path against all the patterns at once.
+ *
+ * The patterns matching only file extensions, such as `**.proto` or `**.{yml,yaml}`,
+ * are combined into a single table of extensions. A path is matched against the table
+ * by looking up the suffixes of the file name following each dot. Therefore, the cost of
+ * matching a path does not depend on the number of such patterns.
+ *
+ * Other patterns are matched one by one.
+ */
+public class GlobSet(globs: Iterable<Glob>) {
+
+    /**
+     * Creates a set of the given patterns.
+     */
+    public constructor(vararg globs: Glob) : this(globs.toList())
+
+    /**
+     * The patterns of this set.
+     */
+    public val globs: Set<Glob> = globs.toSet()
+
+    /**
+     * The extensions matched by the extension patterns.
+     */
+    private val extensions: Set<String>
+
+    /**
+     * The patterns other than the extension patterns.
+     */
+    private val others: List<Glob>
+
+    init {
+        val extensions = mutableSetOf<String>()
+        val others = mutableListOf<Glob>()
+        for (glob in this.globs) {
+            val matched = extensionsOf(glob.pattern)
+            if (matched != null) {
+                matched.mapTo(extensions) { it.normalized() }
+            } else {
+                others.add(glob)
+            }
+        }
+        this.extensions = extensions
+        this.others = others
+    }
+
+    /**
+     * Checks if the given path matches any of the patterns of this set.
+     */
+    public fun matches(path: Path): Boolean =
+        hasExtension(path.toString()) || others.any { it.matches(path) }
+
+    /**
+     * Checks if the given file matches any of the patterns of this set.
+     */
+    public fun matches(file: File): Boolean = matches(file.toPath())
+
+    private fun hasExtension(path: String): Boolean {
+        if (extensions.isEmpty()) {
+            return false
+        }
+        val nameStart = maxOf(path.lastIndexOf('/'), path.lastIndexOf(File.separatorChar)) + 1
+        var dot = path.indexOf('.', nameStart)
+        while (dot >= 0) {
+            if (path.substring(dot + 1).normalized() in extensions) {
+                return true
+            }
+            dot = path.indexOf('.', dot + 1)
+        }
+        return false
+    }
+
+    override fun equals(other: Any?): Boolean =
+        this === other || (other is GlobSet && globs == other.globs)
+
+    override fun hashCode(): Int = globs.hashCode()
+
+    override fun toString(): String = "GlobSet(globs=$globs)"
+}
+
+/**
+ * Brings the extension to the form in which it is compared with the extensions of paths.
+ */
+private fun String.normalized(): String = if (Glob.ignoresCase) lowercase() else this
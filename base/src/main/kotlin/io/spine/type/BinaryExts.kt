@@ -54,6 +54,22 @@ public val <M : Message> Class<M>.parser: Parser<M>
 public fun <M : Message> Class<M>.parse(input: InputStream): M =
     parser.parseFrom(input, extensionRegistry)
 
+/**
+ * Parses a message preceded by its length from the given input stream.
+ *
+ * Use this function for reading messages written one after another by
+ * [Message.writeDelimitedTo].
+ *
+ * This function uses [ExtensionRegistry][extensionRegistry] with all known
+ * custom Protobuf options.
+ *
+ * @param M The type of the message.
+ * @return the parsed message, or `null` if the stream has no more bytes.
+ * @see io.spine.type.ExtensionRegistryHolder
+ */
+public fun <M : Message> Class<M>.parseDelimited(input: InputStream): M? =
+    parser.parseDelimitedFrom(input, extensionRegistry)
+
 /**
  * Creates a new message instance by parsing it from the given input stream.
  *
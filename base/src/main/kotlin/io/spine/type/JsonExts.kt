@@ -32,11 +32,9 @@ import com.google.common.base.Throwables
 import com.google.protobuf.InvalidProtocolBufferException
 import com.google.protobuf.Message
 import com.google.protobuf.MessageOrBuilder
-import com.google.protobuf.util.JsonFormat
 import com.google.protobuf.util.JsonFormat.Parser
 import com.google.protobuf.util.JsonFormat.Printer
 import io.spine.protobuf.builderFor
-import io.spine.type.TypeRegistryHolder.typeRegistry
 import io.spine.util.Exceptions.newIllegalStateException
 
 /**
@@ -55,24 +53,18 @@ import io.spine.util.Exceptions.newIllegalStateException
 private const val ABOUT = ""
 
 /**
- * Holds lazily evaluated properties related to generating and parsing JSON.
+ * Provides the printers and the parser of JSON for the current [KnownTypes].
  */
 private object JsonOutput {
 
-    val printer: Printer by lazy {
-        JsonFormat.printer()
-            .usingTypeRegistry(typeRegistry)
-    }
+    val printer: Printer
+        get() = KnownTypes.instance().formats().jsonPrinter()
 
-    val compactPrinter: Printer by lazy {
-        printer.omittingInsignificantWhitespace()
-    }
+    val compactPrinter: Printer
+        get() = KnownTypes.instance().formats().compactJsonPrinter()
 
-    val parser: Parser by lazy {
-        JsonFormat.parser()
-            .ignoringUnknownFields()
-            .usingTypeRegistry(typeRegistry)
-    }
+    val parser: Parser
+        get() = KnownTypes.instance().formats().jsonParser()
 }
 
 /**
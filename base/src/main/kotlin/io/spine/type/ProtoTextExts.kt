@@ -30,13 +30,11 @@ package io.spine.type
 
 import com.google.protobuf.Message
 import com.google.protobuf.MessageOrBuilder
-import com.google.protobuf.TextFormat
 import com.google.protobuf.TextFormat.Printer
 import com.google.protobuf.TypeRegistry
 import io.spine.string.Indent
 import io.spine.string.Separator
 import io.spine.string.pi
-import io.spine.type.TypeRegistryHolder.typeRegistry
 
 /**
  * Utilities for working with proto text format of Protobuf [Message] types.
@@ -48,11 +46,8 @@ import io.spine.type.TypeRegistryHolder.typeRegistry
 private const val ABOUT = ""
 
 private object TextOutput {
-    val printer: Printer by lazy {
-        TextFormat.printer()
-            .escapingNonAscii(true)
-            .usingTypeRegistry(typeRegistry)
-    }
+    val printer: Printer
+        get() = KnownTypes.instance().formats().textPrinter()
 }
 
 /**
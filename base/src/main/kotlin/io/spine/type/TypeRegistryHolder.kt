@@ -34,9 +34,10 @@ import com.google.protobuf.TypeRegistry
 public object TypeRegistryHolder {
 
     /**
-     * Lazily initialized instance of [TypeRegistry] with all [known types][KnownTypes].
+     * The instance of [TypeRegistry] with all the current [known types][KnownTypes].
+     *
+     * The registry is built once per [KnownTypes] instance and obtained without locking.
      */
-    public val typeRegistry: TypeRegistry by lazy {
-        KnownTypes.instance().typeRegistry()
-    }
+    public val typeRegistry: TypeRegistry
+        get() = KnownTypes.instance().typeRegistry()
 }
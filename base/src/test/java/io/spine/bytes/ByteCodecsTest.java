@@ -0,0 +1,251 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.bytes;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.NullValue;
+import com.google.protobuf.Struct;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.Value;
+import com.google.protobuf.util.Timestamps;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.bytes.ByteCodecs.fromBytes;
+import static io.spine.bytes.ByteCodecs.toBytes;
+import static io.spine.testing.Assertions.assertIllegalArgument;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("`ByteCodecs` should")
+class ByteCodecsTest {
+
+    @Nested
+    @DisplayName("convert to bytes and back")
+    class RoundTrip {
+
+        @Test
+        @DisplayName("`Integer` values")
+        void integers() {
+            var values = new int[]{0, 1, -1, 63, -64, 64, Integer.MAX_VALUE, Integer.MIN_VALUE};
+            for (var value : values) {
+                assertThat(fromBytes(toBytes(value), Integer.class)).isEqualTo(value);
+            }
+        }
+
+        @Test
+        @DisplayName("`Long` values")
+        void longs() {
+            var values = new long[]{0L, 1L, -1L, Long.MAX_VALUE, Long.MIN_VALUE};
+            for (var value : values) {
+                assertThat(fromBytes(toBytes(value), Long.class)).isEqualTo(value);
+            }
+        }
+
+        @Test
+        @DisplayName("`Boolean` values")
+        void booleans() {
+            assertThat(fromBytes(toBytes(true), Boolean.class)).isTrue();
+            assertThat(fromBytes(toBytes(false), Boolean.class)).isFalse();
+        }
+
+        @Test
+        @DisplayName("`String` values")
+        void strings() {
+            var value = "Gr\u00fc\u00dfe, \u4e16\u754c!";
+            assertThat(fromBytes(toBytes(value), String.class)).isEqualTo(value);
+            assertThat(fromBytes(toBytes(""), String.class)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("messages")
+        void messages() {
+            var value = Timestamps.fromMillis(1_234_567_890L);
+            assertThat(fromBytes(toBytes(value), Timestamp.class)).isEqualTo(value);
+        }
+
+        @Test
+        @DisplayName("enum constants")
+        void enums() {
+            for (var value : Size.values()) {
+                assertThat(fromBytes(toBytes(value), Size.class)).isEqualTo(value);
+            }
+            var protoEnum = NullValue.NULL_VALUE;
+            assertThat(fromBytes(toBytes(protoEnum), NullValue.class)).isEqualTo(protoEnum);
+        }
+    }
+
+    @Nested
+    @DisplayName("write compact bytes")
+    class Compact {
+
+        @Test
+        @DisplayName("for small negative numbers")
+        void smallNegative() {
+            assertThat(toBytes(-1)).isEqualTo(new byte[]{1});
+            assertThat(toBytes(-1L)).isEqualTo(new byte[]{1});
+            assertThat(toBytes(1)).isEqualTo(new byte[]{2});
+        }
+
+        @Test
+        @DisplayName("for strings prefixing them with the length")
+        void lengthPrefixed() {
+            var value = "\u00fc";
+            var utf8 = value.getBytes(UTF_8);
+
+            var bytes = toBytes(value);
+
+            assertThat(bytes).hasLength(utf8.length + 1);
+            assertThat(bytes[0]).isEqualTo((byte) utf8.length);
+        }
+
+        @Test
+        @DisplayName("for messages using their wire bytes")
+        void wireBytes() {
+            var value = Timestamps.fromSeconds(42);
+            var wire = value.toByteArray();
+
+            var bytes = toBytes(value);
+
+            assertThat(bytes[0]).isEqualTo((byte) wire.length);
+            assertThat(Arrays.copyOfRange(bytes, 1, bytes.length)).isEqualTo(wire);
+        }
+
+        @Test
+        @DisplayName("for Protobuf enums using their numbers")
+        void enumNumbers() {
+            assertThat(toBytes(NullValue.NULL_VALUE)).isEqualTo(new byte[]{0});
+        }
+    }
+
+    @Test
+    @DisplayName("write several values one after another")
+    void composite() throws IOException {
+        var integers = ByteCodecs.forInteger();
+        var strings = ByteCodecs.forString();
+        var size = integers.sizeOf(-7) + strings.sizeOf("key");
+        var bytes = new byte[size];
+        var out = CodedOutputStream.newInstance(bytes);
+        integers.write(-7, out);
+        strings.write("key", out);
+        out.checkNoSpaceLeft();
+
+        var in = CodedInputStream.newInstance(bytes);
+        assertThat(integers.read(in)).isEqualTo(-7);
+        assertThat(strings.read(in)).isEqualTo("key");
+        assertThat(in.isAtEnd()).isTrue();
+    }
+
+    @Test
+    @DisplayName("write equal messages with map fields as equal bytes")
+    void deterministicMaps() throws IOException {
+        var one = Value.newBuilder().setNumberValue(1).build();
+        var two = Value.newBuilder().setStringValue("two").build();
+        var three = Value.newBuilder().setBoolValue(true).build();
+        var forward = Struct.newBuilder()
+                .putFields("one", one)
+                .putFields("two", two)
+                .putFields("three", three)
+                .build();
+        var backward = Struct.newBuilder()
+                .putFields("three", three)
+                .putFields("two", two)
+                .putFields("one", one)
+                .build();
+        assertThat(forward).isEqualTo(backward);
+
+        assertThat(toBytes(forward)).isEqualTo(toBytes(backward));
+
+        var codec = ByteCodecs.forType(Struct.class);
+        var bytes = new byte[codec.sizeOf(backward)];
+        var out = CodedOutputStream.newInstance(bytes);
+        codec.write(backward, out);
+        out.checkNoSpaceLeft();
+        assertThat(bytes).isEqualTo(toBytes(forward));
+    }
+
+    @Test
+    @DisplayName("reuse codecs created for enum and message types")
+    void reuseDerived() {
+        assertThat(ByteCodecs.forType(Timestamp.class))
+                .isSameInstanceAs(ByteCodecs.forType(Timestamp.class));
+        assertThat(ByteCodecs.forType(Size.class))
+                .isSameInstanceAs(ByteCodecs.forType(Size.class));
+    }
+
+    @Test
+    @DisplayName("prefer the registered codec to a created one")
+    void preferRegistered() {
+        var codec = ByteCodecs.newForEnum(Color.class);
+        ByteCodecRegistry.instance().register(codec, Color.class);
+
+        assertThat(ByteCodecs.forType(Color.class)).isSameInstanceAs(codec);
+        assertThat(ByteCodecRegistry.instance().<Color>find(Color.class)).hasValue(codec);
+    }
+
+    @Test
+    @DisplayName("throw `MissingByteCodecException` for unsupported types")
+    void missing() {
+        assertThrows(MissingByteCodecException.class, () -> toBytes(new Object()));
+    }
+
+    @Test
+    @DisplayName("reject unexpected bytes after the value")
+    void trailingBytes() {
+        var bytes = new byte[]{2, 0};
+        assertIllegalArgument(() -> fromBytes(bytes, Integer.class));
+    }
+
+    @Test
+    @DisplayName("reject truncated bytes")
+    void truncated() {
+        var bytes = toBytes("truncated");
+        var truncated = Arrays.copyOf(bytes, bytes.length - 1);
+        assertIllegalArgument(() -> fromBytes(truncated, String.class));
+    }
+
+    @Test
+    @DisplayName("reject unknown enum constants")
+    void unknownConstant() {
+        var bytes = toBytes("HUGE");
+        assertIllegalArgument(() -> fromBytes(bytes, Size.class));
+    }
+
+    private enum Size {
+        SMALL, MEDIUM, LARGE
+    }
+
+    private enum Color {
+        RED, GREEN
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.code.proto;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.DescriptorProtos.FileDescriptorSet;
+import com.google.protobuf.SourceContext;
+import com.google.protobuf.Type;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.google.common.truth.Truth.assertThat;
+
+@DisplayName("`DescriptorSetCache` should")
+class DescriptorSetCacheTest {
+
+    private static final FileDescriptorSet descriptorSet = FileDescriptorSet.newBuilder()
+            .addFile(Type.getDescriptor().getFile().toProto())
+            .addFile(SourceContext.getDescriptor().getFile().toProto())
+            .addFile(Any.getDescriptor().getFile().toProto())
+            .build();
+
+    private File file;
+
+    @BeforeEach
+    void writeDescriptorSet(@TempDir Path dir) throws IOException {
+        file = dir.resolve("types.desc").toFile();
+        Files.write(file.toPath(), descriptorSet.toByteArray());
+    }
+
+    @AfterEach
+    void resetCache() {
+        DescriptorSetCache.disableOnDisk();
+        DescriptorSetCache.clear();
+    }
+
+    @Test
+    @DisplayName("return the same linked files while the descriptor set file is unchanged")
+    void cacheInProcess() {
+        var first = FileSet.parse(file);
+        var second = FileSet.parse(file);
+
+        // `FileDescriptor`s are compared by identity.
+        assertThat(second.files()).containsExactlyElementsIn(first.files());
+    }
+
+    @Test
+    @DisplayName("parse the descriptor set file again when it changes")
+    void reloadChanged() throws IOException {
+        var first = FileSet.parse(file);
+        var changed = descriptorSet.toBuilder()
+                .removeFile(0)
+                .build();
+        Files.write(file.toPath(), changed.toByteArray());
+        assertThat(file.setLastModified(file.lastModified() + 2_000)).isTrue();
+
+        var second = FileSet.parse(file);
+
+        assertThat(first.size()).isEqualTo(3);
+        assertThat(second.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("link the files by the plan stored on disk")
+    void cacheOnDisk(@TempDir Path cacheDir) throws IOException {
+        DescriptorSetCache.enableOnDisk(cacheDir);
+        var first = FileSet.parse(file);
+        try (var plans = Files.list(cacheDir)) {
+            assertThat(plans.count()).isEqualTo(1);
+        }
+        DescriptorSetCache.clear();
+
+        var second = FileSet.parse(file);
+
+        assertThat(DescriptorSetCache.onDiskDirectory().orElseThrow()).isEqualTo(cacheDir);
+        var typeFile = FileName.from(Type.getDescriptor().getFile());
+        var linked = second.tryFind(typeFile).orElseThrow();
+        assertThat(linked.getDependencies()).hasSize(2);
+        assertThat(linked.toProto()).isEqualTo(first.tryFind(typeFile).orElseThrow().toProto());
+    }
+}
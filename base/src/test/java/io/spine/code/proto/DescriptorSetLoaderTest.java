@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.code.proto;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Any;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorSet;
+import com.google.protobuf.Duration;
+import com.google.protobuf.Timestamp;
+import io.spine.io.Resource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.google.common.truth.Truth.assertThat;
+
+@DisplayName("`DescriptorSetLoader` should")
+class DescriptorSetLoaderTest {
+
+    private static final FileDescriptorProto any = Any.getDescriptor().getFile().toProto();
+    private static final FileDescriptorProto timestamp =
+            Timestamp.getDescriptor().getFile().toProto();
+    private static final FileDescriptorProto duration =
+            Duration.getDescriptor().getFile().toProto();
+
+    @Test
+    @DisplayName("load the files of many descriptor sets skipping duplicates")
+    void loadDistinct(@TempDir Path dir) throws IOException {
+        write(dir.resolve("first.desc"), any, timestamp);
+        write(dir.resolve("second.desc"), timestamp, duration);
+
+        try (var classLoader = new URLClassLoader(new URL[]{dir.toUri().toURL()}, null)) {
+            var resources = ImmutableList.of(
+                    Resource.file("first.desc", classLoader),
+                    Resource.file("missing.desc", classLoader),
+                    Resource.file("second.desc", classLoader)
+            );
+            var report = LoadReport.newInstance();
+            var files = DescriptorSetLoader.load(resources, report);
+
+            assertThat(files).containsExactly(any, timestamp, duration);
+            assertThat(report.resources()).hasSize(2);
+            assertThat(report.phase(LoadReport.PARSING).orElseThrow().count()).isEqualTo(3);
+        }
+    }
+
+    private static void write(Path file, FileDescriptorProto... files) throws IOException {
+        var set = FileDescriptorSet.newBuilder()
+                .addAllFile(ImmutableList.copyOf(files))
+                .build();
+        Files.write(file, set.toByteArray());
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.code.proto;
+
+import com.google.protobuf.AnyProto;
+import com.google.protobuf.Duration;
+import com.google.protobuf.DurationProto;
+import com.google.protobuf.SourceContextProto;
+import com.google.protobuf.TimestampProto;
+import com.google.protobuf.TypeProto;
+import io.spine.type.TypeName;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static com.google.common.truth.Truth.assertThat;
+
+@DisplayName("`DescriptorSlice` should")
+class DescriptorSliceTest {
+
+    private DescriptorSlice slice;
+
+    @BeforeEach
+    void createSlice() {
+        slice = DescriptorSlice.of(List.of(
+                TypeProto.getDescriptor().toProto(),
+                AnyProto.getDescriptor().toProto(),
+                SourceContextProto.getDescriptor().toProto(),
+                TimestampProto.getDescriptor().toProto(),
+                DurationProto.getDescriptor().toProto()
+        ));
+    }
+
+    @Test
+    @DisplayName("link only the files reachable from the roots")
+    void linkReachable() {
+        var files = slice.link(Set.of("google.protobuf.Type"), LoadReport.newInstance());
+
+        assertThat(files.size()).isEqualTo(3);
+        assertThat(files.contains(FileName.of("google/protobuf/type.proto"))).isTrue();
+        assertThat(files.contains(FileName.of("google/protobuf/any.proto"))).isTrue();
+        assertThat(files.contains(FileName.of("google/protobuf/timestamp.proto"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("link the file declaring a type on demand")
+    void linkOnDemand() {
+        var type = TypeName.of(Duration.class);
+        var files = slice.linkDeclaring(type);
+
+        assertThat(files.size()).isEqualTo(1);
+        assertThat(files.contains(FileName.of("google/protobuf/duration.proto"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("obtain the already linked file declaring a type")
+    void obtainLinked() {
+        var type = TypeName.of(Duration.class);
+        var first = slice.linkDeclaring(type);
+        var second = slice.linkDeclaring(type);
+
+        // `FileDescriptor`s are compared by identity.
+        assertThat(second.files()).containsExactlyElementsIn(first.files());
+    }
+
+    @Test
+    @DisplayName("obtain an empty set for an unknown type")
+    void unknownType() {
+        var files = slice.linkDeclaring(TypeName.of("acme.Unknown"));
+
+        assertThat(files.isEmpty()).isTrue();
+    }
+}
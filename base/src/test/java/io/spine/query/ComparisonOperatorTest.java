@@ -29,12 +29,15 @@ package io.spine.query;
 import com.google.common.collect.ImmutableList;
 import com.google.protobuf.Any;
 import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Timestamps;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.util.Comparator;
+
 import static com.google.common.truth.Truth.assertThat;
 import static io.spine.query.ComparisonOperator.EQUALS;
 import static io.spine.query.ComparisonOperator.GREATER_OR_EQUALS;
@@ -189,4 +192,83 @@ class ComparisonOperatorTest {
     void nullEqualsNull() {
         assertThat(EQUALS.eval(nullRef(), nullRef())).isTrue();
     }
+
+    @Nested
+    @DisplayName("evaluate typed values consistently with the generic evaluation")
+    final class Typed {
+
+        private final ImmutableList<ComparisonOperator> allOperators =
+                ImmutableList.copyOf(ComparisonOperator.values());
+
+        @Test
+        @DisplayName("for primitive operands")
+        void primitives() {
+            int[] ints = {Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE};
+            double[] doubles = {Double.NEGATIVE_INFINITY, -0.0, 0.0, 1.5, Double.NaN};
+            for (var operator : allOperators) {
+                for (var left : ints) {
+                    for (var right : ints) {
+                        assertThat(operator.evalInt(left, right))
+                                .isEqualTo(operator.eval(left, right));
+                        assertThat(operator.evalLong(left, right))
+                                .isEqualTo(operator.eval((long) left, (long) right));
+                    }
+                }
+                for (var left : doubles) {
+                    for (var right : doubles) {
+                        assertThat(operator.evalDouble(left, right))
+                                .isEqualTo(operator.eval(left, right));
+                    }
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("for `Timestamp` operands")
+        void timestamps() {
+            Timestamp[] values = {nullRef(), Timestamps.fromSeconds(1), Timestamps.fromSeconds(2)};
+            for (var operator : allOperators) {
+                var evaluator = operator.evaluatorFor(Timestamp.class);
+                for (var left : values) {
+                    for (var right : values) {
+                        var expected = operator.eval(left, right);
+                        assertThat(operator.evalTimestamp(left, right)).isEqualTo(expected);
+                        assertThat(evaluator.eval(left, right)).isEqualTo(expected);
+                    }
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("by the evaluator specialized for the type of the operands")
+        void evaluator() {
+            Integer[] ints = {nullRef(), -1, 0, 1};
+            String[] strings = {nullRef(), "a", "b"};
+            for (var operator : allOperators) {
+                var intEvaluator = operator.evaluatorFor(Integer.class);
+                for (var left : ints) {
+                    for (var right : ints) {
+                        assertThat(intEvaluator.eval(left, right))
+                                .isEqualTo(operator.eval(left, right));
+                    }
+                }
+                var stringEvaluator = operator.evaluatorFor(String.class);
+                for (var left : strings) {
+                    for (var right : strings) {
+                        assertThat(stringEvaluator.eval(left, right))
+                                .isEqualTo(operator.eval(left, right));
+                    }
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("by the passed comparator")
+        void comparator() {
+            Comparator<String> byLength = Comparator.comparingInt(String::length);
+            assertThat(LESS_THAN.eval("bb", "a", byLength)).isFalse();
+            assertThat(GREATER_OR_EQUALS.eval("b", "a", byLength)).isTrue();
+            assertThat(GREATER_THAN.eval(nullRef(), "a", byLength)).isFalse();
+        }
+    }
 }
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.query;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.FieldMask;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.util.FieldMaskUtil;
+import com.google.protobuf.util.Timestamps;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.query.given.RecordQueryBuilderTestEnv.queryManufacturer;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("`FieldMaskProjection` should")
+class FieldMaskProjectionTest {
+
+    private static final Manufacturer RECORD = Manufacturer.newBuilder()
+            .setId(ManufacturerId.newBuilder().setUuid("42"))
+            .setIsin(Isin.newBuilder().setValue("JP 38998000001"))
+            .setWhenFounded(Timestamps.fromSeconds(1_000_000))
+            .setNumberOfEmployees(150)
+            .setType(LegalEntityType.PUBLIC_JOINT_STOCK)
+            .addStockSymbol(TradeStockSymbol.newBuilder().setValue("ACM"))
+            .addStockSymbol(TradeStockSymbol.newBuilder().setValue("ACME"))
+            .build();
+
+    @ParameterizedTest
+    @DisplayName("project the record in the same way as `FieldMaskUtil`")
+    @ValueSource(strings = {
+            "isin",
+            "when_founded.seconds",
+            "number_of_employees,type,stock_symbol",
+            "id.uuid,isin,when_founded",
+            "when_founded,when_founded.nanos"
+    })
+    void projectAsFieldMaskUtil(String paths) {
+        var mask = FieldMaskUtil.fromString(paths);
+        var projection = FieldMaskProjection.compile(Manufacturer.class, mask);
+
+        assertThat(projection.project(RECORD)).isEqualTo(expected(mask));
+    }
+
+    @ParameterizedTest
+    @DisplayName("write the masked record bytes directly")
+    @ValueSource(strings = {
+            "isin",
+            "when_founded.seconds",
+            "number_of_employees,type,stock_symbol"
+    })
+    void writeMaskedBytes(String paths) throws IOException {
+        var mask = FieldMaskUtil.fromString(paths);
+        var projection = FieldMaskProjection.compile(Manufacturer.class, mask);
+
+        var output = new ByteArrayOutputStream();
+        projection.writeTo(RECORD, output);
+
+        var expected = expected(mask);
+        assertThat(output.toByteArray()).isEqualTo(expected.toByteArray());
+    }
+
+    @ParameterizedTest
+    @DisplayName("transcode the serialized record")
+    @ValueSource(strings = {
+            "isin",
+            "when_founded.seconds",
+            "number_of_employees,type,stock_symbol",
+            "id.uuid,when_founded"
+    })
+    void transcode(String paths) throws InvalidProtocolBufferException {
+        var mask = FieldMaskUtil.fromString(paths);
+        var projection = FieldMaskProjection.compile(Manufacturer.class, mask);
+
+        var transcoded = projection.transcode(RECORD.toByteString());
+
+        assertThat(Manufacturer.parseFrom(transcoded)).isEqualTo(expected(mask));
+    }
+
+    @Test
+    @DisplayName("return the record as-is if the mask is empty")
+    void identity() throws IOException {
+        var query = queryManufacturer().build();
+        var projection = FieldMaskProjection.of(query);
+
+        assertThat(projection.isIdentity()).isTrue();
+        assertThat(projection.project(RECORD)).isSameInstanceAs(RECORD);
+
+        var output = ByteString.newOutput();
+        var coded = CodedOutputStream.newInstance(output);
+        projection.transcode(RECORD.toByteString().newCodedInput(), coded);
+        coded.flush();
+        assertThat(output.toByteString()).isEqualTo(RECORD.toByteString());
+    }
+
+    @Test
+    @DisplayName("reject paths to unknown fields")
+    void rejectUnknownField() {
+        var mask = FieldMaskUtil.fromString("not_a_field");
+        assertThrows(IllegalArgumentException.class,
+                     () -> FieldMaskProjection.compile(Manufacturer.class, mask));
+    }
+
+    @Test
+    @DisplayName("reject paths to the nested fields of repeated fields")
+    void rejectRepeatedSubPath() {
+        var mask = FieldMaskUtil.fromString("stock_symbol.value");
+        assertThrows(IllegalArgumentException.class,
+                     () -> FieldMaskProjection.compile(Manufacturer.class, mask));
+    }
+
+    private static Manufacturer expected(FieldMask mask) {
+        var builder = Manufacturer.newBuilder();
+        FieldMaskUtil.merge(mask, RECORD, builder);
+        return builder.build();
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.query;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Timestamps;
+import io.spine.base.Time;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.query.given.RecordQueryBuilderTestEnv.ManufacturerColumns.is_traded;
+import static io.spine.query.given.RecordQueryBuilderTestEnv.ManufacturerColumns.isin;
+import static io.spine.query.given.RecordQueryBuilderTestEnv.ManufacturerColumns.stock_count;
+import static io.spine.query.given.RecordQueryBuilderTestEnv.ManufacturerColumns.when_founded;
+import static io.spine.query.given.RecordQueryBuilderTestEnv.queryManufacturer;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("`QueryShape` should")
+class QueryShapeTest {
+
+    private static final Timestamp NOW = Time.currentTime();
+    private static final Timestamp EPOCH = Timestamps.fromSeconds(0);
+
+    @Nested
+    @DisplayName("be equal for predicates")
+    final class Equality {
+
+        @Test
+        @DisplayName("which differ only by the parameter values")
+        void sameStructure() {
+            var first = QueryShape.of(complexPredicate("JP 1", 10, NOW));
+            var second = QueryShape.of(complexPredicate("US 2", 42, EPOCH));
+            assertThat(first).isEqualTo(second);
+            assertThat(first.hashCode()).isEqualTo(second.hashCode());
+        }
+
+        @Test
+        @DisplayName("but not equal, if the comparison operators differ")
+        void differentOperators() {
+            var equalTo = queryManufacturer()
+                    .where(stock_count).is(1)
+                    .build()
+                    .subject()
+                    .predicate();
+            var greaterThan = queryManufacturer()
+                    .where(stock_count).isGreaterThan(1)
+                    .build()
+                    .subject()
+                    .predicate();
+            assertThat(QueryShape.of(equalTo)).isNotEqualTo(QueryShape.of(greaterThan));
+        }
+    }
+
+    @Test
+    @DisplayName("extract the parameter values in the order of the slots")
+    void extractValues() {
+        var predicate = complexPredicate("JP 1", 10, NOW);
+        var parameterized = QueryShape.parameterize(predicate);
+
+        assertThat(parameterized.shape().slotCount()).isEqualTo(4);
+        assertThat(parameterized.values()).containsExactly(true, "JP 1", 10, NOW);
+    }
+
+    @Test
+    @DisplayName("bind the values restoring the original predicate")
+    void bind() {
+        var original = complexPredicate("JP 1", 10, NOW);
+        var parameterized = QueryShape.parameterize(original);
+
+        var bound = parameterized.shape()
+                                 .bind(parameterized.values());
+        assertThat(bound).isEqualTo(original);
+    }
+
+    @Test
+    @DisplayName("bind the values to its disjunctive normal form")
+    void bindDnf() {
+        var shape = QueryShape.of(complexPredicate("JP 1", 10, NOW));
+        var another = complexPredicate("US 2", 42, EPOCH);
+
+        var values = QueryShape.parameterize(another).values();
+        assertThat(shape.bindDnf(values)).isEqualTo(another.toDnf());
+    }
+
+    @Nested
+    @DisplayName("reject binding")
+    final class RejectBinding {
+
+        @Test
+        @DisplayName("an unexpected number of values")
+        void wrongCount() {
+            var shape = QueryShape.of(complexPredicate("JP 1", 10, NOW));
+            assertThrows(IllegalArgumentException.class,
+                         () -> shape.bind(ImmutableList.of(true, "JP 1")));
+        }
+
+        @Test
+        @DisplayName("values of the types other than the column types")
+        void wrongType() {
+            var shape = QueryShape.of(complexPredicate("JP 1", 10, NOW));
+            assertThrows(IllegalArgumentException.class,
+                         () -> shape.bind(ImmutableList.of(true, 10, "JP 1", NOW)));
+        }
+    }
+
+    @Test
+    @DisplayName("be compiled only once per shape when cached")
+    void compileOnce() {
+        var compilations = new AtomicInteger();
+        QueryShapeCache<Manufacturer, QueryShape<Manufacturer>> cache =
+                QueryShapeCache.create(shape -> {
+                    compilations.incrementAndGet();
+                    return shape;
+                }, 10);
+
+        var first = cache.planFor(complexPredicate("JP 1", 10, NOW));
+        var second = cache.planFor(complexPredicate("US 2", 42, EPOCH));
+
+        assertThat(compilations.get()).isEqualTo(1);
+        assertThat(second).isSameInstanceAs(first);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    private static QueryPredicate<Manufacturer>
+    complexPredicate(String isinValue, int stockCount, Timestamp founded) {
+        var query = queryManufacturer()
+                .where(is_traded).is(true)
+                .either(r -> r.where(isin).is(isinValue),
+                        r -> r.where(stock_count).isGreaterThan(stockCount)
+                              .where(when_founded).isLessThan(founded))
+                .build();
+        return query.subject().predicate();
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.query;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.util.Timestamps;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.query.given.RecordQueryBuilderTestEnv.ManufacturerColumns.is_traded;
+import static io.spine.query.given.RecordQueryBuilderTestEnv.ManufacturerColumns.stock_count;
+import static io.spine.query.given.RecordQueryBuilderTestEnv.ManufacturerColumns.when_founded;
+import static io.spine.query.given.RecordQueryBuilderTestEnv.queryManufacturer;
+
+@DisplayName("`RecordQueryEvaluator` should")
+class RecordQueryEvaluatorTest {
+
+    private static final int RECORD_COUNT = 2_000;
+
+    private static final ForkJoinPool pool = new ForkJoinPool(4);
+
+    private static final ImmutableList<Manufacturer> records =
+            IntStream.range(0, RECORD_COUNT)
+                     .mapToObj(RecordQueryEvaluatorTest::manufacturer)
+                     .collect(toImmutableList());
+
+    private static final RecordSource<ManufacturerId, Manufacturer> source =
+            RecordSource.of(records, Manufacturer::getId);
+
+    private static final RecordQueryEvaluator parallel = RecordQueryEvaluator.parallel(pool, 1);
+
+    @AfterAll
+    static void shutDownPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("filter the records keeping the source order")
+    void filter() {
+        var query = queryManufacturer()
+                .where(is_traded).is(true)
+                .where(stock_count).isLessOrEqualTo(2)
+                .build();
+        var expected = records.stream()
+                .filter(r -> r.getStockSymbolCount() > 0 && r.getStockSymbolCount() <= 2)
+                .collect(toImmutableList());
+
+        assertThat(RecordQueryEvaluator.sequential().evaluate(query, source))
+                .containsExactlyElementsIn(expected)
+                .inOrder();
+        assertThat(parallel.evaluate(query, source))
+                .containsExactlyElementsIn(expected)
+                .inOrder();
+    }
+
+    @Test
+    @DisplayName("merge the top records of partitions in a deterministic order")
+    void sortAndLimit() {
+        var limit = 50;
+        var query = queryManufacturer()
+                .where(stock_count).isGreaterThan(0)
+                .sortDescendingBy(stock_count)
+                .sortAscendingBy(when_founded)
+                .limit(limit)
+                .build();
+        var expected = records.stream()
+                .filter(r -> r.getStockSymbolCount() > 0)
+                .sorted(Comparator.comparingInt(Manufacturer::getStockSymbolCount)
+                                  .reversed()
+                                  .thenComparing(Manufacturer::getWhenFounded,
+                                                 Timestamps.comparator()))
+                .limit(limit)
+                .collect(toImmutableList());
+
+        var sequentialResult = RecordQueryEvaluator.sequential().evaluate(query, source);
+        var parallelResult = parallel.evaluate(query, source);
+
+        assertThat(sequentialResult).containsExactlyElementsIn(expected).inOrder();
+        assertThat(parallelResult).containsExactlyElementsIn(expected).inOrder();
+    }
+
+    @Test
+    @DisplayName("filter the records by identifiers")
+    void filterByIds() {
+        var first = records.get(7);
+        var second = records.get(RECORD_COUNT - 3);
+        var query = queryManufacturer()
+                .id().in(second.getId(), first.getId())
+                .build();
+
+        assertThat(parallel.evaluate(query, source))
+                .containsExactly(first, second)
+                .inOrder();
+    }
+
+    @Test
+    @DisplayName("apply the field mask to the results")
+    void applyMask() {
+        var query = queryManufacturer()
+                .id().is(records.get(0).getId())
+                .withMask("id")
+                .build();
+        var expected = Manufacturer.newBuilder()
+                .setId(records.get(0).getId())
+                .build();
+
+        assertThat(parallel.evaluate(query, source)).containsExactly(expected);
+    }
+
+    private static Manufacturer manufacturer(int index) {
+        var builder = Manufacturer.newBuilder()
+                .setId(ManufacturerId.newBuilder().setUuid("id-" + index))
+                .setWhenFounded(Timestamps.fromSeconds(index % 13));
+        for (var i = 0; i < index % 5; i++) {
+            builder.addStockSymbol(TradeStockSymbol.newBuilder().setValue("S" + i));
+        }
+        return builder.build();
+    }
+}
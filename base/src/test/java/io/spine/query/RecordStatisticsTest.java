@@ -0,0 +1,138 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.query;
+
+import com.google.protobuf.util.Timestamps;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static io.spine.query.given.RecordQueryBuilderTestEnv.ManufacturerColumns.is_traded;
+import static io.spine.query.given.RecordQueryBuilderTestEnv.ManufacturerColumns.isin;
+import static io.spine.query.given.RecordQueryBuilderTestEnv.ManufacturerColumns.stock_count;
+import static io.spine.query.given.RecordQueryBuilderTestEnv.ManufacturerColumns.when_founded;
+import static io.spine.query.given.RecordQueryBuilderTestEnv.queryManufacturer;
+
+@DisplayName("`RecordStatistics` should")
+class RecordStatisticsTest {
+
+    private static final int RECORD_COUNT = 10_000;
+
+    private RecordStatistics<Manufacturer> statistics;
+
+    @BeforeEach
+    void collectStatistics() {
+        statistics = RecordStatistics.of(Columns.of(isin, when_founded, is_traded, stock_count));
+        for (var index = 0; index < RECORD_COUNT; index++) {
+            statistics.record(manufacturer(index));
+        }
+    }
+
+    @Test
+    @DisplayName("count the distinct values and track the value range")
+    void describeColumns() {
+        assertThat(statistics.count()).isEqualTo(RECORD_COUNT);
+        var isinStats = statistics.statisticsOf(isin).orElseThrow();
+        assertThat((double) isinStats.distinctCount()).isWithin(RECORD_COUNT * 0.05)
+                                                      .of(RECORD_COUNT);
+        var stockStats = statistics.statisticsOf(stock_count).orElseThrow();
+        assertThat(stockStats.distinctCount()).isEqualTo(5);
+        assertThat(stockStats.min()).hasValue(0);
+        assertThat(stockStats.max()).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("estimate the number of records matching an equality")
+    void estimateEquality() {
+        var query = queryManufacturer()
+                .where(stock_count).is(3)
+                .build();
+        assertThat((double) statistics.estimate(query)).isWithin(RECORD_COUNT * 0.01)
+                                                       .of(RECORD_COUNT / 5.0);
+    }
+
+    @Test
+    @DisplayName("estimate no records for a value out of the range")
+    void estimateOutOfRange() {
+        var query = queryManufacturer()
+                .where(stock_count).is(42)
+                .build();
+        assertThat(statistics.estimate(query)).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("estimate the conjunction of range comparisons using the histogram")
+    void estimateRange() {
+        var query = queryManufacturer()
+                .where(stock_count).isGreaterOrEqualTo(2)
+                .where(when_founded).isLessThan(Timestamps.fromSeconds(50))
+                .build();
+        var expected = RECORD_COUNT * 0.6 * 0.5;
+        assertThat((double) statistics.estimate(query)).isWithin(RECORD_COUNT * 0.05)
+                                                       .of(expected);
+    }
+
+    @Test
+    @DisplayName("estimate the disjunction assuming independent columns")
+    void estimateDisjunction() {
+        var query = queryManufacturer()
+                .either(r -> r.where(stock_count).is(0),
+                        r -> r.where(stock_count).is(1))
+                .build();
+        var expected = RECORD_COUNT * (1 - 0.8 * 0.8);
+        assertThat((double) statistics.estimate(query)).isWithin(RECORD_COUNT * 0.01)
+                                                       .of(expected);
+    }
+
+    @Test
+    @DisplayName("take into account the identifiers and the limit of the query")
+    void estimateWithIdsAndLimit() {
+        var byIds = queryManufacturer()
+                .id().in(manufacturer(1).getId(), manufacturer(2).getId())
+                .build();
+        assertThat(statistics.estimate(byIds)).isEqualTo(2);
+
+        var limited = queryManufacturer()
+                .where(stock_count).isGreaterThan(0)
+                .sortAscendingBy(stock_count)
+                .limit(10)
+                .build();
+        assertThat(statistics.estimate(limited)).isEqualTo(10);
+    }
+
+    private static Manufacturer manufacturer(int index) {
+        var builder = Manufacturer.newBuilder()
+                .setId(ManufacturerId.newBuilder().setUuid("id-" + index))
+                .setIsin(Isin.newBuilder().setValue("ISIN-" + index))
+                .setWhenFounded(Timestamps.fromSeconds(index % 100));
+        for (var i = 0; i < index % 5; i++) {
+            builder.addStockSymbol(TradeStockSymbol.newBuilder().setValue("S" + i));
+        }
+        return builder.build();
+    }
+}
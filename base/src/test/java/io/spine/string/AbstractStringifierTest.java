@@ -30,6 +30,9 @@ import com.google.common.base.Converter;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import static com.google.common.testing.SerializableTester.reserializeAndAssert;
 import static com.google.common.truth.Truth.assertThat;
 import static io.spine.testing.Assertions.assertHasPrivateParameterlessCtor;
@@ -83,6 +86,21 @@ abstract class AbstractStringifierTest<T> {
         assertThat(convertedBack).isEqualTo(obj);
     }
 
+    @Test
+    @DisplayName("append the same string as produced by the conversion")
+    void appendTo() throws IOException {
+        var obj = createObject();
+        var expected = stringifier.convert(obj);
+
+        var builder = new StringBuilder("prefix");
+        stringifier.appendTo(obj, builder);
+        assertThat(builder.toString()).isEqualTo("prefix" + expected);
+
+        var writer = new StringWriter();
+        stringifier.appendTo(obj, writer);
+        assertThat(writer.toString()).isEqualTo(expected);
+    }
+
     @Test
     @DisplayName("prohibit empty string input")
     void prohibitEmptyString() {
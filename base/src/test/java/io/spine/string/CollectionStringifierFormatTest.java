@@ -0,0 +1,231 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.string;
+
+import io.spine.string.given.LegacyCollectionFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("`ListStringifier` and `MapStringifier` should keep the string format of")
+class CollectionStringifierFormatTest {
+
+    private static final int ITERATIONS = 3_000;
+
+    private static final String PREFIX = "\"prefix\",";
+
+    /**
+     * The pieces of the generated strings, including the ones significant for the format.
+     */
+    private static final String[] PIECES = {
+            "a", "Z", "7", "_", " ", "-", "$", "#", ",", ":", "\"", "\\",
+            "\\\"", "\\\\", "\":\"", "\",\"", "\u00e9", "\uD83D\uDE00", "\uD83D"
+    };
+
+    private final Random random = new Random(42);
+
+    @Nested
+    @DisplayName("lists")
+    class Lists {
+
+        @ParameterizedTest
+        @ValueSource(chars = {',', '#'})
+        @DisplayName("when converting to a string")
+        void write(char delimiter) {
+            var stringifier = new ListStringifier<>(String.class, delimiter);
+            for (var i = 0; i < ITERATIONS; i++) {
+                var list = randomList();
+                assertThat(stringifier.convert(list))
+                        .isEqualTo(LegacyCollectionFormat.listToString(list, delimiter));
+            }
+        }
+
+        @ParameterizedTest
+        @ValueSource(chars = {',', '#'})
+        @DisplayName("when appending to a builder")
+        void append(char delimiter) {
+            var stringifier = new ListStringifier<>(String.class, delimiter);
+            for (var i = 0; i < ITERATIONS; i++) {
+                var list = randomList();
+                var builder = new StringBuilder(PREFIX);
+                stringifier.appendTo(list, builder);
+                assertThat(builder.toString())
+                        .isEqualTo(PREFIX + LegacyCollectionFormat.listToString(list, delimiter));
+            }
+        }
+
+        @ParameterizedTest
+        @ValueSource(chars = {',', '#'})
+        @DisplayName("when parsing a string")
+        void read(char delimiter) {
+            var stringifier = new ListStringifier<>(String.class, delimiter);
+            for (var i = 0; i < ITERATIONS; i++) {
+                var valid = LegacyCollectionFormat.listToString(randomList(), delimiter);
+                for (var input : List.of(valid, mutate(valid), randomString(12))) {
+                    assertSameOutcome(
+                            () -> LegacyCollectionFormat.listFromString(input, delimiter),
+                            () -> stringifier.reverse().convert(input)
+                    );
+                }
+            }
+        }
+
+        private List<String> randomList() {
+            List<String> result = new ArrayList<>();
+            var size = random.nextInt(5);
+            for (var i = 0; i < size; i++) {
+                result.add(randomString(6));
+            }
+            return result;
+        }
+    }
+
+    @Nested
+    @DisplayName("maps")
+    class Maps {
+
+        @ParameterizedTest
+        @ValueSource(chars = {',', '#'})
+        @DisplayName("when converting to a string")
+        void write(char delimiter) {
+            var stringifier = new MapStringifier<>(String.class, String.class, delimiter);
+            for (var i = 0; i < ITERATIONS; i++) {
+                var map = randomMap();
+                String expected;
+                try {
+                    expected = LegacyCollectionFormat.mapToString(map, delimiter);
+                } catch (IllegalArgumentException e) {
+                    // The earlier versions failed to quote some values.
+                    continue;
+                }
+                assertThat(stringifier.convert(map)).isEqualTo(expected);
+            }
+        }
+
+        @ParameterizedTest
+        @ValueSource(chars = {',', '#'})
+        @DisplayName("when appending to a builder")
+        void append(char delimiter) {
+            var stringifier = new MapStringifier<>(String.class, String.class, delimiter);
+            for (var i = 0; i < ITERATIONS; i++) {
+                var map = randomMap();
+                var builder = new StringBuilder(PREFIX);
+                stringifier.appendTo(map, builder);
+                assertThat(builder.toString()).isEqualTo(PREFIX + stringifier.convert(map));
+            }
+        }
+
+        @ParameterizedTest
+        @ValueSource(chars = {',', '#'})
+        @DisplayName("when parsing a string")
+        void read(char delimiter) {
+            var stringifier = new MapStringifier<>(String.class, String.class, delimiter);
+            for (var i = 0; i < ITERATIONS; i++) {
+                var valid = stringifier.convert(randomMap());
+                for (var input : List.of(valid, mutate(valid), randomString(12))) {
+                    assertSameOutcome(
+                            () -> LegacyCollectionFormat.mapFromString(input, delimiter),
+                            () -> stringifier.reverse().convert(input)
+                    );
+                }
+            }
+        }
+
+        /**
+         * Creates a map, which keys remain distinct after quoting.
+         *
+         * <p>The quoting of map items is lossy, so different keys may be quoted identically.
+         */
+        private Map<String, String> randomMap() {
+            Map<String, String> result = new LinkedHashMap<>();
+            var quotedKeys = new HashSet<String>();
+            var size = random.nextInt(5);
+            for (var i = 0; i < size; i++) {
+                var key = randomString(4);
+                if (quotedKeys.add(Quoter.forMaps().quote(key))) {
+                    result.put(key, randomString(6));
+                }
+            }
+            return result;
+        }
+    }
+
+    private static <T> void assertSameOutcome(Supplier<T> legacy, Supplier<T> current) {
+        T expected;
+        try {
+            expected = legacy.get();
+        } catch (RuntimeException e) {
+            assertThrows(RuntimeException.class, current::get);
+            return;
+        }
+        assertThat(current.get()).isEqualTo(expected);
+    }
+
+    private String randomString(int maxPieces) {
+        var result = new StringBuilder();
+        var count = random.nextInt(maxPieces + 1);
+        for (var i = 0; i < count; i++) {
+            result.append(PIECES[random.nextInt(PIECES.length)]);
+        }
+        return result.toString();
+    }
+
+    /**
+     * Randomly deletes, inserts, or replaces a piece of the passed string.
+     */
+    private String mutate(String value) {
+        if (value.isEmpty()) {
+            return randomString(1);
+        }
+        var result = new StringBuilder(value);
+        var index = random.nextInt(value.length());
+        var piece = PIECES[random.nextInt(PIECES.length)];
+        switch (random.nextInt(3)) {
+            case 0:
+                result.deleteCharAt(index);
+                break;
+            case 1:
+                result.insert(index, piece);
+                break;
+            default:
+                result.replace(index, index + 1, piece);
+        }
+        return result.toString();
+    }
+}
@@ -27,10 +27,16 @@
 package io.spine.string;
 
 import com.google.protobuf.Duration;
+import com.google.protobuf.util.Durations;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.text.ParseException;
+import java.util.SplittableRandom;
+
+import static com.google.common.truth.Truth.assertThat;
 import static io.spine.protobuf.Durations2.hoursAndMinutes;
+import static io.spine.testing.Assertions.assertIllegalArgument;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 @DisplayName("`DurationStringifier` should")
@@ -52,4 +58,42 @@ class DurationStringifierTest extends AbstractStringifierTest<Duration> {
         var negative = hoursAndMinutes(-4, -31);
         assertEquals(negative, parser().convert(stringifier.convert(negative)));
     }
+
+    @Test
+    @DisplayName("produce the same strings as Protobuf utilities")
+    void sameAsProtobuf() throws ParseException {
+        var random = new SplittableRandom(42);
+        var stringifier = stringifier();
+        var maxSeconds = Durations.MAX_VALUE.getSeconds();
+        for (var i = 0; i < 10_000; i++) {
+            var seconds = random.nextLong(-maxSeconds, maxSeconds + 1);
+            var nanos = random.nextInt(1_000_000_000);
+            if (i % 2 == 0) {
+                nanos = nanos / 1_000_000 * 1_000_000;
+            }
+            var duration = Duration.newBuilder()
+                    .setSeconds(seconds)
+                    .setNanos(seconds < 0 ? -nanos : nanos)
+                    .build();
+            var expected = Durations.toString(duration);
+
+            assertThat(stringifier.convert(duration)).isEqualTo(expected);
+            assertThat(parser().convert(expected)).isEqualTo(Durations.parse(expected));
+        }
+    }
+
+    @Test
+    @DisplayName("convert sub-second negative duration")
+    void convertSubSecondNegative() {
+        var duration = Durations.fromMillis(-500);
+
+        assertThat(stringifier().convert(duration)).isEqualTo("-0.500s");
+        assertThat(parser().convert("-0.5s")).isEqualTo(duration);
+    }
+
+    @Test
+    @DisplayName("reject out of range durations")
+    void outOfRange() {
+        assertIllegalArgument(() -> parser().convert("315576000001s"));
+    }
 }
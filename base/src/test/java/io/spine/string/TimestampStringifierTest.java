@@ -27,9 +27,14 @@
 package io.spine.string;
 
 import com.google.protobuf.Timestamp;
+import com.google.protobuf.util.Timestamps;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.text.ParseException;
+import java.util.SplittableRandom;
+
+import static com.google.common.truth.Truth.assertThat;
 import static io.spine.base.Time.currentTime;
 import static io.spine.string.Stringifiers.fromString;
 import static io.spine.testing.Assertions.assertIllegalArgument;
@@ -53,4 +58,61 @@ class TimestampStringifierTest extends AbstractStringifierTest<Timestamp> {
         var time = currentTime().toString();
         assertIllegalArgument(() -> fromString(time, Timestamp.class));
     }
+
+    @Test
+    @DisplayName("produce the same strings as Protobuf utilities")
+    void sameAsProtobuf() throws ParseException {
+        var random = new SplittableRandom(42);
+        var stringifier = stringifier();
+        for (var i = 0; i < 10_000; i++) {
+            var seconds = random.nextLong(Timestamps.MIN_VALUE.getSeconds(),
+                                          Timestamps.MAX_VALUE.getSeconds() + 1);
+            var timestamp = Timestamp.newBuilder()
+                    .setSeconds(seconds)
+                    .setNanos(nanos(random, i))
+                    .build();
+            var expected = Timestamps.toString(timestamp);
+
+            assertThat(stringifier.convert(timestamp)).isEqualTo(expected);
+            assertThat(parser().convert(expected)).isEqualTo(Timestamps.parse(expected));
+        }
+    }
+
+    @Test
+    @DisplayName("parse the time zone offsets as Protobuf utilities")
+    void parseOffsets() throws ParseException {
+        var values = new String[]{
+                "1972-01-01T10:00:20.021+05:30",
+                "1972-01-01T10:00:20.021-05:30",
+                "0001-01-01T05:00:00+05:00",
+                "9999-12-31T18:59:59.999999999-05:00"
+        };
+        for (var value : values) {
+            assertThat(parser().convert(value)).isEqualTo(Timestamps.parse(value));
+        }
+    }
+
+    @Test
+    @DisplayName("reject invalid dates")
+    void invalidDates() {
+        assertIllegalArgument(() -> fromString("2019-02-29T00:00:00Z", Timestamp.class));
+        assertIllegalArgument(() -> fromString("0000-12-31T23:59:59Z", Timestamp.class));
+        assertIllegalArgument(() -> fromString("2019-01-01T24:00:00Z", Timestamp.class));
+    }
+
+    /**
+     * Generates the number of nanoseconds, which requires 0, 3, 6, or 9 digits to be printed.
+     */
+    private static int nanos(SplittableRandom random, int iteration) {
+        switch (iteration % 4) {
+            case 0:
+                return 0;
+            case 1:
+                return random.nextInt(1_000) * 1_000_000;
+            case 2:
+                return random.nextInt(1_000_000) * 1_000;
+            default:
+                return random.nextInt(1_000_000_000);
+        }
+    }
 }
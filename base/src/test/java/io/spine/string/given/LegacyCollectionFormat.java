@@ -0,0 +1,135 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.string.given;
+
+import com.google.common.base.Joiner;
+import com.google.common.base.Splitter;
+import io.spine.string.Stringifiers;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static java.util.regex.Pattern.compile;
+import static java.util.stream.Collectors.joining;
+
+/**
+ * The regex-based string representation of lists and maps of strings,
+ * as implemented by the earlier versions of {@code ListStringifier} and {@code MapStringifier}.
+ *
+ * <p>Serves as the reference for checking that the string format is kept.
+ */
+public final class LegacyCollectionFormat {
+
+    private static final String BACKSLASH = "\\\\";
+    private static final String BACKSLASH_QUOTE = "\\\"";
+    private static final String DELIMITER_PATTERN_PREFIX = "(?<!" + BACKSLASH + ')' + BACKSLASH;
+    private static final Pattern LIST_QUOTE_PATTERN = compile("\"");
+    private static final Pattern LIST_BACKSLASH_PATTERN = compile("\\\\\\\\");
+    private static final String MAP_QUOTE_PATTERN = "((?=[^\\\\])[^\\w])";
+    private static final Pattern MAP_BACKSLASH_PATTERN = compile(BACKSLASH);
+    private static final String KEY_VALUE_PATTERN = "(?<!\\\\):";
+
+    private LegacyCollectionFormat() {
+    }
+
+    public static String listToString(List<String> items, char delimiter) {
+        return items.stream()
+                    .map(LegacyCollectionFormat::quoteListItem)
+                    .collect(joining(String.valueOf(delimiter)));
+    }
+
+    public static List<String> listFromString(String s, char delimiter) {
+        var escaped = Stringifiers.createEscaper(delimiter)
+                                  .escape(s);
+        var items = Splitter.onPattern(delimiterPattern(delimiter))
+                            .split(escaped);
+        List<String> result = new ArrayList<>();
+        for (var item : items) {
+            result.add(unquote(item, LIST_BACKSLASH_PATTERN));
+        }
+        return result;
+    }
+
+    public static String mapToString(Map<String, String> map, char delimiter) {
+        Map<String, String> quoted = new LinkedHashMap<>();
+        for (var entry : map.entrySet()) {
+            quoted.put(quoteMapItem(entry.getKey()), quoteMapItem(entry.getValue()));
+        }
+        return Joiner.on(delimiter)
+                     .withKeyValueSeparator(':')
+                     .join(quoted);
+    }
+
+    public static Map<String, String> mapFromString(String s, char delimiter) {
+        var escaped = Stringifiers.createEscaper(delimiter)
+                                  .escape(s);
+        var buckets = Splitter.onPattern(delimiterPattern(delimiter))
+                              .withKeyValueSeparator(Splitter.onPattern(KEY_VALUE_PATTERN))
+                              .split(escaped);
+        Map<String, String> result = new HashMap<>();
+        try {
+            for (var bucket : buckets.entrySet()) {
+                result.put(unquote(bucket.getKey(), MAP_BACKSLASH_PATTERN),
+                           unquote(bucket.getValue(), MAP_BACKSLASH_PATTERN));
+            }
+            return result;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("The exception occurred during the conversion", e);
+        }
+    }
+
+    private static String quoteListItem(String item) {
+        var escaped = LIST_QUOTE_PATTERN.matcher(item)
+                                        .replaceAll(BACKSLASH + '"');
+        return '"' + escaped + '"';
+    }
+
+    private static String quoteMapItem(String item) {
+        var matcher = compile(MAP_QUOTE_PATTERN).matcher(item);
+        var unslashed = matcher.find()
+                        ? matcher.replaceAll(BACKSLASH + matcher.group())
+                        : item;
+        return '"' + unslashed + '"';
+    }
+
+    private static String delimiterPattern(char delimiter) {
+        return DELIMITER_PATTERN_PREFIX + Pattern.quote(String.valueOf(delimiter));
+    }
+
+    private static String unquote(String value, Pattern backslashes) {
+        if (!(value.startsWith(BACKSLASH_QUOTE) && value.endsWith(BACKSLASH_QUOTE))) {
+            throw new IllegalArgumentException("The passed string is not quoted: " + value);
+        }
+        var unquoted = value.substring(2, value.length() - 2);
+        return backslashes.matcher(unquoted)
+                          .replaceAll("");
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.type;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.Descriptors.FileDescriptor;
+import com.google.protobuf.Duration;
+import com.google.protobuf.Empty;
+import com.google.protobuf.FieldMask;
+import com.google.protobuf.StringValue;
+import com.google.protobuf.Struct;
+import com.google.protobuf.Timestamp;
+import io.spine.code.proto.TypeSet;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Stream;
+
+import static com.google.common.truth.Truth.assertThat;
+
+@DisplayName("`TypeIndex` should")
+class TypeIndexTest {
+
+    @Test
+    @DisplayName("find the types of all the layers")
+    void findInLayers() {
+        var index = TypeIndex.of(typesOf(StringValue.getDescriptor().getFile()))
+                             .extendWith(typesOf(Any.getDescriptor().getFile()))
+                             .extendWith(typesOf(Timestamp.getDescriptor().getFile()));
+
+        assertThat(index.contains(TypeName.of(StringValue.class))).isTrue();
+        assertThat(index.contains(TypeName.of(Any.class))).isTrue();
+        assertThat(index.contains(TypeName.of(Timestamp.class))).isTrue();
+        assertThat(index.contains(TypeName.of(Duration.class))).isFalse();
+        assertThat(index.toTypeSet().size()).isEqualTo(
+                typesOf(StringValue.getDescriptor().getFile()).size() + 2
+        );
+    }
+
+    @Test
+    @DisplayName("not change the extended index")
+    void keepOriginal() {
+        var original = TypeIndex.of(typesOf(Any.getDescriptor().getFile()));
+        var extended = original.extendWith(typesOf(Empty.getDescriptor().getFile()));
+
+        assertThat(extended.contains(TypeName.of(Empty.class))).isTrue();
+        assertThat(original.contains(TypeName.of(Empty.class))).isFalse();
+    }
+
+    @Test
+    @DisplayName("keep the number of layers logarithmic")
+    void mergeLayers() {
+        var files = Stream.of(Any.getDescriptor(),
+                              Timestamp.getDescriptor(),
+                              Duration.getDescriptor(),
+                              Empty.getDescriptor(),
+                              FieldMask.getDescriptor(),
+                              Struct.getDescriptor())
+                .map(descriptor -> typesOf(descriptor.getFile()))
+                .toList();
+        var index = TypeIndex.of(typesOf(StringValue.getDescriptor().getFile()));
+        for (var i = 0; i < 100; i++) {
+            index = index.extendWith(files.get(i % files.size()));
+        }
+
+        assertThat(index.layerCount()).isAtMost(8);
+        assertThat(index.toTypeSet().size()).isEqualTo(
+                typesOf(StringValue.getDescriptor().getFile()).size()
+                        + files.stream().mapToInt(TypeSet::size).sum()
+        );
+    }
+
+    private static TypeSet typesOf(FileDescriptor file) {
+        return TypeSet.from(file);
+    }
+}
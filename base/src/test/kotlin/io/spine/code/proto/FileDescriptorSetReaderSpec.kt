@@ -0,0 +1,71 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.code.proto
+
+import com.google.protobuf.Any
+import com.google.protobuf.DescriptorProtos.FileDescriptorSet
+import com.google.protobuf.Type
+import io.kotest.matchers.shouldBe
+import io.spine.testing.Assertions.assertIllegalArgument
+import java.nio.ByteBuffer
+import java.nio.file.Path
+import kotlin.io.path.writeBytes
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+
+@DisplayName("`FileDescriptorSetReader` should")
+internal class FileDescriptorSetReaderSpec {
+
+    private val descriptorSet = FileDescriptorSet.newBuilder()
+        .addFile(Any.getDescriptor().file.toProto())
+        .addFile(Type.getDescriptor().file.toProto())
+        .build()
+
+    @Test
+    fun `parse a descriptor set from a buffer without moving its position`() {
+        val buffer = ByteBuffer.wrap(descriptorSet.toByteArray())
+
+        FileDescriptorSetReader.parse(buffer) shouldBe descriptorSet
+        buffer.position() shouldBe 0
+    }
+
+    @Test
+    fun `parse a descriptor set from a mapped file`(@TempDir dir: Path) {
+        val file = dir.resolve("types.desc")
+        file.writeBytes(descriptorSet.toByteArray())
+
+        FileDescriptorSetReader.parse(file) shouldBe descriptorSet
+    }
+
+    @Test
+    fun `throw 'IllegalArgumentException' for a missing file`(@TempDir dir: Path) {
+        assertIllegalArgument {
+            FileDescriptorSetReader.parse(dir.resolve("missing.desc"))
+        }
+    }
+}
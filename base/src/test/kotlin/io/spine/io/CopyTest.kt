@@ -26,15 +26,22 @@
 package io.spine.io
 
 import io.kotest.matchers.shouldBe
+import io.spine.io.Copy.Overwrite.IF_CONTENT_DIFFERS
+import io.spine.io.Copy.Overwrite.IF_MODIFIED
 import io.spine.io.Copy.copyContent
 import io.spine.io.Copy.copyDir
+import java.nio.file.FileAlreadyExistsException
 import java.nio.file.Files.createDirectory
 import java.nio.file.Files.exists
+import java.nio.file.Files.getLastModifiedTime
+import java.nio.file.Files.readAllBytes
+import java.nio.file.Files.setLastModifiedTime
 import java.nio.file.Files.write
 import java.nio.file.Path
 import java.nio.file.StandardOpenOption.CREATE
 import org.junit.jupiter.api.Assertions.assertFalse
 import org.junit.jupiter.api.Assertions.assertTrue
+import org.junit.jupiter.api.assertThrows
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.io.TempDir
@@ -179,6 +186,59 @@ class `Copy utilities should` {
         assertDoesNotExist(deeperDir.resolve(file1))
     }
 
+    @Test
+    fun `fail to overwrite an existing file by default`() {
+        copyContent(srcDir, destDir)
+
+        assertThrows<FileAlreadyExistsException> {
+            copyContent(srcDir, destDir)
+        }
+    }
+
+    @Test
+    fun `stop copying when a file fails to copy`() {
+        val existing = destDir.resolve(subDirectory).resolve(file1)
+        createDirectory(existing.parent)
+        val content = byteArrayOf(1, 2, 3)
+        write(existing, content)
+
+        assertThrows<FileAlreadyExistsException> {
+            copyContent(srcDir, destDir)
+        }
+
+        readAllBytes(existing) shouldBe content
+    }
+
+    @Test
+    fun `overwrite only the files modified since the previous copying`() {
+        copyContent(srcDir, destDir, { true }, IF_MODIFIED)
+
+        val unchanged = destDir.resolve(file1)
+        val time = getLastModifiedTime(unchanged)
+        val sameSize = ByteArray(sizeOf(file1))
+        write(unchanged, sameSize)
+        setLastModifiedTime(unchanged, time)
+        val changed = destDir.resolve(file2)
+        write(changed, ByteArray(1))
+
+        copyContent(srcDir, destDir, { true }, IF_MODIFIED)
+
+        readAllBytes(unchanged) shouldBe sameSize
+        assertFile(destDir, file2)
+    }
+
+    @Test
+    fun `overwrite only the files with different content`() {
+        copyContent(srcDir, destDir, { true }, IF_CONTENT_DIFFERS)
+
+        val changed = destDir.resolve(file1)
+        write(changed, ByteArray(sizeOf(file1)))
+
+        copyContent(srcDir, destDir, { true }, IF_CONTENT_DIFFERS)
+
+        readAllBytes(changed) shouldBe readAllBytes(srcDir.resolve(file1))
+    }
+
     private fun assertExists(path: Path) {
         assertTrue(exists(path), "Expected to exist: `${path}`.")
     }
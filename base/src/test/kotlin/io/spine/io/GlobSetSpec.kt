@@ -0,0 +1,104 @@
+/*
+ * Copyright 2022, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.io
+
+import com.google.common.truth.Truth.assertWithMessage
+import io.kotest.matchers.shouldBe
+import java.nio.file.FileSystems
+import java.nio.file.Paths
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@DisplayName("`GlobSet` should")
+class GlobSetSpec {
+
+    private val globs = GlobSet(
+        Glob.extension("proto"),
+        Glob.extensionLowerAndUpper("yml", "yaml"),
+        Glob.extension("pb.json"),
+        Glob("**/generated/**")
+    )
+
+    @Test
+    fun `match paths by extension patterns`() {
+        globs.matches(Paths.get("src/main/proto/types.proto")) shouldBe true
+        globs.matches(Paths.get("config.YAML")) shouldBe true
+        globs.matches(Paths.get("data/message.pb.json")) shouldBe true
+    }
+
+    @Test
+    fun `match paths by other patterns`() {
+        globs.matches(Paths.get("build/generated/Types.java")) shouldBe true
+    }
+
+    @Test
+    fun `not match paths matching no patterns`() {
+        globs.matches(Paths.get("src/main/java/Types.java")) shouldBe false
+        globs.matches(Paths.get("data/message.json")) shouldBe false
+        globs.matches(Paths.get("proto.d/readme")) shouldBe false
+    }
+
+    @Test
+    fun `match paths as the JDK glob matchers do`() {
+        val matchers = globs.globs.map {
+            FileSystems.getDefault().getPathMatcher("glob:${it.pattern}")
+        }
+        val paths = listOf(
+            "types.proto", "types.protos", "a.b/c", "file.", "dir/config.Yaml",
+            "dir/config.yaml", "x.pb.json", "x.json", ".proto", "proto", "a.proto/b"
+        ).map { Paths.get(it) }
+        for (path in paths) {
+            val expected = matchers.any { it.matches(path) }
+            assertWithMessage("The path `%s` should match as the JDK does.", path)
+                .that(globs.matches(path))
+                .isEqualTo(expected)
+        }
+    }
+
+    @Test
+    fun `match extension patterns as the JDK glob matchers do`() {
+        val patterns = listOf(
+            Glob.extension("proto"),
+            Glob.extension("pb.json"),
+            Glob.extensionLowerAndUpper("yml", "yaml"),
+            Glob.extension()
+        )
+        val paths = listOf(
+            "types.proto", "dir/types.proto", "types.protos", ".proto", "a.proto/b",
+            "m.pb.json", "m.json", "c.yml", "c.YAML", "c.Yaml", "file.", "file"
+        ).map { Paths.get(it) }
+        for (glob in patterns) {
+            val jdk = FileSystems.getDefault().getPathMatcher("glob:${glob.pattern}")
+            for (path in paths) {
+                assertWithMessage("The path `%s` should match `%s` as the JDK does.",
+                    path, glob.pattern)
+                    .that(glob.matches(path))
+                    .isEqualTo(jdk.matches(path))
+            }
+        }
+    }
+}
@@ -28,15 +28,21 @@ package io.spine.io
 import com.google.common.io.CharStreams
 import com.google.common.testing.NullPointerTester
 import com.google.common.truth.Truth.assertThat
+import io.kotest.matchers.collections.shouldContain
 import io.kotest.matchers.collections.shouldHaveSize
 import io.kotest.matchers.shouldBe
 import io.kotest.matchers.shouldNotBe
 import io.spine.testing.Assertions.assertIllegalState
 import io.spine.testing.TestValues
 import java.io.InputStream
+import java.net.URLClassLoader
+import java.nio.file.Path
+import kotlin.io.path.deleteExisting
+import kotlin.io.path.writeText
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.DisplayName
 import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
 
 @DisplayName("`Resource` should")
 class ResourceTest {
@@ -93,4 +99,45 @@ class ResourceTest {
             assertThat(content).isNotEmpty()
         }
     }
+
+    @Test
+    fun `read the content of all the files by the path`(@TempDir dir: Path) {
+        val text = "a".repeat(100_000)
+        dir.resolve(resourceFile).writeText(text)
+        URLClassLoader(arrayOf(dir.toUri().toURL()), classLoader).use { loader ->
+            val contents = Resource.file(resourceFile, loader).readAll()
+
+            contents shouldHaveSize 2
+            contents shouldContain text
+        }
+    }
+
+    @Test
+    fun `find a file added after a failed lookup`(@TempDir dir: Path) {
+        val name = "added_later.txt"
+        URLClassLoader(arrayOf(dir.toUri().toURL()), null).use { loader ->
+            val file = Resource.file(name, loader)
+            file.exists() shouldBe false
+
+            dir.resolve(name).writeText("content")
+
+            file.exists() shouldBe true
+            file.read() shouldBe "content"
+        }
+    }
+
+    @Test
+    fun `not find a file deleted after a successful lookup`(@TempDir dir: Path) {
+        val name = "deleted_later.txt"
+        val path = dir.resolve(name)
+        path.writeText("content")
+        URLClassLoader(arrayOf(dir.toUri().toURL()), null).use { loader ->
+            val file = Resource.file(name, loader)
+            file.exists() shouldBe true
+
+            path.deleteExisting()
+
+            file.exists() shouldBe false
+        }
+    }
 }
@@ -33,6 +33,7 @@ import com.google.protobuf.util.Durations
 import com.google.protobuf.util.Timestamps
 import io.kotest.matchers.collections.shouldContainExactly
 import io.kotest.matchers.shouldBe
+import io.kotest.matchers.types.shouldBeSameInstanceAs
 import io.kotest.matchers.string.shouldContain
 import io.spine.base.Identifier
 import io.spine.base.Time
@@ -195,6 +196,18 @@ internal class StringifiersSpec : UtilityClassTest<Stringifiers>(Stringifiers::c
         }
     }
 
+    @Test
+    fun `reuse stringifiers created for enum and message types`() {
+        val forEnum = StringifierRegistry.getFor<STaskStatus>(STaskStatus::class.java)
+        val forMessage = StringifierRegistry.getFor<STask>(STask::class.java)
+
+        val enumAgain = StringifierRegistry.getFor<STaskStatus>(STaskStatus::class.java)
+        val messageAgain = StringifierRegistry.getFor<STask>(STask::class.java)
+
+        enumAgain shouldBeSameInstanceAs forEnum
+        messageAgain shouldBeSameInstanceAs forMessage
+    }
+
     @Test
     fun `have an alias for 'toString' method`() {
         val value = "foo-bar"
@@ -27,21 +27,26 @@ package io.spine.type
 
 import com.google.protobuf.Any
 import com.google.protobuf.Descriptors.Descriptor
+import com.google.protobuf.Descriptors.FileDescriptor
 import com.google.protobuf.Duration
 import com.google.protobuf.Empty
+import com.google.protobuf.InvalidProtocolBufferException
 import com.google.protobuf.Message
 import com.google.protobuf.StringValue
 import com.google.protobuf.Timestamp
+import com.google.protobuf.util.Durations
 import io.kotest.matchers.collections.shouldBeEmpty
 import io.kotest.matchers.collections.shouldContain
 import io.kotest.matchers.collections.shouldContainAll
 import io.kotest.matchers.ints.shouldBeLessThan
 import io.kotest.matchers.optional.shouldBePresent
 import io.kotest.matchers.shouldBe
+import io.kotest.matchers.types.shouldBeSameInstanceAs
 import io.kotest.matchers.shouldNotBe
 import io.kotest.matchers.string.shouldContain
 import io.spine.base.Error
 import io.spine.code.java.ClassName
+import io.spine.code.proto.LoadReport
 import io.spine.code.proto.TypeSet
 import io.spine.option.EntityOption
 import io.spine.option.IfMissingOption
@@ -106,6 +111,108 @@ internal class KnownTypesSpec {
         found.isEmpty() shouldBe false
     }
 
+    @Test
+    fun `build 'TypeRegistry' and formats once per instance`() {
+        knownTypes.typeRegistry() shouldBeSameInstanceAs knownTypes.typeRegistry()
+        knownTypes.formats() shouldBeSameInstanceAs knownTypes.formats()
+        TypeRegistryHolder.typeRegistry shouldBeSameInstanceAs
+                KnownTypes.instance().typeRegistry()
+    }
+
+    @Test
+    fun `reuse 'TypeRegistry' when extended with the same types`() {
+        val registry = knownTypes.typeRegistry()
+        val extended = knownTypes.extendWith(TypeSet.from(Duration.getDescriptor().file))
+
+        extended.typeRegistry() shouldBeSameInstanceAs registry
+    }
+
+    @Test
+    fun `rebuild 'TypeRegistry' when a known type is replaced`() {
+        knownTypes.typeRegistry()
+        val recompiled = FileDescriptor.buildFrom(
+            Duration.getDescriptor().file.toProto(),
+            arrayOf()
+        )
+        val extended = knownTypes.extendWith(TypeSet.from(recompiled))
+
+        extended.typeRegistry().find("google.protobuf.Duration") shouldBeSameInstanceAs
+                recompiled.findMessageTypeByName("Duration")
+    }
+
+    @Test
+    fun `report the time of loading`() {
+        knownTypes.typeRegistry()
+        val phases = knownTypes.loadReport().phases().map { it.name() }
+
+        phases shouldContainAll listOf(
+            LoadReport.DISCOVERY,
+            LoadReport.PARSING,
+            LoadReport.LINKING_RESOLVED,
+            LoadReport.TYPE_SET,
+            LoadReport.TYPE_REGISTRY
+        )
+    }
+
+    @Test
+    fun `not report building registries of extended instances`() {
+        knownTypes.typeRegistry()
+        val report = knownTypes.loadReport()
+        val phaseCount = report.phases().size
+        val recompiled = FileDescriptor.buildFrom(
+            Duration.getDescriptor().file.toProto(),
+            arrayOf()
+        )
+
+        knownTypes.extendWith(TypeSet.from(recompiled)).typeRegistry()
+
+        report.phases().size shouldBe phaseCount
+    }
+
+    @Nested
+    @DisplayName("when loaded from the roots")
+    internal inner class LoadedFromRoots {
+
+        private val sliced = KnownTypes.load(setOf("google.protobuf.Empty"))
+        private val duration = TypeUrl.of(Duration::class.java)
+
+        @Test
+        fun `find a type outside the roots on each lookup`() {
+            sliced.contains(duration) shouldBe true
+            sliced.find(duration.typeName()).shouldBePresent()
+            sliced.find(duration.typeName()).shouldBePresent()
+        }
+
+        @Test
+        fun `not find unknown types`() {
+            sliced.find(TypeName.of("acme.Unknown")).isPresent shouldBe false
+        }
+
+        @Test
+        fun `not rebuild 'TypeRegistry' for types loaded on demand`() {
+            val registry = sliced.typeRegistry()
+            val formats = sliced.formats()
+
+            val loaded = sliced.extendOnDemand(TypeSet.from(Duration.getDescriptor().file))
+
+            loaded.find(duration.typeName()).shouldBePresent()
+            loaded.typeRegistry() shouldBeSameInstanceAs registry
+            loaded.formats() shouldBeSameInstanceAs formats
+        }
+
+        @Test
+        fun `not resolve packed types outside the roots in JSON`() {
+            val printer = sliced.formats().jsonPrinter()
+            printer.print(Any.pack(Empty.getDefaultInstance())) shouldContain "@type"
+
+            sliced.contains(duration) shouldBe true
+
+            assertThrows<InvalidProtocolBufferException> {
+                printer.print(Any.pack(Durations.fromSeconds(1)))
+            }
+        }
+    }
+
     @Nested
     @DisplayName("contain types")
     internal inner class ContainTypes {
@@ -36,7 +36,7 @@ import java.io.File
  * Tells if this file is of one of the supported [formats][Format].
  */
 public fun File.hasSupportedFormat(): Boolean =
-    Format.entries.any { it.matches(this) }
+    Format.find(this) != null
 
 /**
  * Ensures that the file has the [primary extension][Format.extensions] of the given [format].
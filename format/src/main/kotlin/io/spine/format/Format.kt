@@ -38,6 +38,7 @@ import io.spine.format.write.ProtoJsonWriter
 import io.spine.format.write.Writer
 import io.spine.format.write.YamlWriter
 import io.spine.io.Glob
+import io.spine.io.GlobSet
 import java.io.File
 
 /**
@@ -156,13 +157,17 @@ public sealed class Format<T : Any>(
         "yml", "yaml"
     )
 
+    /**
+     * The patterns matching the files of this format.
+     */
+    private val globs: GlobSet by lazy {
+        GlobSet(extensions.map { Glob.extension(it) })
+    }
+
     /**
      * Checks if the given file matches this format.
      */
-    public open fun matches(file: File): Boolean =
-        extensions
-            .map { Glob.extension(it) }
-            .any { it.matches(file.toPath()) }
+    public open fun matches(file: File): Boolean = globs.matches(file)
 
     /**
      * Obtains file extensions of this format.
@@ -203,7 +208,45 @@ public sealed class Format<T : Any>(
          */
         @JvmStatic
         public fun of(file: File): Format<*> =
-            entries.find { it.matches(file) }
-                ?: error("Unsupported file format: `${file.name}`.")
+            find(file) ?: error("Unsupported file format: `${file.name}`.")
+
+        /**
+         * The formats by each of their [normalized] extensions.
+         */
+        private val byExtension: Map<String, Format<*>> by lazy {
+            entries.flatMap { format -> format.extensions.map { it.normalized() to format } }
+                .toMap()
+        }
+
+        /**
+         * Brings the extension to the form in which it is compared with the extensions
+         * of the files, ignoring the case when the file system does, as [GlobSet] does.
+         */
+        private fun String.normalized(): String = if (Glob.ignoresCase) lowercase() else this
+
+        /**
+         * Finds the format of the given file by the extension of the file.
+         *
+         * The file name suffixes following each dot are looked up in the table
+         * of extensions, starting from the longest one. Therefore, a compound
+         * extension like `pb.json` takes precedence over `json`.
+         *
+         * The case of the extensions is ignored if the default file system ignores it,
+         * so that the found format agrees with [Format.matches].
+         *
+         * @return the format or `null` if the format of the file is not supported.
+         */
+        internal fun find(file: File): Format<*>? {
+            val name = file.name
+            var dot = name.indexOf('.')
+            while (dot >= 0) {
+                val format = byExtension[name.substring(dot + 1).normalized()]
+                if (format != null) {
+                    return format
+                }
+                dot = name.indexOf('.', dot + 1)
+            }
+            return null
+        }
     }
 }
@@ -27,9 +27,14 @@
 package io.spine.format
 
 import com.fasterxml.jackson.core.JsonFactory
+import com.fasterxml.jackson.core.JsonGenerator.Feature.AUTO_CLOSE_TARGET
 import com.fasterxml.jackson.databind.Module
 import com.fasterxml.jackson.databind.ObjectMapper
+import com.fasterxml.jackson.databind.ObjectReader
+import com.fasterxml.jackson.databind.ObjectWriter
 import com.fasterxml.jackson.databind.SerializationFeature
+import com.fasterxml.jackson.databind.SerializationFeature.FLUSH_AFTER_WRITE_VALUE
+import com.fasterxml.jackson.databind.SerializationFeature.INDENT_OUTPUT
 import io.spine.annotation.SPI
 
 /**
@@ -102,6 +107,66 @@ public abstract class JacksonSupport {
             .enable(SerializationFeature.INDENT_OUTPUT)
     }
 
+    /**
+     * The readers of values of particular classes.
+     *
+     * A reader resolves the deserializer for its class once, so that
+     * the subsequent reads do not look it up again.
+     */
+    private val readers = object : ClassValue<ObjectReader>() {
+        override fun computeValue(type: Class<*>): ObjectReader =
+            mapper.readerFor(type)
+    }
+
+    /**
+     * The writers of values of particular classes producing indented output.
+     */
+    private val writers = object : ClassValue<ObjectWriter>() {
+        override fun computeValue(type: Class<*>): ObjectWriter =
+            streamWriterFor(type)
+    }
+
+    /**
+     * The writers of values of particular classes producing compact output.
+     */
+    private val compactWriters = object : ClassValue<ObjectWriter>() {
+        override fun computeValue(type: Class<*>): ObjectWriter =
+            streamWriterFor(type).without(INDENT_OUTPUT)
+    }
+
+    /**
+     * Creates a writer which neither closes, nor flushes the stream it writes to,
+     * leaving it to the owner of the stream.
+     *
+     * Files passed to the writer are closed by Jackson regardless of these settings.
+     */
+    private fun streamWriterFor(type: Class<*>): ObjectWriter =
+        mapper.writerFor(type)
+            .without(AUTO_CLOSE_TARGET)
+            .without(FLUSH_AFTER_WRITE_VALUE)
+
+    /**
+     * Obtains the cached reader of values of the given class.
+     *
+     * The reader is created once per class using the [mapper].
+     * Therefore, the [mapper] must be configured before the first call to this method.
+     */
+    protected fun readerFor(cls: Class<*>): ObjectReader = readers.get(cls)
+
+    /**
+     * Obtains the cached writer of values of the given class.
+     *
+     * The writer is created once per class using the [mapper].
+     * Therefore, the [mapper] must be configured before the first call to this method.
+     *
+     * The writer does not close or flush the stream passed to it.
+     *
+     * @param cls The class of the values to write.
+     * @param compact If `true`, the writer does not indent the output.
+     */
+    protected fun writerFor(cls: Class<*>, compact: Boolean): ObjectWriter =
+        if (compact) compactWriters.get(cls) else writers.get(cls)
+
     public companion object {
 
         /**
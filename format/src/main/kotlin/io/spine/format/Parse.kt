@@ -28,8 +28,16 @@
 
 package io.spine.format
 
-import com.google.common.io.Files
+import com.google.protobuf.Message
+import io.spine.format.parse.BatchParser
+import io.spine.format.parse.ProtoBinaryParser
 import java.io.File
+import java.nio.file.Path
+import java.util.Spliterator.NONNULL
+import java.util.Spliterator.ORDERED
+import java.util.Spliterators
+import java.util.stream.Stream
+import java.util.stream.StreamSupport
 
 /**
  * Parses the given file loading the instance of the given class.
@@ -102,7 +110,169 @@ public fun <T : Any> parse(
     format: Format<in T>,
     cls: Class<T>
 ): T {
-    val bytes = Files.asByteSource(file)
-    val result = format.parser.parse(bytes, cls)
+    val result = format.parser.parse(file, cls)
     return result
 }
+
+/**
+ * Parses the given file in the [Format.ProtoBinary] format mapping it into memory.
+ *
+ * The message is parsed directly from the mapped bytes of the file, without copying them
+ * into intermediate buffers. This is the most efficient way of loading large files.
+ *
+ * Unlike this function, [parse] functions read the file as a stream, and do not keep
+ * the file open after the parsing.
+ *
+ * The mapping outlives the call until the mapped buffer is garbage-collected. Some platforms,
+ * such as Windows, do not allow deleting or overwriting a mapped file in the meantime.
+ *
+ * With [aliasing] enabled, the values of `bytes` fields refer to the mapped file.
+ * In this case, the file stays mapped while the parsed values are reachable. Please do not
+ * modify the file in the meantime, as the modification will be visible through the values.
+ *
+ * @param M The type of the message stored in the file.
+ * @param file The file to parse.
+ * @param cls The class of the message stored in the file.
+ * @param aliasing If `true`, the values of the `bytes` fields refer to the mapped file.
+ * @throws java.io.IOException or its subclass, if the parsing of the file fails.
+ */
+@JvmOverloads
+public fun <M : Message> parseMapped(file: File, cls: Class<M>, aliasing: Boolean = true): M {
+    val result = ProtoBinaryParser.parseMapped(file, cls, aliasing)
+    @Suppress("UNCHECKED_CAST")
+    return result as M
+}
+
+/**
+ * Parses the given files concurrently, loading an instance of the given class from each file.
+ *
+ * The format of each file is determined by the extension of the file.
+ *
+ * @param T The type of instances stored in the files.
+ * @param files The files to parse.
+ * @return the results of parsing in the order of the [files].
+ * @see parseAll
+ */
+public inline fun <reified T : Any> parseAll(files: Iterable<File>): List<ParseResult<T>> =
+    parseAll(files, T::class.java)
+
+/**
+ * Parses the given files concurrently, loading an instance of the given class from each file.
+ *
+ * The format of each file is determined by the extension of the file.
+ *
+ * The files are parsed using at most [parallelism] threads at a time. If the runtime supports
+ * virtual threads, they are used for parsing. Otherwise, a pool of platform threads is created
+ * for the time of the call.
+ *
+ * A failure to parse a file does not affect parsing of other files. Instead, the error
+ * is reported by the [ParseResult] of the file. This includes the files of unsupported formats.
+ *
+ * @param T The type of instances stored in the files.
+ * @param files The files to parse.
+ * @param cls The class of the instances stored in the files.
+ * @param parallelism The maximum number of files parsed at the same time.
+ *   Defaults to the number of available processors.
+ * @return the results of parsing in the order of the [files].
+ * @throws IllegalArgumentException if [parallelism] is not positive.
+ */
+@JvmOverloads
+public fun <T : Any> parseAll(
+    files: Iterable<File>,
+    cls: Class<T>,
+    parallelism: Int = Runtime.getRuntime().availableProcessors()
+): List<ParseResult<T>> =
+    BatchParser.parseAll(files.toList(), cls, parallelism)
+
+/**
+ * Parses the files at the given paths concurrently, loading an instance of the given class
+ * from each file.
+ *
+ * @param T The type of instances stored in the files.
+ * @param paths The paths to the files to parse.
+ * @param cls The class of the instances stored in the files.
+ * @param parallelism The maximum number of files parsed at the same time.
+ *   Defaults to the number of available processors.
+ * @return the results of parsing in the order of the [paths].
+ * @throws IllegalArgumentException if [parallelism] is not positive.
+ * @see parseAll
+ */
+@JvmOverloads
+@JvmName("parseAllPaths")
+public fun <T : Any> parseAll(
+    paths: Iterable<Path>,
+    cls: Class<T>,
+    parallelism: Int = Runtime.getRuntime().availableProcessors()
+): List<ParseResult<T>> =
+    BatchParser.parseAll(paths.map(Path::toFile), cls, parallelism)
+
+/**
+ * Lazily parses the values of the given class stored one after another in the given file.
+ *
+ * The format of the file is determined by the extension of the file.
+ *
+ * @param T The type of the values stored in the file.
+ * @param file The file to parse.
+ * @see parseEach
+ */
+public inline fun <reified T : Any> parseEach(file: File): Stream<T> =
+    parseEach(file, T::class.java)
+
+/**
+ * Lazily parses the values of the given class stored one after another in the given file.
+ *
+ * The format of the file is determined by the extension of the file.
+ *
+ * @param T The type of the values stored in the file.
+ * @param file The file to parse.
+ * @param cls The class of the values stored in the file.
+ * @throws IllegalStateException if the file is not of the supported [format][Format].
+ * @see parseEach
+ */
+public fun <T : Any> parseEach(file: File, cls: Class<T>): Stream<T> {
+    @Suppress("UNCHECKED_CAST")
+    val format = Format.of(file) as Format<in T>
+    return parseEach(file, format, cls)
+}
+
+/**
+ * Lazily parses the values of the given class stored one after another in the given file.
+ *
+ * The values are parsed one at a time, as the returned stream is consumed.
+ * Therefore, the memory required for parsing does not depend on the size of the file.
+ *
+ * The file is expected to contain:
+ *  * for [Format.ProtoBinary] — messages each preceded by its length, as written by
+ *    [Message.writeDelimitedTo][com.google.protobuf.Message.writeDelimitedTo];
+ *  * for [Format.ProtoJson] — messages printed one per line;
+ *  * for [Format.Json] — values one after another, or the elements of a root-level array;
+ *  * for [Format.Yaml] — documents separated by `---`, or the elements of a root-level sequence.
+ *
+ * The returned stream holds the file open. Please close the stream after use,
+ * e.g., via `use {}` in Kotlin or `try`-with-resources in Java.
+ *
+ * @param T The type of the values stored in the file.
+ * @param file The file to parse.
+ * @param format The format of the file.
+ * @param cls The class of the values stored in the file.
+ * @throws java.io.IOException or its subclass, if the file cannot be opened.
+ * @throws java.io.UncheckedIOException or another [RuntimeException],
+ *   if parsing of a value fails when the stream is consumed.
+ */
+@Suppress("TooGenericExceptionCaught") // Closing the file on any failure.
+public fun <T : Any> parseEach(
+    file: File,
+    format: Format<in T>,
+    cls: Class<T>
+): Stream<T> {
+    val input = file.inputStream().buffered()
+    try {
+        val iterator = format.parser.parseEach(input, cls)
+        val spliterator = Spliterators.spliteratorUnknownSize(iterator, ORDERED or NONNULL)
+        return StreamSupport.stream(spliterator, false)
+            .onClose(input::close)
+    } catch (e: Throwable) {
+        input.close()
+        throw e
+    }
+}
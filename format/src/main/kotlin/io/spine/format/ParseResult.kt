@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.format
+
+import java.io.File
+
+/**
+ * The outcome of parsing a file among [many files][parseAll] parsed at once.
+ *
+ * Holds either the value parsed from the [file], or the [error] which prevented
+ * the parsing of the file.
+ *
+ * @param T The type of the parsed value.
+ */
+public class ParseResult<T : Any> internal constructor(
+
+    /**
+     * The parsed file.
+     */
+    public val file: File,
+
+    private val value: T?,
+
+    /**
+     * The error which occurred when parsing the file, or `null` if the parsing succeeded.
+     */
+    public val error: Throwable?
+) {
+
+    /**
+     * Tells if the file was parsed successfully.
+     */
+    public val isSuccess: Boolean
+        get() = error == null
+
+    /**
+     * Obtains the parsed value.
+     *
+     * @throws IllegalStateException if the parsing of the file failed.
+     */
+    public fun get(): T {
+        if (error != null) {
+            throw IllegalStateException("Unable to parse the file `$file`.", error)
+        }
+        return value!!
+    }
+
+    /**
+     * Obtains the parsed value, or `null` if the parsing of the file failed.
+     */
+    public fun getOrNull(): T? = value
+
+    override fun toString(): String =
+        if (isSuccess) "ParseResult(file=$file, value=$value)"
+        else "ParseResult(file=$file, error=$error)"
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.format
+
+import java.io.Closeable
+import java.io.Flushable
+
+/**
+ * Writes records one after another into a file.
+ *
+ * The records are written in the multi-record layout of the [Format],
+ * which can be read back by [parseEach].
+ *
+ * The writer holds the file open until it is [closed][close].
+ *
+ * Instances of this type are not thread-safe.
+ *
+ * @param T The type of the written records.
+ * @see openWriter
+ */
+public interface RecordWriter<in T : Any> : Closeable, Flushable {
+
+    /**
+     * Writes the [value] after the previously written ones.
+     *
+     * @throws IllegalStateException if the writer is closed.
+     * @throws java.io.IOException or its subclass, if the writing fails.
+     */
+    public fun write(value: T)
+
+    /**
+     * Passes the buffered bytes to the file.
+     *
+     * If the writer [syncs on flush][WriteOptions.Sync.ON_FLUSH], the bytes
+     * are also forced to the storage device.
+     */
+    override fun flush()
+
+    /**
+     * Flushes the remaining bytes and closes the file.
+     *
+     * If the writer is [atomic][WriteOptions.atomic], the written file replaces the target one.
+     *
+     * If writing of a record has failed before, the bytes are not flushed.
+     * In this case, the atomic writer deletes the written file, leaving the target intact.
+     *
+     * Closing a closed writer has no effect.
+     */
+    override fun close()
+
+    /**
+     * Closes the writer giving up the written records.
+     *
+     * An [atomic][WriteOptions.atomic] writer deletes the written file, leaving
+     * the target file intact.
+     *
+     * Other writers cannot give up the records already passed to the file. For them,
+     * this method is the same as [close]: the written records are flushed, so that
+     * the file does not end in the middle of a record.
+     */
+    public fun abort()
+}
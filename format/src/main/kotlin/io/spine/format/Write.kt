@@ -28,6 +28,7 @@
 
 package io.spine.format
 
+import io.spine.format.write.FileRecordWriter
 import java.io.File
 
 /**
@@ -42,3 +43,78 @@ public fun <T : Any> write(file: File, format: Format<in T>, value: T) {
     val writer = format.writer
     writer.write(file, value)
 }
+
+/**
+ * Writes the given [value] using the specified format.
+ *
+ * If [compact] is `true`, the JSON-based formats write the value without line breaks
+ * and indentation, which makes the output smaller and faster to produce.
+ * Other formats ignore this parameter.
+ *
+ * The extension of the file is not checked to match the conventions
+ * of the [Format] enumeration.
+ *
+ * To match the convention, please use [io.spine.format.ensureFormatExtension].
+ */
+public fun <T : Any> write(file: File, format: Format<in T>, value: T, compact: Boolean) {
+    val writer = format.writer
+    writer.write(file, value, compact)
+}
+
+/**
+ * Opens a writer which writes records one after another into the given file
+ * using the specified format.
+ *
+ * The records are written in the multi-record layout of the format,
+ * which can be read back by [parseEach]:
+ *  * [Format.ProtoBinary] — each message is preceded by its length;
+ *  * [Format.ProtoJson] and [Format.Json] — each record is written in the compact form
+ *    on a separate line;
+ *  * [Format.Yaml] — each record is written as a separate YAML document.
+ *
+ * The bytes are passed to the file through a buffer, so that the memory used
+ * for writing does not depend on the number of records.
+ *
+ * The extension of the file is not checked to match the conventions
+ * of the [Format] enumeration.
+ *
+ * @param T The type of the records.
+ * @param file The file to write.
+ * @param format The format of the file.
+ * @param options The options of writing.
+ * @throws java.io.IOException or its subclass, if the file cannot be opened.
+ */
+@JvmOverloads
+public fun <T : Any> openWriter(
+    file: File,
+    format: Format<in T>,
+    options: WriteOptions = WriteOptions()
+): RecordWriter<T> = FileRecordWriter(file, format.writer, options)
+
+/**
+ * Writes the given [values] one after another into the file using the specified format.
+ *
+ * If obtaining or writing of a value fails, the writer is [aborted][RecordWriter.abort].
+ *
+ * @see openWriter
+ */
+@JvmOverloads
+public fun <T : Any> writeEach(
+    file: File,
+    format: Format<in T>,
+    values: Iterable<T>,
+    options: WriteOptions = WriteOptions()
+) {
+    val writer = openWriter(file, format, options)
+    var success = false
+    try {
+        values.forEach(writer::write)
+        success = true
+    } finally {
+        if (success) {
+            writer.close()
+        } else {
+            writer.abort()
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.format
+
+import io.spine.format.WriteOptions.Sync.NONE
+
+/**
+ * Options of [writing][openWriter] files which hold many records.
+ *
+ * The default options create a new file or overwrite an existing one
+ * using a 64 KiB buffer without forcing the written bytes to the storage device.
+ *
+ * @property bufferSize The positive number of bytes buffered before they are
+ *   passed to the file.
+ * @property append If `true`, the records are added to the end of the file, if it exists.
+ *   Otherwise, an existing file is overwritten.
+ * @property sync Tells when the written bytes are forced to the storage device.
+ * @property atomic If `true`, the records are written to a temporary file in the same
+ *   directory, which replaces the target file only when the writer is closed.
+ *   Therefore, readers never observe a partially written file.
+ *   Cannot be combined with [append].
+ */
+public data class WriteOptions @JvmOverloads constructor(
+    public val bufferSize: Int = DEFAULT_BUFFER_SIZE,
+    public val append: Boolean = false,
+    public val sync: Sync = NONE,
+    public val atomic: Boolean = false
+) {
+
+    init {
+        require(bufferSize > 0) {
+            "The `bufferSize` must be positive, but was $bufferSize."
+        }
+        require(!(append && atomic)) {
+            "The `append` and `atomic` options cannot be used together."
+        }
+    }
+
+    /**
+     * Tells when the written bytes are forced to the storage device via
+     * [FileChannel.force][java.nio.channels.FileChannel.force].
+     */
+    public enum class Sync {
+
+        /**
+         * The bytes are never forced, leaving it to the operating system.
+         */
+        NONE,
+
+        /**
+         * The bytes are forced when the writer is closed.
+         */
+        ON_CLOSE,
+
+        /**
+         * The bytes are forced each time the writer is
+         * [flushed][RecordWriter.flush], and when it is closed.
+         */
+        ON_FLUSH
+    }
+
+    public companion object {
+
+        /**
+         * The default size of the buffer, in bytes.
+         */
+        public const val DEFAULT_BUFFER_SIZE: Int = 64 * 1024
+    }
+}
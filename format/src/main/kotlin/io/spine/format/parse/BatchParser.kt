@@ -0,0 +1,121 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.format.parse
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder
+import io.spine.format.ParseResult
+import io.spine.format.parse
+import java.io.File
+import java.lang.reflect.Method
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Parses many files concurrently.
+ *
+ * The files are distributed among a bounded number of workers. Each worker takes
+ * the next file not yet taken by other workers until all the files are parsed.
+ *
+ * The workers run on virtual threads, if the runtime supports them.
+ * Otherwise, a pool of platform threads is used.
+ */
+internal object BatchParser {
+
+    /**
+     * The factory method of the executor running each task on a new virtual thread,
+     * or `null` if the runtime does not support virtual threads.
+     */
+    private val virtualThreadExecutor: Method? =
+        try {
+            Executors::class.java.getMethod("newVirtualThreadPerTaskExecutor")
+        } catch (ignored: NoSuchMethodException) {
+            null
+        }
+
+    private val threadFactory = ThreadFactoryBuilder()
+        .setNameFormat("parse-%d")
+        .setDaemon(true)
+        .build()
+
+    /**
+     * Parses the given files using at most [parallelism] threads at a time.
+     *
+     * @return the results of parsing in the order of the [files].
+     */
+    fun <T : Any> parseAll(
+        files: List<File>,
+        cls: Class<T>,
+        parallelism: Int
+    ): List<ParseResult<T>> {
+        require(parallelism > 0) {
+            "The parallelism must be positive, but was $parallelism."
+        }
+        val results = arrayOfNulls<ParseResult<T>>(files.size)
+        val workers = minOf(parallelism, files.size)
+        if (workers <= 1) {
+            files.forEachIndexed { index, file -> results[index] = parseOne(file, cls) }
+        } else {
+            val next = AtomicInteger()
+            val worker = Runnable {
+                var index = next.getAndIncrement()
+                while (index < files.size) {
+                    results[index] = parseOne(files[index], cls)
+                    index = next.getAndIncrement()
+                }
+            }
+            runConcurrently(worker, workers)
+        }
+        @Suppress("UNCHECKED_CAST") // All the results are set by now.
+        return (results as Array<ParseResult<T>>).asList()
+    }
+
+    private fun runConcurrently(worker: Runnable, workers: Int) {
+        val executor = newExecutor(workers)
+        try {
+            val tasks = (1..workers).map { executor.submit(worker) }
+            tasks.forEach { it.get() }
+        } catch (e: ExecutionException) {
+            throw e.cause ?: e
+        } finally {
+            executor.shutdownNow()
+        }
+    }
+
+    private fun newExecutor(threads: Int): ExecutorService =
+        virtualThreadExecutor?.invoke(null) as ExecutorService?
+            ?: Executors.newFixedThreadPool(threads, threadFactory)
+
+    @Suppress("TooGenericExceptionCaught") // Reporting any failure per file.
+    private fun <T : Any> parseOne(file: File, cls: Class<T>): ParseResult<T> =
+        try {
+            ParseResult(file, parse(file, cls), null)
+        } catch (e: Exception) {
+            ParseResult(file, null, e)
+        }
+}
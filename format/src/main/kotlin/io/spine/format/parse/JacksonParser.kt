@@ -32,7 +32,8 @@ import io.spine.annotation.SPI
 import io.spine.format.JacksonSupport
 import io.spine.format.write.JsonWriter
 import io.spine.format.write.YamlWriter
-import java.nio.charset.Charset.defaultCharset
+import java.io.File
+import java.io.InputStream
 
 /**
  * The abstract base parsers of text-based formats backed by
@@ -46,12 +47,33 @@ import java.nio.charset.Charset.defaultCharset
 @SPI
 public abstract class JacksonParser : JacksonSupport(), Parser<Any> {
 
-    final override fun <T : Any> parse(source: ByteSource, cls: Class<out T>): T {
-        val charSource = source.asCharSource(defaultCharset())
-        return charSource.openBufferedStream().use {
-            mapper.readValue(it, cls)
+    /**
+     * Reads the value from the bytes of the [source].
+     *
+     * The encoding of the bytes is detected by Jackson.
+     */
+    final override fun <T : Any> parse(source: ByteSource, cls: Class<out T>): T =
+        source.openStream().use {
+            readerFor(cls).readValue(it)
         }
-    }
+
+    /**
+     * Reads the value from the [file].
+     *
+     * The encoding of the file is detected by Jackson.
+     */
+    final override fun <T : Any> parse(file: File, cls: Class<out T>): T =
+        readerFor(cls).readValue(file)
+
+    /**
+     * Reads the values stored either as elements of the root-level array, or
+     * one after another at the root level, such as documents of a YAML file
+     * or lines of newline-delimited JSON.
+     *
+     * The encoding of the [input] is detected by Jackson.
+     */
+    final override fun <T : Any> parseEach(input: InputStream, cls: Class<out T>): Iterator<T> =
+        readerFor(cls).readValues(input)
 }
 
 /**
@@ -27,6 +27,9 @@
 package io.spine.format.parse
 
 import com.google.common.io.ByteSource
+import com.google.common.io.Files
+import java.io.File
+import java.io.InputStream
 
 /**
  * A parser for files in one of the supported [formats][io.spine.format.Format].
@@ -52,4 +55,31 @@ internal sealed interface Parser<T : Any> {
      * @throws java.io.IOException or its subclass, if the parsing of the file fails.
      */
     fun <R : T> parse(source: ByteSource, cls: Class<out R>): R
+
+    /**
+     * Attempts to deserialize the content of the given file into the given class.
+     *
+     * The default implementation reads the file as a [ByteSource].
+     *
+     * @param R The type of the parsed value, which is a subtype of
+     *   the type [T] supported by this parser.
+     * @throws java.io.IOException or its subclass, if the parsing of the file fails.
+     */
+    fun <R : T> parse(file: File, cls: Class<out R>): R =
+        parse(Files.asByteSource(file), cls)
+
+    /**
+     * Lazily parses the values of the given class stored one after another in the [input].
+     *
+     * The values are parsed one at a time, as the returned iterator advances,
+     * so that only the current value is held in memory.
+     *
+     * The returned iterator does not close the [input].
+     *
+     * @param R The type of the parsed values, which is a subtype of
+     *   the type [T] supported by this parser.
+     * @throws java.io.UncheckedIOException or another [RuntimeException],
+     *   if reading or parsing of a value fails when the iterator advances.
+     */
+    fun <R : T> parseEach(input: InputStream, cls: Class<out R>): Iterator<R>
 }
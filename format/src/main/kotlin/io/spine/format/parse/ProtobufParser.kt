@@ -27,10 +27,22 @@
 package io.spine.format.parse
 
 import com.google.common.io.ByteSource
+import com.google.protobuf.CodedInputStream
 import com.google.protobuf.Message
+import io.spine.type.ExtensionRegistryHolder.extensionRegistry
 import io.spine.type.fromJson
 import io.spine.type.parse
+import io.spine.type.parseDelimited
+import io.spine.type.parser
+import java.io.BufferedReader
+import java.io.File
+import java.io.IOException
+import java.io.InputStream
+import java.io.UncheckedIOException
+import java.nio.channels.FileChannel
+import java.nio.channels.FileChannel.MapMode.READ_ONLY
 import java.nio.charset.Charset.defaultCharset
+import java.nio.file.StandardOpenOption.READ
 
 /**
  * The abstract base for parsers of files containing Protobuf messages.
@@ -43,12 +55,33 @@ internal sealed class ProtobufParser : Parser<Message> {
         return parsed as M
     }
 
+    override fun <M : Message> parseEach(input: InputStream, cls: Class<out M>): Iterator<M> {
+        val parsed = doParseEach(input, cls)
+        @Suppress("UNCHECKED_CAST")
+        return parsed as Iterator<M>
+    }
+
     /**
      * Deserializes the given bytes into a message of the specified class.
      */
     abstract fun doParse(source: ByteSource, cls: Class<out Message>): Message
+
+    /**
+     * Lazily deserializes the messages of the specified class stored in the [input].
+     */
+    abstract fun doParseEach(input: InputStream, cls: Class<out Message>): Iterator<Message>
 }
 
+/**
+ * Invokes the given [block] rethrowing an [IOException] as [UncheckedIOException].
+ */
+private inline fun <T> unchecked(block: () -> T): T =
+    try {
+        block()
+    } catch (e: IOException) {
+        throw UncheckedIOException(e)
+    }
+
 /**
  * The parser for Protobuf messages encoded in
  * the [binary Protobuf](https://protobuf.dev/programming-guides/encoding/) format.
@@ -66,6 +99,39 @@ internal data object ProtoBinaryParser : ProtobufParser() {
         source.openStream().use {
             return cls.parse(it)
         }
+
+    /**
+     * Parses the file mapping it into memory via [FileChannel.map].
+     *
+     * The message is parsed directly from the mapped bytes, without copying them
+     * into intermediate buffers.
+     *
+     * The mapping outlives the call until the mapped buffer is garbage-collected.
+     * Therefore, mapping is never used by [doParse], but only on an explicit request.
+     *
+     * @param aliasing If `true`, the values of the `bytes` fields refer to the mapped file
+     *   instead of being copied from it.
+     */
+    fun parseMapped(file: File, cls: Class<out Message>, aliasing: Boolean): Message =
+        FileChannel.open(file.toPath(), READ).use { channel ->
+            val size = channel.size()
+            require(size <= Int.MAX_VALUE) {
+                "The file `$file` of $size bytes is too large for a Protobuf message."
+            }
+            val buffer = channel.map(READ_ONLY, 0, size)
+            val input = CodedInputStream.newInstance(buffer)
+            input.enableAliasing(aliasing)
+            cls.parser.parseFrom(input, extensionRegistry)
+        }
+
+    /**
+     * Reads the messages each preceded by its length, as written
+     * by [Message.writeDelimitedTo].
+     */
+    override fun doParseEach(input: InputStream, cls: Class<out Message>): Iterator<Message> =
+        generateSequence {
+            unchecked { cls.parseDelimited(input) }
+        }.iterator()
 }
 
 /**
@@ -83,4 +149,21 @@ internal data object ProtoJsonParser : ProtobufParser() {
         val json = charSource.read()
         return cls.fromJson(json)
     }
+
+    /**
+     * Reads the messages stored one per line, skipping blank lines.
+     *
+     * This is the [newline-delimited JSON](https://github.com/ndjson/ndjson-spec) form,
+     * in which each message is printed without line breaks.
+     */
+    override fun doParseEach(input: InputStream, cls: Class<out Message>): Iterator<Message> {
+        val reader = input.bufferedReader(defaultCharset())
+        return generateSequence { reader.nextLine() }
+            .filter { it.isNotBlank() }
+            .map { cls.fromJson(it) }
+            .iterator()
+    }
+
+    private fun BufferedReader.nextLine(): String? =
+        unchecked { readLine() }
 }
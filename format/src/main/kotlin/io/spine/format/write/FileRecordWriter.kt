@@ -0,0 +1,188 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.format.write
+
+import io.spine.format.RecordWriter
+import io.spine.format.WriteOptions
+import io.spine.format.WriteOptions.Sync.NONE
+import io.spine.format.WriteOptions.Sync.ON_FLUSH
+import java.io.BufferedOutputStream
+import java.io.File
+import java.nio.channels.Channels
+import java.nio.channels.FileChannel
+import java.nio.file.AtomicMoveNotSupportedException
+import java.nio.file.Files
+import java.nio.file.OpenOption
+import java.nio.file.Path
+import java.nio.file.StandardCopyOption.ATOMIC_MOVE
+import java.nio.file.StandardCopyOption.REPLACE_EXISTING
+import java.nio.file.StandardOpenOption.APPEND
+import java.nio.file.StandardOpenOption.CREATE
+import java.nio.file.StandardOpenOption.CREATE_NEW
+import java.nio.file.StandardOpenOption.TRUNCATE_EXISTING
+import java.nio.file.StandardOpenOption.WRITE
+import java.util.*
+
+/**
+ * Writes records into a file through a buffered [FileChannel].
+ *
+ * @param T The type of the written records.
+ * @param file The target file.
+ * @param writer The writer of the format of the file.
+ * @param options The options of writing.
+ */
+internal class FileRecordWriter<T : Any>(
+    file: File,
+    writer: Writer<in T>,
+    private val options: WriteOptions
+) : RecordWriter<T> {
+
+    private val target: Path = file.toPath()
+
+    /**
+     * The file to which the records are written.
+     *
+     * For an [atomic][WriteOptions.atomic] writer, this is a temporary file
+     * in the directory of the [target].
+     */
+    private val path: Path =
+        if (options.atomic) {
+            target.resolveSibling(".${target.fileName}.${UUID.randomUUID()}.tmp")
+        } else {
+            target
+        }
+
+    private val channel: FileChannel
+    private val output: BufferedOutputStream
+    private val encoder: Encoder<T>
+
+    init {
+        val channel = FileChannel.open(path, openOptions(options))
+        try {
+            output = BufferedOutputStream(Channels.newOutputStream(channel), options.bufferSize)
+            encoder = writer.newEncoder(output)
+        } catch (e: Throwable) {
+            try {
+                channel.close()
+                if (path != target) {
+                    Files.deleteIfExists(path)
+                }
+            } catch (suppressed: Throwable) {
+                e.addSuppressed(suppressed)
+            }
+            throw e
+        }
+        this.channel = channel
+    }
+
+    /**
+     * Tells if writing of a record has failed, so that the written file is incomplete.
+     */
+    private var failed = false
+    private var closed = false
+
+    override fun write(value: T) {
+        check(!closed) { "The writer of `$target` is closed." }
+        guarded {
+            encoder.encode(value)
+        }
+    }
+
+    override fun flush() {
+        check(!closed) { "The writer of `$target` is closed." }
+        guarded {
+            encoder.flush()
+            output.flush()
+            if (options.sync == ON_FLUSH) {
+                channel.force(true)
+            }
+        }
+    }
+
+    override fun close() = finish(discard = false)
+
+    override fun abort() = finish(discard = true)
+
+    private fun finish(discard: Boolean) {
+        if (closed) {
+            return
+        }
+        closed = true
+        failed = failed || (discard && path != target)
+        try {
+            channel.use {
+                if (!failed) {
+                    guarded {
+                        encoder.close()
+                        output.flush()
+                        if (options.sync != NONE) {
+                            channel.force(true)
+                        }
+                    }
+                }
+            }
+        } finally {
+            if (path != target) {
+                if (failed) {
+                    Files.deleteIfExists(path)
+                } else {
+                    replaceTarget()
+                }
+            }
+        }
+    }
+
+    private fun replaceTarget() {
+        try {
+            Files.move(path, target, ATOMIC_MOVE, REPLACE_EXISTING)
+        } catch (ignored: AtomicMoveNotSupportedException) {
+            Files.move(path, target, REPLACE_EXISTING)
+        }
+    }
+
+    /**
+     * Runs the [block] marking the written file as incomplete if the block fails.
+     */
+    private inline fun guarded(block: () -> Unit) {
+        var success = false
+        try {
+            block()
+            success = true
+        } finally {
+            if (!success) {
+                failed = true
+            }
+        }
+    }
+}
+
+private fun openOptions(options: WriteOptions): Set<OpenOption> =
+    when {
+        options.atomic -> setOf(WRITE, CREATE_NEW)
+        options.append -> setOf(WRITE, CREATE, APPEND)
+        else -> setOf(WRITE, CREATE, TRUNCATE_EXISTING)
+    }
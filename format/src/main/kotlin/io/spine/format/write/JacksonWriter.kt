@@ -31,6 +31,8 @@ import com.fasterxml.jackson.dataformat.yaml.YAMLFactory
 import io.spine.annotation.SPI
 import io.spine.format.JacksonSupport
 import java.io.File
+import java.io.FilterOutputStream
+import java.io.OutputStream
 
 /**
  * The abstract base for writes based on the [Jackson](https://github.com/FasterXML) library.
@@ -41,7 +43,55 @@ import java.io.File
  * @see io.spine.format.parse.JacksonParser
  */
 @SPI
-public abstract class JacksonWriter : JacksonSupport(), Writer<Any>
+public abstract class JacksonWriter : JacksonSupport(), Writer<Any> {
+
+    /**
+     * Writes each value as a separate root-level value followed by the [recordSeparator].
+     */
+    final override fun newEncoder(output: OutputStream): Encoder<Any> {
+        val target = FlushShield(output)
+        val separator = recordSeparator.toByteArray(Charsets.UTF_8)
+        return object : Encoder<Any> {
+            override fun encode(value: Any) {
+                writerFor(value.javaClass, compactRecords).writeValue(target, value)
+                output.write(separator)
+            }
+
+            override fun flush() = Unit
+
+            override fun close() = Unit
+        }
+    }
+
+    final override fun write(file: File, value: Any, compact: Boolean) =
+        writerFor(value.javaClass, compact).writeValue(file, value)
+
+    /**
+     * Tells if the records in a multi-record file are written without indentation.
+     */
+    internal open val compactRecords: Boolean = false
+
+    /**
+     * The text written after each record in a multi-record file.
+     */
+    internal open val recordSeparator: String = ""
+}
+
+/**
+ * Passes the written bytes to the [out] stream, ignoring the calls to
+ * [flush] and [close].
+ *
+ * Jackson flushes the target stream each time a value is written. The shield keeps
+ * the bytes in the buffer of the target stream until the encoder is flushed explicitly.
+ */
+private class FlushShield(out: OutputStream) : FilterOutputStream(out) {
+
+    override fun write(b: ByteArray, off: Int, len: Int) = out.write(b, off, len)
+
+    override fun flush() = Unit
+
+    override fun close() = Unit
+}
 
 /**
  * Writes JSON files.
@@ -55,13 +105,21 @@ internal object JsonWriter : JacksonWriter() {
         JsonFactory()
     }
 
-    override fun write(file: File, value: Any) =
-        mapper.writeValue(file, value)
+    /**
+     * Writes each record in the compact form on a separate line,
+     * making [newline-delimited JSON](https://github.com/ndjson/ndjson-spec).
+     */
+    override val compactRecords: Boolean = true
+
+    override val recordSeparator: String = LINE_SEPARATOR
 }
 
 /**
  * Writes YAML files.
  *
+ * Records of a multi-record file are written as separate YAML documents,
+ * each starting with `---`.
+ *
  * @see io.spine.format.parse.YamlParser
  */
 internal object YamlWriter : JacksonWriter(), Writer<Any> {
@@ -69,7 +127,4 @@ internal object YamlWriter : JacksonWriter(), Writer<Any> {
     override val factory: JsonFactory by lazy {
         YAMLFactory()
     }
-
-    override fun write(file: File, value: Any) =
-        mapper.writeValue(file, value)
 }
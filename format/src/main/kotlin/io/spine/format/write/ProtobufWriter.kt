@@ -28,8 +28,11 @@ package io.spine.format.write
 
 import com.google.protobuf.Message
 import io.spine.format.Format.ProtoJson
+import io.spine.type.toCompactJson
 import io.spine.type.toJson
 import java.io.File
+import java.io.OutputStream
+import java.nio.charset.Charset.defaultCharset
 
 /**
  * The interface common to writers of Protobuf messages.
@@ -46,8 +49,22 @@ internal interface ProtobufWriter: Writer<Message>
  */
 internal object ProtoBinaryWriter : ProtobufWriter {
 
-    override fun write(file: File, value: Message) =
-        file.writeBytes(value.toByteArray())
+    override fun write(file: File, value: Message, compact: Boolean) =
+        file.outputStream().use {
+            value.writeTo(it)
+        }
+
+    /**
+     * Writes each message preceded by its length.
+     */
+    override fun newEncoder(output: OutputStream): Encoder<Message> =
+        object : Encoder<Message> {
+            override fun encode(value: Message) = value.writeDelimitedTo(output)
+
+            override fun flush() = Unit
+
+            override fun close() = Unit
+        }
 }
 
 /**
@@ -59,6 +76,29 @@ internal object ProtoBinaryWriter : ProtobufWriter {
  */
 internal object ProtoJsonWriter : ProtobufWriter {
 
-    override fun write(file: File, value: Message) =
-        file.writeText(value.toJson())
+    override fun write(file: File, value: Message, compact: Boolean) =
+        file.writeText(if (compact) value.toCompactJson() else value.toJson())
+
+    /**
+     * Writes each message in the compact form on a separate line.
+     */
+    override fun newEncoder(output: OutputStream): Encoder<Message> {
+        val writer = output.writer(defaultCharset())
+        return object : Encoder<Message> {
+            override fun encode(value: Message) {
+                writer.write(value.toCompactJson())
+                writer.write(LINE_SEPARATOR)
+            }
+
+            override fun flush() = writer.flush()
+
+            override fun close() = writer.flush()
+        }
+    }
 }
+
+/**
+ * The separator of records in newline-delimited JSON.
+ */
+internal const val LINE_SEPARATOR = "\n"
+
@@ -27,7 +27,10 @@
 package io.spine.format.write
 
 import io.spine.format.Format
+import java.io.Closeable
 import java.io.File
+import java.io.Flushable
+import java.io.OutputStream
 
 /**
  * The interface common for classes that write data to a file.
@@ -42,5 +45,33 @@ internal interface Writer<T : Any> {
      *
      * @see io.spine.format.ensureFormatExtension
      */
-    fun write(file: File, value: T)
+    fun write(file: File, value: T) = write(file, value, compact = false)
+
+    /**
+     * Writes the [value] into the file.
+     *
+     * @param compact If `true`, the JSON-based formats write the value without
+     *   line breaks and indentation. Other formats ignore this parameter.
+     * @see io.spine.format.ensureFormatExtension
+     */
+    fun write(file: File, value: T, compact: Boolean)
+
+    /**
+     * Creates an encoder which writes values one after another into the [output].
+     */
+    fun newEncoder(output: OutputStream): Encoder<T>
+}
+
+/**
+ * Writes values one after another into an output stream in
+ * the multi-record layout of a [Format].
+ *
+ * Closing the encoder writes the pending data, but does not close the stream.
+ */
+internal interface Encoder<in T : Any> : Flushable, Closeable {
+
+    /**
+     * Writes the [value] after the previously written ones.
+     */
+    fun encode(value: T)
 }
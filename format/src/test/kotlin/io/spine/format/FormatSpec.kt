@@ -28,10 +28,12 @@ package io.spine.format
 
 import io.kotest.matchers.collections.shouldContainInOrder
 import io.kotest.matchers.shouldBe
+import io.kotest.matchers.shouldNotBe
 import io.spine.format.Format.Json
 import io.spine.format.Format.ProtoBinary
 import io.spine.format.Format.ProtoJson
 import io.spine.format.Format.Yaml
+import io.spine.io.Glob
 import java.io.File
 import org.junit.jupiter.api.DisplayName
 import org.junit.jupiter.api.Test
@@ -110,6 +112,26 @@ class FormatSpec {
         "file.yaml" shouldProduceFormat Yaml
     }
 
+    @Test
+    fun `detect format by the last compound extension of the file name`() {
+        "data.v2.pb.json" shouldProduceFormat ProtoJson
+        "data.json.pb" shouldProduceFormat ProtoBinary
+        "dir.json/settings.yml" shouldProduceFormat Yaml
+    }
+
+    @Test
+    fun `detect format by an upper-case extension as the file system matches it`() {
+        val names = listOf("Config.JSON", "data.PB.JSON", "settings.Yaml", "MESSAGE.PB")
+        for (name in names) {
+            val file = File(name)
+            val matching = Format.entries.singleOrNull { it.matches(file) }
+            Format.find(file) shouldBe matching
+            if (Glob.ignoresCase) {
+                matching shouldNotBe null
+            }
+        }
+    }
+
     private infix fun String.shouldProduceFormat(expectedFormat: Format<*>) =
         Format.of(File(this)) shouldBe expectedFormat
 
@@ -26,7 +26,31 @@
 
 package io.spine.format
 
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.string.shouldContain
 import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
 
 @DisplayName("`Json` format should")
-internal class JsonSpec : JacksonBackedFormatTest(Format.Json)
+internal class JsonSpec : JacksonBackedFormatTest(Format.Json) {
+
+    @Test
+    fun `write a value in the compact form`() {
+        write(file, format, instance, compact = true)
+        file.readLines().size shouldBe 1
+        parse(file, UserAccount::class.java) shouldBe instance
+    }
+
+    @Test
+    fun `indent the output by default`() {
+        write(file, format, instance)
+        file.readText() shouldContain "\n  "
+    }
+
+    @Test
+    fun `detect the encoding of the parsed file`() {
+        val json = "{\"value\": \"Gr\u00fc\u00dfe\"}"
+        file.writeBytes(json.toByteArray(Charsets.UTF_16))
+        parse(file, EmailAddress::class.java) shouldBe EmailAddress("Gr\u00fc\u00dfe")
+    }
+}
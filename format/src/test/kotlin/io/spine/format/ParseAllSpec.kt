@@ -0,0 +1,103 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.format
+
+import com.google.protobuf.StringValue
+import io.kotest.matchers.collections.shouldContainExactly
+import io.kotest.matchers.nulls.shouldBeNull
+import io.kotest.matchers.nulls.shouldNotBeNull
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.types.shouldBeInstanceOf
+import io.spine.type.toCompactJson
+import java.io.File
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import org.junit.jupiter.api.io.TempDir
+
+@DisplayName("`parseAll()` should")
+internal class ParseAllSpec {
+
+    @TempDir
+    lateinit var dir: File
+
+    private val messages = (1..50).map {
+        StringValue.newBuilder().setValue("Message #$it").build()
+    }
+
+    @Test
+    fun `parse files of different formats in the order of the files`() {
+        val files = messages.mapIndexed { index, message ->
+            if (index % 2 == 0) {
+                File(dir, "$index.binpb").also { it.writeBytes(message.toByteArray()) }
+            } else {
+                File(dir, "$index.pb.json").also { it.writeText(message.toCompactJson()) }
+            }
+        }
+
+        val results = parseAll(files, StringValue::class.java, 4)
+
+        results.map { it.file } shouldContainExactly files
+        results.map { it.get() } shouldContainExactly messages
+    }
+
+    @Test
+    fun `report errors per file`() {
+        val good = File(dir, "good.json").also { it.writeText("""{"value": "a@b.com"}""") }
+        val broken = File(dir, "broken.json").also { it.writeText("""{"value": """) }
+        val unsupported = File(dir, "picture.gif").also { it.writeText("GIF") }
+
+        val results = parseAll<EmailAddress>(listOf(broken, good, unsupported))
+
+        results[0].isSuccess shouldBe false
+        results[0].error.shouldNotBeNull()
+        results[0].getOrNull().shouldBeNull()
+        results[1].get() shouldBe EmailAddress("a@b.com")
+        results[2].error.shouldBeInstanceOf<IllegalStateException>()
+
+        val exception = assertThrows<IllegalStateException> {
+            results[0].get()
+        }
+        exception.cause shouldBe results[0].error
+    }
+
+    @Test
+    fun `accept paths`() {
+        val file = File(dir, "message.binpb").also { it.writeBytes(messages[0].toByteArray()) }
+
+        val results = parseAll(listOf(file.toPath()), StringValue::class.java)
+
+        results.single().get() shouldBe messages[0]
+    }
+
+    @Test
+    fun `reject non-positive parallelism`() {
+        assertThrows<IllegalArgumentException> {
+            parseAll(listOf<File>(), StringValue::class.java, 0)
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.format
+
+import com.google.protobuf.StringValue
+import io.kotest.matchers.collections.shouldBeEmpty
+import io.kotest.matchers.collections.shouldContainExactly
+import io.spine.type.toCompactJson
+import java.io.File
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+
+@DisplayName("`parseEach()` should")
+internal class ParseEachSpec {
+
+    @TempDir
+    lateinit var dir: File
+
+    private val messages = (1..100).map {
+        StringValue.newBuilder().setValue("Message #$it").build()
+    }
+
+    private val emails = listOf(
+        EmailAddress("j.doe@example.org"),
+        EmailAddress("john@acme-corp.com")
+    )
+
+    @Test
+    fun `read length-delimited binary messages`() {
+        val file = File(dir, "messages.binpb")
+        file.outputStream().use { out ->
+            messages.forEach { it.writeDelimitedTo(out) }
+        }
+        parseEach<StringValue>(file).use {
+            it.toList() shouldContainExactly messages
+        }
+    }
+
+    @Test
+    fun `read newline-delimited ProtoJson messages`() {
+        val file = File(dir, "messages.pb.json")
+        file.writeText(messages.joinToString(separator = "\n\n") { it.toCompactJson() })
+        parseEach<StringValue>(file).use {
+            it.toList() shouldContainExactly messages
+        }
+    }
+
+    @Test
+    fun `read elements of a JSON array`() {
+        val file = File(dir, "emails.json")
+        file.writeText("""[{"value": "j.doe@example.org"}, {"value": "john@acme-corp.com"}]""")
+        parseEach<EmailAddress>(file).use {
+            it.toList() shouldContainExactly emails
+        }
+    }
+
+    @Test
+    fun `read newline-delimited JSON values`() {
+        val file = File(dir, "emails.json")
+        file.writeText(
+            """
+            {"value": "j.doe@example.org"}
+            {"value": "john@acme-corp.com"}
+            """.trimIndent()
+        )
+        parseEach<EmailAddress>(file).use {
+            it.toList() shouldContainExactly emails
+        }
+    }
+
+    @Test
+    fun `read YAML documents`() {
+        val file = File(dir, "emails.yml")
+        file.writeText(
+            """
+            value: j.doe@example.org
+            ---
+            value: john@acme-corp.com
+            """.trimIndent()
+        )
+        parseEach<EmailAddress>(file).use {
+            it.toList() shouldContainExactly emails
+        }
+    }
+
+    @Test
+    fun `return an empty stream for an empty file`() {
+        val file = File(dir, "empty.binpb")
+        file.writeBytes(ByteArray(0))
+        parseEach<StringValue>(file).use {
+            it.toList().shouldBeEmpty()
+        }
+    }
+
+    @Test
+    fun `parse values lazily`() {
+        val file = File(dir, "messages.binpb")
+        file.outputStream().use { out ->
+            messages.forEach { it.writeDelimitedTo(out) }
+            out.write(byteArrayOf(0x7F))
+        }
+        parseEach<StringValue>(file).use {
+            it.limit(2).toList() shouldContainExactly messages.take(2)
+        }
+    }
+}
@@ -26,8 +26,11 @@
 
 package io.spine.format
 
+import com.google.protobuf.ByteString
+import com.google.protobuf.BytesValue
 import com.google.protobuf.Timestamp
 import io.kotest.matchers.shouldBe
+import kotlin.random.Random
 import org.junit.jupiter.api.DisplayName
 import org.junit.jupiter.api.Test
 
@@ -55,4 +58,25 @@ internal class ProtoBinarySpec : ProtobufFormatTest(Format.ProtoBinary) {
         timestamp.seconds shouldBe 0L
         timestamp.nanos shouldBe 0
     }
+
+    @Test
+    fun `parse a large file mapping it into memory`() {
+        val large = bytesValue(2 * 1024 * 1024)
+        write(file, format, large)
+        parseMapped(file, BytesValue::class.java, aliasing = false) shouldBe large
+        parse<BytesValue>(file) shouldBe large
+    }
+
+    @Test
+    fun `parse a mapped file with aliasing of 'bytes' fields`() {
+        val value = bytesValue(4096)
+        write(file, format, value)
+        parseMapped(file, BytesValue::class.java) shouldBe value
+        parseMapped(file, BytesValue::class.java, aliasing = false) shouldBe value
+    }
+
+    private fun bytesValue(size: Int): BytesValue =
+        BytesValue.newBuilder()
+            .setValue(ByteString.copyFrom(Random(size).nextBytes(size)))
+            .build()
 }
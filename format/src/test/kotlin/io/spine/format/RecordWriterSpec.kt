@@ -0,0 +1,195 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.format
+
+import com.google.protobuf.StringValue
+import io.kotest.matchers.collections.shouldContainExactly
+import io.kotest.matchers.collections.shouldHaveSize
+import io.kotest.matchers.shouldBe
+import io.spine.format.Format.Json
+import io.spine.format.Format.ProtoBinary
+import io.spine.format.Format.ProtoJson
+import io.spine.format.Format.Yaml
+import io.spine.format.WriteOptions.Sync.ON_FLUSH
+import java.io.File
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import org.junit.jupiter.api.io.TempDir
+
+@DisplayName("`RecordWriter` should")
+internal class RecordWriterSpec {
+
+    @TempDir
+    lateinit var dir: File
+
+    private val messages = (1..100).map {
+        StringValue.newBuilder().setValue("Message #$it").build()
+    }
+
+    private val emails = (1..100).map { EmailAddress("user$it@example.org") }
+
+    @Nested
+    inner class `write records readable by 'parseEach()' in` {
+
+        @Test
+        fun `'ProtoBinary' format`() = assertRoundTrip(ProtoBinary, "binpb", messages)
+
+        @Test
+        fun `'ProtoJson' format`() = assertRoundTrip(ProtoJson, "pb.json", messages)
+
+        @Test
+        fun `'Json' format`() = assertRoundTrip(Json, "json", emails)
+
+        @Test
+        fun `'Yaml' format`() = assertRoundTrip(Yaml, "yml", emails)
+
+        private inline fun <reified T : Any> assertRoundTrip(
+            format: Format<in T>,
+            extension: String,
+            values: List<T>
+        ) {
+            val file = File(dir, "records.$extension")
+            val options = WriteOptions(bufferSize = 128)
+            writeEach(file, format, values, options)
+            parseEach<T>(file).use {
+                it.toList() shouldContainExactly values
+            }
+        }
+    }
+
+    @Test
+    fun `write newline-delimited JSON`() {
+        val file = File(dir, "emails.json")
+        writeEach(file, Json, emails)
+        file.readLines() shouldHaveSize emails.size
+    }
+
+    @Test
+    fun `append records to an existing file`() {
+        val file = File(dir, "messages.binpb")
+        val options = WriteOptions(append = true)
+        writeEach(file, ProtoBinary, messages.take(10), options)
+        writeEach(file, ProtoBinary, messages.drop(10), options)
+        parseEach<StringValue>(file).use {
+            it.toList() shouldContainExactly messages
+        }
+    }
+
+    @Test
+    fun `overwrite an existing file by default`() {
+        val file = File(dir, "messages.binpb")
+        writeEach(file, ProtoBinary, messages)
+        writeEach(file, ProtoBinary, messages.take(1))
+        parseEach<StringValue>(file).use {
+            it.toList() shouldContainExactly messages.take(1)
+        }
+    }
+
+    @Test
+    fun `pass the records to the file when flushed`() {
+        val file = File(dir, "messages.pb.json")
+        openWriter(file, ProtoJson, WriteOptions(sync = ON_FLUSH)).use { writer ->
+            writer.write(messages[0])
+            writer.flush()
+            file.readLines() shouldHaveSize 1
+        }
+    }
+
+    @Test
+    fun `keep the written records when a non-atomic writer is aborted`() {
+        val file = File(dir, "messages.binpb")
+        val writer = openWriter(file, ProtoBinary)
+        messages.take(10).forEach(writer::write)
+        writer.abort()
+        parseEach<StringValue>(file).use {
+            it.toList() shouldContainExactly messages.take(10)
+        }
+    }
+
+    @Nested
+    inner class `when atomic` {
+
+        private val options = WriteOptions(atomic = true)
+
+        @Test
+        fun `replace the target file on close`() {
+            val file = File(dir, "messages.binpb")
+            writeEach(file, ProtoBinary, messages.take(1))
+            openWriter(file, ProtoBinary, options).use { writer ->
+                messages.forEach(writer::write)
+                writer.flush()
+                parseEach<StringValue>(file).use {
+                    it.toList() shouldContainExactly messages.take(1)
+                }
+            }
+            parseEach<StringValue>(file).use {
+                it.toList() shouldContainExactly messages
+            }
+            dir.list()!!.toList() shouldContainExactly listOf(file.name)
+        }
+
+        @Test
+        fun `keep the target file intact when aborted`() {
+            val file = File(dir, "messages.binpb")
+            writeEach(file, ProtoBinary, messages.take(1))
+            assertThrows<IllegalStateException> {
+                writeEach(file, ProtoBinary, failingAfter(10), options)
+            }
+            parseEach<StringValue>(file).use {
+                it.toList() shouldContainExactly messages.take(1)
+            }
+            dir.list()!!.toList() shouldContainExactly listOf(file.name)
+        }
+
+        private fun failingAfter(count: Int): Iterable<StringValue> = Iterable {
+            iterator {
+                yieldAll(messages.take(count))
+                error("Failed to obtain a record.")
+            }
+        }
+    }
+
+    @Test
+    fun `reject writing after close`() {
+        val file = File(dir, "messages.binpb")
+        val writer = openWriter(file, ProtoBinary)
+        writer.close()
+        assertThrows<IllegalStateException> {
+            writer.write(messages[0])
+        }
+        file.exists() shouldBe true
+    }
+
+    @Test
+    fun `reject combining appending with atomic writing`() {
+        assertThrows<IllegalArgumentException> {
+            WriteOptions(append = true, atomic = true)
+        }
+    }
+}